@@ -3,9 +3,12 @@ package org.gitlab4j.api;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.List;
 
 import javax.ws.rs.NotAuthorizedException;
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Form;
+import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
@@ -225,10 +228,113 @@ public abstract class AbstractApi implements Constants {
         return (gitLabApi.getDefaultPerPage());
     }
 
+    protected PerPageTuner getPerPageTuner() {
+        return (gitLabApi.getPerPageTuner());
+    }
+
+    protected MetricsRecorder getMetricsRecorder() {
+        return (gitLabApi.getMetricsRecorder());
+    }
+
+    protected ContentCache getContentCache() {
+        return (gitLabApi.getContentCache());
+    }
+
+    /**
+     * Get the key of a resource of a project identified by a SHA in the provided ContentCache. The key includes
+     * the user impersonated with sudo, if any, so that resources are not shared between impersonated users.
+     *
+     * @param cache the ContentCache, may be null
+     * @param kind the kind of resource, for example "commit" or "blob"
+     * @param projectIdOrPath the project in the form of an Long(ID), String(path), or Project instance
+     * @param sha the SHA, or branch or tag name, identifying the resource
+     * @return the key of the resource, or null if the cache is null or the resource is not identified by a full SHA
+     * @throws GitLabApiException if any exception occurs during execution
+     */
+    protected String getContentKey(ContentCache cache, String kind, Object projectIdOrPath, String sha)
+            throws GitLabApiException {
+
+        if (cache == null || !ContentCache.isSha(sha)) {
+            return (null);
+        }
+
+        return (ContentCache.getKey(
+                gitLabApi.getGitLabServerUrl(),
+                getProjectIdOrPath(projectIdOrPath),
+                kind,
+                sha,
+                gitLabApi.getSudoAsId()));
+    }
+
     protected GitLabApiClient getApiClient() {
         return (gitLabApi.getApiClient());
     }
 
+    /**
+     * Get the number of items of a list endpoint without fetching the items. Requests a single item and reads
+     * the "X-Total" header of the response. Since GitLab 11.8, and behind the api_kaminari_count_with_limit
+     * feature flag, the "X-Total" header is not returned when there are more than 10,000 items, in that case
+     * -1 is returned unless the response shows there is at most one item.
+     *
+     * @param queryParams the query params of the list request, may be null
+     * @param pathArgs HTTP path arguments of the list endpoint
+     * @return the number of items, or -1 if the number of items was not returned by the GitLab server
+     * @throws GitLabApiException if any exception occurs
+     */
+    protected int getCount(MultivaluedMap<String, String> queryParams, Object... pathArgs) throws GitLabApiException {
+
+        MultivaluedMap<String, String> countQueryParams = new GitLabApiForm().asMap();
+        if (queryParams != null) {
+            queryParams.forEach(countQueryParams::put);
+        }
+
+        countQueryParams.remove(PAGINATION_PARAM);
+        countQueryParams.putSingle(PER_PAGE_PARAM, "1");
+        countQueryParams.putSingle(PAGE_PARAM, "1");
+        Response response = get(Response.Status.OK, countQueryParams, pathArgs);
+
+        try {
+
+            String total = response.getHeaderString(TOTAL_HEADER);
+            if (total != null && !total.trim().isEmpty()) {
+                return (Integer.parseInt(total.trim()));
+            }
+
+            // Without a next page the single page holds all the items
+            String nextPage = response.getHeaderString(NEXT_PAGE_HEADER);
+            if (nextPage == null || nextPage.trim().isEmpty()) {
+                return (response.readEntity(new GenericType<List<Object>>() {}).size());
+            }
+
+            return (-1);
+
+        } catch (NumberFormatException nfe) {
+            throw new GitLabApiException("Invalid '" + TOTAL_HEADER + "' header value from server");
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Get the query params for a keyset paginated request. Adds the "pagination=keyset" param and, if
+     * not already present, the "order_by" param required by the endpoint for keyset pagination.
+     *
+     * @param formData the Form holding the query params, may be null
+     * @param orderBy the "order_by" value to use if none is present, may be null
+     * @return a MultivaluedMap of the query params with keyset pagination enabled
+     */
+    protected MultivaluedMap<String, String> getKeysetQueryParams(Form formData, String orderBy) {
+
+        MultivaluedMap<String, String> queryParams =
+                (formData != null ? formData.asMap() : new GitLabApiForm().asMap());
+        queryParams.putSingle(PAGINATION_PARAM, KEYSET_PAGINATION);
+        if (orderBy != null && !queryParams.containsKey("order_by")) {
+            queryParams.putSingle("order_by", orderBy);
+        }
+
+        return (queryParams);
+    }
+
     /**
      * Encode a string to be used as in-path argument for a gitlab api request.
      *
@@ -782,6 +888,17 @@ public abstract class AbstractApi implements Constants {
             return ((GitLabApiException) thrown);
         }
 
+        // GitLabApiClient reports its own errors, such as an open circuit, wrapped in a ProcessingException
+        if (thrown instanceof ProcessingException && thrown.getCause() instanceof GitLabApiException) {
+            return ((GitLabApiException) thrown.getCause());
+        }
+
+        // A request, or the reading of its response, that failed because the deadline of its RequestContext passed
+        GitLabApiTimeoutException timeout = GitLabApiTimeoutException.findCause(thrown);
+        if (timeout != null) {
+            return (timeout);
+        }
+
         return (new GitLabApiException(thrown));
     }
 
@@ -0,0 +1,241 @@
+package org.gitlab4j.api;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Makes calls to the GitLab API asynchronously, each call returns a CompletableFuture that is completed with
+ * the result of the call, or completed exceptionally with a {@link GitLabApiException} if the call failed.</p>
+ *
+ * <p>This is a thread pool wrapper, not non-blocking I/O. The calls are made with the blocking methods of the API
+ * classes of the GitLabApi instance on an Executor, and each call holds a thread of the Executor until its response
+ * has been read. The number of calls in flight is therefore limited by the number of threads of the Executor,
+ * the calls submitted beyond it wait in the queue of the Executor.</p>
+ *
+ * <p>The AsyncGitLabApi returned by {@link GitLabApi#async()} runs the calls on a pool of
+ * {@link #DEFAULT_THREADS} daemon threads with an unbounded queue, which is shut down when the GitLabApi instance
+ * is closed. Use {@link GitLabApi#async(int)} to size the pool for the number of calls to have in flight at the
+ * same time, or {@link GitLabApi#async(Executor)} to run the calls on another Executor. On Java 21 and later the
+ * calls can be made on virtual threads, which do not hold a platform thread while blocked on the network, see
+ * {@link #newVirtualThreadPerTaskExecutor()}.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   List&lt;CompletableFuture&lt;MergeRequest&gt;&gt; futures = iids.stream()
+ *       .map(iid -&gt; gitLabApi.async().supply(api -&gt; api.getMergeRequestApi().getMergeRequest(projectId, iid)))
+ *       .collect(Collectors.toList());
+ *   CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+ * </pre>
+ */
+public class AsyncGitLabApi implements AutoCloseable {
+
+    /** The number of threads of the pool used by {@link GitLabApi#async()}. */
+    public static final int DEFAULT_THREADS = 16;
+
+    /**
+     * A call to the GitLab API made with a GitLabApi instance.
+     *
+     * @param <T> the type of the result of the call
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+
+        /**
+         * Makes the call with the provided GitLabApi instance.
+         *
+         * @param gitLabApi the GitLabApi instance to make the call with
+         * @return the result of the call
+         * @throws GitLabApiException if any exception occurs during execution
+         */
+        T call(GitLabApi gitLabApi) throws GitLabApiException;
+    }
+
+    private final GitLabApi gitLabApi;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Creates an AsyncGitLabApi that makes the calls on the provided Executor.
+     *
+     * @param gitLabApi the GitLabApi instance to make the calls with
+     * @param executor the Executor to make the calls on
+     */
+    public AsyncGitLabApi(GitLabApi gitLabApi, Executor executor) {
+
+        if (gitLabApi == null || executor == null) {
+            throw new IllegalArgumentException("gitLabApi and executor must not be null");
+        }
+
+        this.gitLabApi = gitLabApi;
+        this.executor = executor;
+        this.ownedExecutor = null;
+    }
+
+    /**
+     * Creates an AsyncGitLabApi that makes the calls on its own pool of daemon threads, with an unbounded
+     * queue, shut down by {@link #close()}. At most threads calls are in flight at the same time.
+     *
+     * @param gitLabApi the GitLabApi instance to make the calls with
+     * @param threads the number of threads of the pool
+     */
+    public AsyncGitLabApi(GitLabApi gitLabApi, int threads) {
+
+        if (gitLabApi == null) {
+            throw new IllegalArgumentException("gitLabApi must not be null");
+        }
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be greater than 0");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "gitlab4j-async-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return (thread);
+        };
+
+        this.gitLabApi = gitLabApi;
+        this.ownedExecutor = Executors.newFixedThreadPool(threads, threadFactory);
+        this.executor = ownedExecutor;
+    }
+
+    /**
+     * Returns true if the running JVM supports virtual threads (Java 21 and later).
+     *
+     * @return true if the running JVM supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return (getVirtualThreadPerTaskExecutorMethod() != null);
+    }
+
+    /**
+     * Creates an ExecutorService that starts a new virtual thread for each call, to have many calls outstanding
+     * at the same time without a platform thread for each. This library is built for Java 8, the ExecutorService
+     * is created with reflection and is only available on Java 21 and later.
+     *
+     * <p>Example usage:</p>
+     *
+     * <pre>
+     *   ExecutorService executor = AsyncGitLabApi.newVirtualThreadPerTaskExecutor();
+     *   AsyncGitLabApi async = gitLabApi.async(executor);
+     * </pre>
+     *
+     * @return an ExecutorService that starts a new virtual thread for each task
+     * @throws UnsupportedOperationException if the running JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+
+        Method method = getVirtualThreadPerTaskExecutorMethod();
+        if (method == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+
+        try {
+            return ((ExecutorService) method.invoke(null));
+        } catch (ReflectiveOperationException roe) {
+            throw new UnsupportedOperationException("Could not create a virtual thread executor", roe);
+        }
+    }
+
+    private static Method getVirtualThreadPerTaskExecutorMethod() {
+        try {
+            return (Executors.class.getMethod("newVirtualThreadPerTaskExecutor"));
+        } catch (NoSuchMethodException nsme) {
+            return (null);
+        }
+    }
+
+    /**
+     * Get the GitLabApi instance the calls are made with.
+     *
+     * @return the GitLabApi instance the calls are made with
+     */
+    public GitLabApi getGitLabApi() {
+        return (gitLabApi);
+    }
+
+    /**
+     * Get the Executor the calls are made on.
+     *
+     * @return the Executor the calls are made on
+     */
+    public Executor getExecutor() {
+        return (executor);
+    }
+
+    /**
+     * Makes a call to the GitLab API asynchronously, the call holds a thread of the Executor until it completes.
+     * Exceptions thrown by the call other than GitLabApiException,
+     * including a rejected execution, complete the returned CompletableFuture with a GitLabApiException
+     * holding the exception.
+     *
+     * @param <T> the type of the result of the call
+     * @param call the call to make
+     * @return a CompletableFuture completed with the result of the call
+     */
+    public <T> CompletableFuture<T> supply(Call<T> call) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+
+            executor.execute(() -> {
+
+                // Do not make the call if the future was cancelled while queued
+                if (future.isDone()) {
+                    return;
+                }
+
+                try {
+                    future.complete(call.call(gitLabApi));
+                } catch (GitLabApiException glae) {
+                    future.completeExceptionally(glae);
+                } catch (Exception e) {
+                    future.completeExceptionally(toGitLabApiException(e));
+                } catch (Error err) {
+                    future.completeExceptionally(err);
+                    throw err;
+                }
+            });
+
+        } catch (RejectedExecutionException ree) {
+            future.completeExceptionally(new GitLabApiException(ree));
+        }
+
+        return (future);
+    }
+
+    /**
+     * Get the GitLabApiException of an exception thrown by a call. The unchecked exceptions thrown while
+     * iterating a Pager or a Stream hold the GitLabApiException as their cause.
+     *
+     * @param e the exception thrown by the call
+     * @return the GitLabApiException of the exception
+     */
+    private static GitLabApiException toGitLabApiException(Exception e) {
+
+        if (e.getCause() instanceof GitLabApiException) {
+            return ((GitLabApiException) e.getCause());
+        }
+
+        return (new GitLabApiException(e));
+    }
+
+    /**
+     * Shuts down the pool of threads of this AsyncGitLabApi if it owns one, the calls already submitted
+     * are still made. An Executor provided by the application is not shut down.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -62,6 +62,31 @@ public class AuditEventApi extends AbstractApi {
         return (new Pager<AuditEvent>(this, AuditEvent.class, itemsPerPage, form.asMap(), "audit_events"));
     }
 
+    /**
+     * Get a keyset paginated Pager of the instance audit events.
+     *
+     * <pre><code>GET /audit_events?pagination=keyset</code></pre>
+     *
+     * @param created_after Return audit events created on or after the given time.
+     * @param created_before Return audit events created on or before the given time.
+     * @param entityType Return audit events for the given entity type. Valid values are: User, Group, or Project.
+     * @param entityId Return audit events for the given entity ID. Requires entityType attribute to be present.
+     * @param itemsPerPage the number of Audit Event instances that will be fetched per page
+     * @return a keyset paginated Pager of Audit events
+     * @throws GitLabApiException if any exception occurs
+     */
+    public Pager<AuditEvent> getAuditEventsKeysetPager(
+            Date created_after, Date created_before, String entityType, Long entityId, int itemsPerPage)
+            throws GitLabApiException {
+        Form form = new GitLabApiForm()
+                .withParam("created_before", ISO8601.toString(created_before, false))
+                .withParam("created_after", ISO8601.toString(created_after, false))
+                .withParam("entity_type", entityType)
+                .withParam("entity_id", entityId);
+        return (new Pager<AuditEvent>(
+                this, AuditEvent.class, itemsPerPage, getKeysetQueryParams(form, null), "audit_events"));
+    }
+
     /**
      * Get a Stream of the group audit events viewable by Maintainer or an Owner of the group.
      *
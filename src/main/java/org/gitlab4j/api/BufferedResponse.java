@@ -0,0 +1,287 @@
+package org.gitlab4j.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.Link;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.core.Response;
+
+import org.gitlab4j.api.utils.JacksonJson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A Response whose status, headers and entity have been read into memory, so that it can be held after the
+ * connection has been released and be read any number of times, possibly by several threads. The entity is
+ * decoded from JSON once for each requested type, the decoded instance is then shared by every reader.
+ */
+class BufferedResponse extends Response {
+
+    private static final ObjectMapper mapper = new JacksonJson().getObjectMapper();
+
+    private final int status;
+    private final MultivaluedMap<String, String> headers;
+    private final byte[] entity;
+    private final MediaType mediaType;
+    private final Map<Type, Object> decodedEntities = new ConcurrentHashMap<>();
+
+    private BufferedResponse(int status, MultivaluedMap<String, String> headers, byte[] entity, MediaType mediaType) {
+        this.status = status;
+        this.headers = headers;
+        this.entity = entity;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Reads the status, headers and entity of the provided response into a BufferedResponse, then closes
+     * the provided response.
+     *
+     * @param response the response to read
+     * @return a BufferedResponse holding the status, headers and entity of the provided response
+     * @throws ProcessingException if the entity cannot be read
+     */
+    static BufferedResponse of(Response response) {
+
+        try {
+
+            MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+            MultivaluedMap<String, String> stringHeaders = response.getStringHeaders();
+            if (stringHeaders != null) {
+                for (Map.Entry<String, List<String>> header : stringHeaders.entrySet()) {
+                    headers.put(header.getKey(), header.getValue());
+                }
+            }
+
+            byte[] entity = (response.hasEntity() ? readAll((InputStream) response.getEntity()) : new byte[0]);
+            return (new BufferedResponse(response.getStatus(), headers, entity, response.getMediaType()));
+
+        } catch (IOException ioe) {
+            throw new ProcessingException(ioe);
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Get a BufferedResponse holding the same status, headers and entity as this one, that decodes the entity
+     * into its own instances.
+     *
+     * @return a BufferedResponse holding the same status, headers and entity as this one
+     */
+    BufferedResponse duplicate() {
+        return (new BufferedResponse(status, headers, entity, mediaType));
+    }
+
+    /**
+     * Get the size of the entity in bytes.
+     *
+     * @return the size of the entity in bytes
+     */
+    int getEntitySize() {
+        return (entity.length);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+
+        if (in == null) {
+            return (new byte[0]);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+
+        return (out.toByteArray());
+    }
+
+    @Override
+    public int getStatus() {
+        return (status);
+    }
+
+    @Override
+    public StatusType getStatusInfo() {
+        Status statusInfo = Status.fromStatusCode(status);
+        return (statusInfo != null ? statusInfo : Status.OK);
+    }
+
+    /**
+     * Returns a new InputStream over the entity on each call.
+     */
+    @Override
+    public Object getEntity() {
+        return (new ByteArrayInputStream(entity));
+    }
+
+    @Override
+    public <T> T readEntity(Class<T> entityType) {
+        return (readEntity(entityType, mapper.getTypeFactory().constructType(entityType)));
+    }
+
+    @Override
+    public <T> T readEntity(GenericType<T> entityType) {
+        return (readEntity(entityType.getRawType(), mapper.getTypeFactory().constructType(entityType.getType())));
+    }
+
+    @Override
+    public <T> T readEntity(Class<T> entityType, Annotation[] annotations) {
+        return (readEntity(entityType));
+    }
+
+    @Override
+    public <T> T readEntity(GenericType<T> entityType, Annotation[] annotations) {
+        return (readEntity(entityType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readEntity(Class<?> rawType, JavaType javaType) {
+
+        if (rawType == InputStream.class) {
+            return ((T) getEntity());
+        } else if (rawType == byte[].class) {
+            return ((T) entity.clone());
+        } else if (rawType == String.class) {
+            return ((T) new String(entity, StandardCharsets.UTF_8));
+        }
+
+        return ((T) decodedEntities.computeIfAbsent(javaType, type -> {
+            try {
+                return (mapper.readValue(entity, javaType));
+            } catch (IOException ioe) {
+                throw new ProcessingException(ioe);
+            }
+        }));
+    }
+
+    @Override
+    public boolean hasEntity() {
+        return (entity.length > 0);
+    }
+
+    @Override
+    public boolean bufferEntity() {
+        return (true);
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public MediaType getMediaType() {
+        return (mediaType);
+    }
+
+    @Override
+    public Locale getLanguage() {
+        return (null);
+    }
+
+    @Override
+    public int getLength() {
+        return (entity.length);
+    }
+
+    @Override
+    public Set<String> getAllowedMethods() {
+        return (Collections.emptySet());
+    }
+
+    @Override
+    public Map<String, NewCookie> getCookies() {
+        return (Collections.emptyMap());
+    }
+
+    @Override
+    public EntityTag getEntityTag() {
+        String eTag = getHeaderString(Constants.ETAG_HEADER);
+        return (eTag != null ? EntityTag.valueOf(eTag) : null);
+    }
+
+    @Override
+    public Date getDate() {
+        return (null);
+    }
+
+    @Override
+    public Date getLastModified() {
+        return (null);
+    }
+
+    @Override
+    public URI getLocation() {
+        String location = getHeaderString("Location");
+        return (location != null ? URI.create(location) : null);
+    }
+
+    @Override
+    public Set<Link> getLinks() {
+        return (Collections.emptySet());
+    }
+
+    @Override
+    public boolean hasLink(String relation) {
+        return (false);
+    }
+
+    @Override
+    public Link getLink(String relation) {
+        return (null);
+    }
+
+    @Override
+    public Link.Builder getLinkBuilder(String relation) {
+        return (null);
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getMetadata() {
+        MultivaluedMap<String, Object> metadata = new MultivaluedHashMap<>();
+        headers.forEach((name, values) -> metadata.put(name, new ArrayList<>(values)));
+        return (metadata);
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getStringHeaders() {
+        return (headers);
+    }
+
+    /**
+     * Header names are matched ignoring case, as with the responses of the JAX-RS client.
+     */
+    @Override
+    public String getHeaderString(String name) {
+
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return (header.getValue() == null ? null : String.join(",", header.getValue()));
+            }
+        }
+
+        return (null);
+    }
+}
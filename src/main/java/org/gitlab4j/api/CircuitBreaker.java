@@ -0,0 +1,370 @@
+package org.gitlab4j.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Stops sending requests to a GitLab host that is failing, so that the calling threads fail fast with a
+ * {@link CircuitBreakerOpenException} instead of each blocking until the read timeout. A circuit is kept for
+ * each host and has three states:</p>
+ *
+ * <ul>
+ *   <li>CLOSED - requests are sent, the outcome of the last requests is recorded in a sliding window. The circuit
+ *   opens when, over the window, the rate of failed requests (5xx responses and connection errors) or the latency
+ *   percentile exceeds its threshold.</li>
+ *   <li>OPEN - requests fail immediately, until the open duration has passed.</li>
+ *   <li>HALF_OPEN - a limited number of trial requests are sent, the circuit closes if they all succeed and opens
+ *   again as soon as one fails.</li>
+ * </ul>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   CircuitBreaker circuitBreaker = new CircuitBreaker()
+ *       .withFailureRateThreshold(0.5)
+ *       .withLatencyThreshold(0.9, 5000)
+ *       .withOpenDuration(30000);
+ *   circuitBreaker.addListener((host, from, to) -&gt; LOG.warning(host + " circuit is now " + to));
+ *   gitLabApi.setCircuitBreaker(circuitBreaker);
+ * </pre>
+ */
+public class CircuitBreaker {
+
+    /** The states of a circuit. */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN;
+    }
+
+    private int windowSize = 50;
+    private int minimumCalls = 20;
+    private double failureRateThreshold = 0.5;
+    private double latencyPercentile = 0.9;
+    private long latencyThresholdNanos;
+    private long openDurationMillis = 30000;
+    private int halfOpenCalls = 3;
+
+    private final LongSupplier clock;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a CircuitBreaker that opens when half of the last 50 requests (and at least 20) failed.
+     */
+    public CircuitBreaker() {
+        this(System::currentTimeMillis);
+    }
+
+    CircuitBreaker(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Set the number of requests in the sliding window and the minimum number of recorded requests
+     * before the circuit can open.
+     *
+     * @param windowSize the number of requests in the sliding window
+     * @param minimumCalls the minimum number of recorded requests before the circuit can open
+     * @return this CircuitBreaker instance
+     */
+    public CircuitBreaker withWindowSize(int windowSize, int minimumCalls) {
+
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be from 1 to windowSize");
+        }
+
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        return (this);
+    }
+
+    /**
+     * Set the rate of failed requests over the sliding window that opens the circuit.
+     *
+     * @param failureRateThreshold the rate of failed requests that opens the circuit, from 0 (exclusive) to 1
+     * @return this CircuitBreaker instance
+     */
+    public CircuitBreaker withFailureRateThreshold(double failureRateThreshold) {
+
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be greater than 0 and at most 1");
+        }
+
+        this.failureRateThreshold = failureRateThreshold;
+        return (this);
+    }
+
+    /**
+     * Set the latency percentile over the sliding window that opens the circuit, for example with a percentile
+     * of 0.9 and a threshold of 5000 the circuit opens when more than 10% of the requests took longer than
+     * 5 seconds. By default the latency is not used to open the circuit.
+     *
+     * @param percentile the latency percentile, from 0 (exclusive) to 1
+     * @param thresholdMillis the latency of the percentile that opens the circuit, 0 to disable
+     * @return this CircuitBreaker instance
+     */
+    public CircuitBreaker withLatencyThreshold(double percentile, long thresholdMillis) {
+
+        if (percentile <= 0 || percentile > 1 || thresholdMillis < 0) {
+            throw new IllegalArgumentException("percentile must be greater than 0 and at most 1");
+        }
+
+        this.latencyPercentile = percentile;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        return (this);
+    }
+
+    /**
+     * Set how long a circuit stays open before trial requests are allowed.
+     *
+     * @param openDurationMillis how long a circuit stays open in milliseconds
+     * @return this CircuitBreaker instance
+     */
+    public CircuitBreaker withOpenDuration(long openDurationMillis) {
+
+        if (openDurationMillis < 0) {
+            throw new IllegalArgumentException("openDurationMillis must not be negative");
+        }
+
+        this.openDurationMillis = openDurationMillis;
+        return (this);
+    }
+
+    /**
+     * Set the number of successful trial requests needed to close a half open circuit.
+     *
+     * @param halfOpenCalls the number of successful trial requests needed to close a half open circuit
+     * @return this CircuitBreaker instance
+     */
+    public CircuitBreaker withHalfOpenCalls(int halfOpenCalls) {
+
+        if (halfOpenCalls < 1) {
+            throw new IllegalArgumentException("halfOpenCalls must be greater than 0");
+        }
+
+        this.halfOpenCalls = halfOpenCalls;
+        return (this);
+    }
+
+    /**
+     * Adds a listener that is notified when the circuit of a host changes state.
+     *
+     * @param listener the CircuitBreakerListener to add
+     */
+    public void addListener(CircuitBreakerListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(CircuitBreakerListener)}.
+     *
+     * @param listener the CircuitBreakerListener to remove
+     */
+    public void removeListener(CircuitBreakerListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Get the state of the circuit of the provided host.
+     *
+     * @param host the host (and port) of the GitLab server
+     * @return the state of the circuit of the provided host
+     */
+    public State getState(String host) {
+        Circuit circuit = circuits.get(host);
+        return (circuit != null ? circuit.getState() : State.CLOSED);
+    }
+
+    /**
+     * Checks that a request can be sent to the provided host. In the half open state this takes one of the
+     * trial requests, the outcome of the request must then be reported with {@link #onSuccess(String, long)},
+     * {@link #onFailure(String, long)} or {@link #onIgnored(String)}.
+     *
+     * @param host the host (and port) of the GitLab server
+     * @throws CircuitBreakerOpenException if the circuit of the host is open
+     */
+    public void acquire(String host) throws CircuitBreakerOpenException {
+        circuit(host).acquire();
+    }
+
+    /**
+     * Records a successful request to the provided host.
+     *
+     * @param host the host (and port) of the GitLab server
+     * @param nanos the latency of the request in nanoseconds
+     */
+    public void onSuccess(String host, long nanos) {
+        circuit(host).record(false, nanos);
+    }
+
+    /**
+     * Records a failed request to the provided host.
+     *
+     * @param host the host (and port) of the GitLab server
+     * @param nanos the latency of the request in nanoseconds
+     */
+    public void onFailure(String host, long nanos) {
+        circuit(host).record(true, nanos);
+    }
+
+    /**
+     * Releases the trial request taken by {@link #acquire(String)} for a request whose outcome says nothing
+     * about the health of the host, for example a request that was interrupted before being sent.
+     *
+     * @param host the host (and port) of the GitLab server
+     */
+    public void onIgnored(String host) {
+        circuit(host).release();
+    }
+
+    private Circuit circuit(String host) {
+        return (circuits.computeIfAbsent(host, Circuit::new));
+    }
+
+    private void fireStateChange(String host, State fromState, State toState) {
+        for (CircuitBreakerListener listener : listeners) {
+            listener.onStateChange(host, fromState, toState);
+        }
+    }
+
+    /**
+     * The circuit of a host, holding the sliding window of the outcomes of the last requests.
+     */
+    private class Circuit {
+
+        private final String host;
+        private State state = State.CLOSED;
+        private long openedAtMillis;
+        private int trialPermits;
+        private int trialSuccesses;
+
+        private boolean[] failures;
+        private long[] latencies;
+        private int count;
+        private int next;
+
+        private Circuit(String host) {
+            this.host = host;
+            resetWindow();
+        }
+
+        private synchronized State getState() {
+            return (state);
+        }
+
+        private void acquire() throws CircuitBreakerOpenException {
+
+            State fromState;
+            synchronized (this) {
+
+                fromState = state;
+                if (state == State.OPEN) {
+
+                    long retryIn = openedAtMillis + openDurationMillis - clock.getAsLong();
+                    if (retryIn > 0) {
+                        throw new CircuitBreakerOpenException(host, retryIn);
+                    }
+
+                    state = State.HALF_OPEN;
+                    trialPermits = halfOpenCalls;
+                    trialSuccesses = 0;
+                }
+
+                if (state == State.HALF_OPEN) {
+                    if (trialPermits <= 0) {
+                        throw new CircuitBreakerOpenException(host, 0);
+                    }
+
+                    trialPermits--;
+                }
+            }
+
+            if (fromState != state) {
+                fireStateChange(host, fromState, state);
+            }
+        }
+
+        private synchronized void release() {
+            if (state == State.HALF_OPEN) {
+                trialPermits++;
+            }
+        }
+
+        private void record(boolean failed, long nanos) {
+
+            State fromState;
+            synchronized (this) {
+
+                fromState = state;
+                boolean slow = (latencyThresholdNanos > 0 && nanos > latencyThresholdNanos);
+                if (state == State.HALF_OPEN) {
+
+                    if (failed || slow) {
+                        open();
+                    } else if (++trialSuccesses >= halfOpenCalls) {
+                        state = State.CLOSED;
+                        resetWindow();
+                    }
+
+                } else if (state == State.CLOSED) {
+
+                    failures[next] = failed;
+                    latencies[next] = nanos;
+                    next = (next + 1) % failures.length;
+                    count = Math.min(count + 1, failures.length);
+
+                    if (count >= minimumCalls && (getFailureRate() >= failureRateThreshold || isTooSlow())) {
+                        open();
+                    }
+                }
+            }
+
+            if (fromState != state) {
+                fireStateChange(host, fromState, state);
+            }
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAtMillis = clock.getAsLong();
+            resetWindow();
+        }
+
+        private void resetWindow() {
+            failures = new boolean[windowSize];
+            latencies = new long[windowSize];
+            count = 0;
+            next = 0;
+        }
+
+        private double getFailureRate() {
+
+            int failed = 0;
+            for (int i = 0; i < count; i++) {
+                if (failures[i]) {
+                    failed++;
+                }
+            }
+
+            return ((double) failed / count);
+        }
+
+        private boolean isTooSlow() {
+
+            if (latencyThresholdNanos <= 0) {
+                return (false);
+            }
+
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(latencyPercentile * count) - 1;
+            return (sorted[Math.max(0, index)] > latencyThresholdNanos);
+        }
+    }
+}
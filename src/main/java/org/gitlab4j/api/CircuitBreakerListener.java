@@ -0,0 +1,17 @@
+package org.gitlab4j.api;
+
+/**
+ * This interface defines an event listener for the event fired when the circuit of a GitLab host
+ * changes state in a {@link CircuitBreaker}.
+ */
+public interface CircuitBreakerListener extends java.util.EventListener {
+
+    /**
+     * This method is called when the circuit of a GitLab host has changed state.
+     *
+     * @param host the host (and port) of the GitLab server
+     * @param fromState the previous state of the circuit
+     * @param toState the new state of the circuit
+     */
+    void onStateChange(String host, CircuitBreaker.State fromState, CircuitBreaker.State toState);
+}
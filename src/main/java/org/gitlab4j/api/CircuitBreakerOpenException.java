@@ -0,0 +1,42 @@
+package org.gitlab4j.api;
+
+/**
+ * This is the exception that will be thrown when a request is not made because the circuit of the GitLab host
+ * is open, see {@link CircuitBreaker}.
+ */
+public class CircuitBreakerOpenException extends GitLabApiException {
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final long retryInMillis;
+
+    /**
+     * Create a CircuitBreakerOpenException instance for the specified host.
+     *
+     * @param host the host (and port) of the GitLab server
+     * @param retryInMillis the number of milliseconds until requests are allowed again
+     */
+    public CircuitBreakerOpenException(String host, long retryInMillis) {
+        super("The circuit of " + host + " is open, requests are allowed again in " + retryInMillis + " ms");
+        this.host = host;
+        this.retryInMillis = retryInMillis;
+    }
+
+    /**
+     * Get the host (and port) of the GitLab server whose circuit is open.
+     *
+     * @return the host (and port) of the GitLab server whose circuit is open
+     */
+    public String getHost() {
+        return (host);
+    }
+
+    /**
+     * Get the number of milliseconds, when the exception was thrown, until requests are allowed again.
+     *
+     * @return the number of milliseconds until requests are allowed again
+     */
+    public long getRetryInMillis() {
+        return (retryInMillis);
+    }
+}
@@ -396,6 +396,14 @@ public class CommitsApi extends AbstractApi {
      * @throws GitLabApiException GitLabApiException if any exception occurs during execution
      */
     public Commit getCommit(Object projectIdOrPath, String sha) throws GitLabApiException {
+
+        ContentCache cache = getContentCache();
+        String key = getContentKey(cache, "commit", projectIdOrPath, sha);
+        Commit commit = (key != null ? cache.get(key, ContentCache.getType(Commit.class)) : null);
+        if (commit != null) {
+            return (commit);
+        }
+
         Response response = get(
                 Response.Status.OK,
                 getDefaultPerPageParam(),
@@ -404,7 +412,12 @@ public class CommitsApi extends AbstractApi {
                 "repository",
                 "commits",
                 urlEncode(sha));
-        return (response.readEntity(Commit.class));
+        commit = response.readEntity(Commit.class);
+        if (key != null) {
+            cache.put(key, commit);
+        }
+
+        return (commit);
     }
 
     /**
@@ -742,7 +755,20 @@ public class CommitsApi extends AbstractApi {
      * @throws GitLabApiException GitLabApiException if any exception occurs during execution
      */
     public List<Diff> getDiff(Object projectIdOrPath, String sha) throws GitLabApiException {
-        return (getDiff(projectIdOrPath, sha, getDefaultPerPage()).all());
+
+        ContentCache cache = getContentCache();
+        String key = getContentKey(cache, "diff", projectIdOrPath, sha);
+        List<Diff> diffs = (key != null ? cache.get(key, ContentCache.getListType(Diff.class)) : null);
+        if (diffs != null) {
+            return (diffs);
+        }
+
+        diffs = getDiff(projectIdOrPath, sha, getDefaultPerPage()).all();
+        if (key != null) {
+            cache.put(key, diffs);
+        }
+
+        return (diffs);
     }
 
     /**
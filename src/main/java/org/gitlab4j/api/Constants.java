@@ -34,6 +34,33 @@ public interface Constants {
     /** Page param HTTP header key. */
     public static final String PAGE_PARAM = "page";
 
+    /** The HTTP header key holding the links to the other pages. */
+    public static final String LINK_HEADER = "Link";
+
+    /** Pagination type param key. */
+    public static final String PAGINATION_PARAM = "pagination";
+
+    /** The value of the pagination param used to request keyset pagination. */
+    public static final String KEYSET_PAGINATION = "keyset";
+
+    /** The request limit of the rate limit period HTTP header key. */
+    public static final String RATE_LIMIT_LIMIT_HEADER = "RateLimit-Limit";
+
+    /** The number of requests left in the rate limit period HTTP header key. */
+    public static final String RATE_LIMIT_REMAINING_HEADER = "RateLimit-Remaining";
+
+    /** The time the rate limit period resets (Unix time in seconds) HTTP header key. */
+    public static final String RATE_LIMIT_RESET_HEADER = "RateLimit-Reset";
+
+    /** The number of seconds (or the HTTP date) to wait before making a new request HTTP header key. */
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /** The entity tag of the returned representation HTTP header key. */
+    public static final String ETAG_HEADER = "ETag";
+
+    /** The entity tags of the representations already held by the client HTTP header key. */
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
     /** Used to specify the type of authentication token. */
     public enum TokenType {
         ACCESS,
@@ -0,0 +1,515 @@
+package org.gitlab4j.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.gitlab4j.api.utils.JacksonJson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <p>A cache of the resources that can never change once created, because they are identified by a commit or
+ * blob SHA: the commits fetched with {@link CommitsApi#getCommit(Object, String)}, the diffs fetched with
+ * {@link CommitsApi#getDiff(Object, String)} and the blobs fetched with
+ * {@link RepositoryApi#getRawBlobContent(Object, String)}. The cached resources are never revalidated with the
+ * GitLab server. Only the requests made with a full 40 (SHA-1) or 64 (SHA-256) hex digit SHA are cached, branch
+ * and tag names and abbreviated SHAs can point to other commits over time. The commit of a tag is cached once it
+ * is fetched by its SHA.</p>
+ *
+ * <p>The resources are kept in a size bounded in-heap LRU tier, and optionally in an on-disk tier that survives
+ * restarts, see {@link #withDiskTier(File, long)}. Resources read from the disk tier are moved back to the heap
+ * tier.</p>
+ *
+ * <p>The cached resources are shared by every GitLabApi instance using this cache, whatever their authentication
+ * token, do not share a ContentCache between users that do not have access to the same projects. The resources
+ * fetched while impersonating a user with sudo, for example with a {@link GitLabApi#forContext(RequestContext)}
+ * view, are cached separately for each impersonated user.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   gitLabApi.setContentCache(new ContentCache(64 * 1024 * 1024)
+ *       .withDiskTier(new File("/var/cache/gitlab4j"), 1024L * 1024 * 1024));
+ * </pre>
+ */
+public class ContentCache {
+
+    /** The default maximum size of the in-heap tier in bytes. */
+    public static final long DEFAULT_MAX_HEAP_BYTES = 64 * 1024 * 1024;
+
+    private static final Pattern SHA_PATTERN = Pattern.compile("^([0-9a-fA-F]{40}|[0-9a-fA-F]{64})$");
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final ObjectMapper mapper = new JacksonJson().getObjectMapper();
+
+    private final long maxHeapBytes;
+    private long heapBytes;
+    private final LinkedHashMap<String, byte[]> heap = new LinkedHashMap<>(16, 0.75f, true);
+
+    private volatile Path diskDirectory;
+    private long maxDiskBytes;
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final ReentrantLock diskLock = new ReentrantLock();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a ContentCache with an in-heap tier of {@link #DEFAULT_MAX_HEAP_BYTES} bytes.
+     */
+    public ContentCache() {
+        this(DEFAULT_MAX_HEAP_BYTES);
+    }
+
+    /**
+     * Creates a ContentCache with an in-heap tier of the provided size.
+     *
+     * @param maxHeapBytes the maximum size of the in-heap tier in bytes
+     */
+    public ContentCache(long maxHeapBytes) {
+
+        if (maxHeapBytes < 1) {
+            throw new IllegalArgumentException("maxHeapBytes must be greater than 0");
+        }
+
+        this.maxHeapBytes = maxHeapBytes;
+    }
+
+    /**
+     * Adds an on-disk tier stored in the provided directory, which is created if it does not exist.
+     * The least recently used files are deleted when the directory holds more than maxDiskBytes bytes.
+     *
+     * @param directory the directory to store the cached resources in
+     * @param maxDiskBytes the maximum size of the on-disk tier in bytes
+     * @return this ContentCache instance
+     * @throws GitLabApiException if the directory cannot be created or read
+     */
+    public ContentCache withDiskTier(File directory, long maxDiskBytes) throws GitLabApiException {
+
+        if (maxDiskBytes < 1) {
+            throw new IllegalArgumentException("maxDiskBytes must be greater than 0");
+        }
+
+        Path path = directory.toPath();
+        try {
+
+            Files.createDirectories(path);
+            long size = 0;
+            for (Path file : listFiles(path)) {
+                if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else {
+                    size += Files.size(file);
+                }
+            }
+
+            this.maxDiskBytes = maxDiskBytes;
+            diskBytes.set(size);
+            diskDirectory = path;
+
+        } catch (IOException ioe) {
+            throw new GitLabApiException(ioe);
+        }
+
+        evictDisk(path);
+        return (this);
+    }
+
+    /**
+     * Returns true if the provided value is a full SHA-1 or SHA-256 hex digest, which always identifies
+     * the same commit or blob.
+     *
+     * @param sha the value to check
+     * @return true if the provided value is a full SHA
+     */
+    public static boolean isSha(String sha) {
+        return (sha != null && SHA_PATTERN.matcher(sha).matches());
+    }
+
+    /**
+     * Get the key of a resource identified by a SHA.
+     *
+     * @param hostUrl the URL of the GitLab server
+     * @param projectIdOrPath the ID or the encoded path of the project
+     * @param kind the kind of resource, for example "commit" or "blob"
+     * @param sha the full SHA identifying the resource
+     * @param sudoAsId the ID of the user the resource is fetched as with sudo, may be null
+     * @return the key of the resource
+     */
+    static String getKey(String hostUrl, Object projectIdOrPath, String kind, String sha, Long sudoAsId) {
+        return (hostUrl + "\n" + projectIdOrPath + "\n" + kind + "\n" + sha.toLowerCase()
+                + (sudoAsId != null ? "\n" + sudoAsId : ""));
+    }
+
+    /**
+     * Get the cached content of the provided key, from the heap tier or else from the disk tier.
+     *
+     * @param key the key of the resource
+     * @return the cached content, or null if not cached
+     */
+    byte[] getContent(String key) {
+
+        synchronized (this) {
+            byte[] content = heap.get(key);
+            if (content != null) {
+                hits.incrementAndGet();
+                return (content);
+            }
+        }
+
+        Path directory = diskDirectory;
+        if (directory != null) {
+
+            Path file = directory.resolve(ETagCache.digest(key));
+            try {
+
+                byte[] content = Files.readAllBytes(file);
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                putHeap(key, content);
+                diskHits.incrementAndGet();
+                return (content);
+
+            } catch (IOException ignore) {
+                // Not cached on disk, or deleted while being read
+            }
+        }
+
+        misses.incrementAndGet();
+        return (null);
+    }
+
+    /**
+     * Caches the content of a resource in the heap tier and in the disk tier.
+     *
+     * @param key the key of the resource
+     * @param content the content of the resource
+     */
+    void putContent(String key, byte[] content) {
+
+        putHeap(key, content);
+
+        Path directory = diskDirectory;
+        if (directory == null || content.length > maxDiskBytes) {
+            return;
+        }
+
+        Path file = directory.resolve(ETagCache.digest(key));
+        Path temp = null;
+        try {
+
+            // Write to a temporary file first so that a partially written file is never read
+            temp = Files.createTempFile(directory, null, TEMP_SUFFIX);
+            Files.write(temp, content);
+            diskLock.lock();
+            try {
+
+                if (Files.exists(file)) {
+                    deleteQuietly(temp);
+                    return;
+                }
+
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException ioe) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                diskBytes.addAndGet(content.length);
+
+            } finally {
+                diskLock.unlock();
+            }
+
+        } catch (IOException ioe) {
+            GitLabApi.getLogger().log(Level.FINE, "Could not write to the disk cache", ioe);
+            deleteQuietly(temp);
+            return;
+        }
+
+        evictDisk(directory);
+    }
+
+    /**
+     * Returns true if a resource of the provided size fits in the heap tier or in the disk tier. Resources
+     * of unknown size are read with {@link #putContent(String, InputStream)} instead, which stops buffering
+     * them once they do not fit.
+     *
+     * @param length the size of the resource in bytes, -1 if unknown
+     * @return true if a resource of the provided size can be cached
+     */
+    boolean isCacheable(long length) {
+        return (length >= 0 && length <= getMaxContentBytes());
+    }
+
+    /**
+     * Caches the content of a resource read from the provided stream, if it fits in the heap tier or in the
+     * disk tier. The stream is read into memory up to the size of the largest resource that can be cached,
+     * a resource that turns out to be larger is not cached and the rest of the stream is not read.
+     *
+     * @param key the key of the resource
+     * @param in the stream to read the content of the resource from
+     * @return a stream over the full content of the resource, the rest of the provided stream if it was too large
+     * @throws IOException if the stream cannot be read, the stream is then closed
+     */
+    InputStream putContent(String key, InputStream in) throws IOException {
+
+        long limit = getMaxContentBytes();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try {
+
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+                if (out.size() > limit) {
+                    return (new SequenceInputStream(new ByteArrayInputStream(out.toByteArray()), in));
+                }
+            }
+
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+
+        in.close();
+        byte[] content = out.toByteArray();
+        putContent(key, content);
+        return (new ByteArrayInputStream(content));
+    }
+
+    private long getMaxContentBytes() {
+        return (diskDirectory != null ? Math.max(maxHeapBytes, maxDiskBytes) : maxHeapBytes);
+    }
+
+    /**
+     * Get the cached entity of the provided key, decoded from JSON.
+     *
+     * @param <T> the type of the entity
+     * @param key the key of the resource
+     * @param type the type of the entity
+     * @return the cached entity, or null if not cached
+     */
+    <T> T get(String key, JavaType type) {
+
+        byte[] content = getContent(key);
+        if (content == null) {
+            return (null);
+        }
+
+        try {
+            return (mapper.readValue(content, type));
+        } catch (IOException ioe) {
+            GitLabApi.getLogger().log(Level.FINE, "Could not decode a cached resource", ioe);
+            return (null);
+        }
+    }
+
+    /**
+     * Caches an entity, encoded as JSON.
+     *
+     * @param key the key of the resource
+     * @param entity the entity to cache
+     */
+    void put(String key, Object entity) {
+
+        try {
+            putContent(key, mapper.writeValueAsBytes(entity));
+        } catch (IOException ioe) {
+            GitLabApi.getLogger().log(Level.FINE, "Could not encode a resource to cache", ioe);
+        }
+    }
+
+    /**
+     * Get the JavaType of the provided class, to get a cached entity with {@link #get(String, JavaType)}.
+     *
+     * @param type the class of the entity
+     * @return the JavaType of the provided class
+     */
+    static JavaType getType(Class<?> type) {
+        return (mapper.getTypeFactory().constructType(type));
+    }
+
+    /**
+     * Get the JavaType of a List of the provided class, to get a cached List with {@link #get(String, JavaType)}.
+     *
+     * @param type the class of the elements of the List
+     * @return the JavaType of a List of the provided class
+     */
+    static JavaType getListType(Class<?> type) {
+        return (mapper.getTypeFactory().constructCollectionType(List.class, type));
+    }
+
+    private synchronized void putHeap(String key, byte[] content) {
+
+        if (content.length > maxHeapBytes) {
+            return;
+        }
+
+        byte[] previous = heap.put(key, content);
+        heapBytes += content.length - (previous != null ? previous.length : 0);
+
+        Iterator<byte[]> eldest = heap.values().iterator();
+        while (heapBytes > maxHeapBytes && eldest.hasNext()) {
+            heapBytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    private void evictDisk(Path directory) {
+
+        diskLock.lock();
+        try {
+
+            if (diskBytes.get() <= maxDiskBytes) {
+                return;
+            }
+
+            try {
+
+                List<Path> files = listFiles(directory).stream()
+                        .filter(file -> !file.getFileName().toString().endsWith(TEMP_SUFFIX))
+                        .sorted(Comparator.comparingLong(ContentCache::getLastModified))
+                        .collect(Collectors.toList());
+
+                for (Path file : files) {
+
+                    if (diskBytes.get() <= maxDiskBytes) {
+                        break;
+                    }
+
+                    long size = Files.size(file);
+                    if (Files.deleteIfExists(file)) {
+                        diskBytes.addAndGet(-size);
+                    }
+                }
+
+            } catch (IOException ioe) {
+                GitLabApi.getLogger().log(Level.FINE, "Could not evict from the disk cache", ioe);
+            }
+
+        } finally {
+            diskLock.unlock();
+        }
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return (files.filter(Files::isRegularFile).collect(Collectors.toCollection(ArrayList::new)));
+        }
+    }
+
+    private static long getLastModified(Path file) {
+        try {
+            return (Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException ioe) {
+            return (0);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    /**
+     * Removes all the resources from the heap tier and the disk tier.
+     */
+    public void clear() {
+
+        synchronized (this) {
+            heap.clear();
+            heapBytes = 0;
+        }
+
+        Path directory = diskDirectory;
+        if (directory == null) {
+            return;
+        }
+
+        // The disk tier is guarded by a ReentrantLock, a virtual thread doing file I/O while holding
+        // a monitor would be pinned to its carrier thread
+        diskLock.lock();
+        try {
+
+            for (Path file : listFiles(directory)) {
+                deleteQuietly(file);
+            }
+
+            diskBytes.set(0);
+
+        } catch (IOException ioe) {
+            GitLabApi.getLogger().log(Level.FINE, "Could not clear the disk cache", ioe);
+        } finally {
+            diskLock.unlock();
+        }
+    }
+
+    /**
+     * Get the size of the resources in the heap tier in bytes.
+     *
+     * @return the size of the resources in the heap tier in bytes
+     */
+    public synchronized long getHeapBytes() {
+        return (heapBytes);
+    }
+
+    /**
+     * Get the size of the resources in the disk tier in bytes.
+     *
+     * @return the size of the resources in the disk tier in bytes, 0 if there is no disk tier
+     */
+    public long getDiskBytes() {
+        return (diskBytes.get());
+    }
+
+    /**
+     * Get the number of resources found in the heap tier.
+     *
+     * @return the number of resources found in the heap tier
+     */
+    public long getHitCount() {
+        return (hits.get());
+    }
+
+    /**
+     * Get the number of resources found in the disk tier.
+     *
+     * @return the number of resources found in the disk tier
+     */
+    public long getDiskHitCount() {
+        return (diskHits.get());
+    }
+
+    /**
+     * Get the number of resources that were not cached.
+     *
+     * @return the number of resources that were not cached
+     */
+    public long getMissCount() {
+        return (misses.get());
+    }
+}
@@ -0,0 +1,151 @@
+package org.gitlab4j.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+
+/**
+ * Cancels the reading of the entity of a response once the deadline of its request has passed. The entity stream
+ * of a response to a request made with a deadline is wrapped in a stream that fails its reads with an IOException
+ * caused by a {@link GitLabApiTimeoutException} after the deadline, and that is closed at the deadline if it is
+ * still open, for example while downloading a repository archive.
+ */
+class DeadlineFilter implements ClientResponseFilter {
+
+    /** The name of the request property holding the deadline of the request, in milliseconds since the epoch. */
+    static final String DEADLINE_PROPERTY = "org.gitlab4j.api.deadline";
+
+    private static ScheduledExecutorService watchdog;
+    private static ExecutorService closer;
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+
+        Object deadline = requestContext.getProperty(DEADLINE_PROPERTY);
+        if (deadline instanceof Long && responseContext.hasEntity()) {
+            InputStream entityStream = responseContext.getEntityStream();
+            responseContext.setEntityStream(new DeadlineInputStream(entityStream, (Long) deadline));
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getWatchdog() {
+
+        if (watchdog == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, daemon("gitlab4j-deadline"));
+            executor.setRemoveOnCancelPolicy(true);
+            watchdog = executor;
+        }
+
+        return (watchdog);
+    }
+
+    private static synchronized ExecutorService getCloser() {
+
+        // Closing a stream can block while the rest of the entity is drained, do not block the watchdog
+        if (closer == null) {
+            closer = Executors.newCachedThreadPool(daemon("gitlab4j-deadline-close"));
+        }
+
+        return (closer);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return (runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return (thread);
+        });
+    }
+
+    /**
+     * An entity stream that fails its reads once the deadline has passed.
+     */
+    static class DeadlineInputStream extends FilterInputStream {
+
+        private final long deadline;
+        private final ScheduledFuture<?> expiration;
+        private volatile boolean expired;
+
+        DeadlineInputStream(InputStream in, long deadline) {
+            super(in);
+            this.deadline = deadline;
+            long delay = Math.max(0, deadline - System.currentTimeMillis());
+            this.expiration = getWatchdog().schedule(this::expire, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void expire() {
+
+            expired = true;
+            getCloser().execute(() -> {
+                try {
+                    in.close();
+                } catch (IOException ignore) {
+                }
+            });
+        }
+
+        private void checkDeadline() throws IOException {
+            if (expired || System.currentTimeMillis() >= deadline) {
+                throw timeout(null);
+            }
+        }
+
+        private IOException timeout(IOException cause) {
+            return (new IOException(
+                    "The deadline of the request has passed", new GitLabApiTimeoutException(deadline, cause)));
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            checkDeadline();
+            try {
+                return (super.read());
+            } catch (IOException ioe) {
+                throw (expired ? timeout(ioe) : ioe);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+
+            checkDeadline();
+            try {
+                return (super.read(b, off, len));
+            } catch (IOException ioe) {
+                throw (expired ? timeout(ioe) : ioe);
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+
+            checkDeadline();
+            try {
+                return (super.skip(n));
+            } catch (IOException ioe) {
+                throw (expired ? timeout(ioe) : ioe);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            expiration.cancel(false);
+            if (!expired) {
+                super.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package org.gitlab4j.api;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * <p>A size bounded cache of GET responses validated with their entity tag. When a cached response is held for
+ * a request, the request is sent with an "If-None-Match" header, and when the GitLab server answers
+ * "304 Not Modified" the cached response is returned instead of downloading and decoding the unchanged data
+ * again. This greatly reduces the cost of polling endpoints that return an "ETag" header, such as the pipelines,
+ * the notes of a merge request, or the details of a project.</p>
+ *
+ * <p>Responses are cached by URL, query params, Accept header, authentication token and sudo user, so responses
+ * are never shared between users. The least recently used responses are evicted when the cache holds more than
+ * the maximum number of entries or bytes. Paged requests, such as the pages fetched by {@link Pager} instances,
+ * are not cached, so that crawling large lists does not evict the responses of the polled endpoints.</p>
+ *
+ * <p>The entity of a cached response is held as bytes, each caller that gets the response from the cache gets
+ * its own copy of the response, which decodes the entity into its own instances.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   gitLabApi.setETagCache(new ETagCache(1000, 16 * 1024 * 1024));
+ * </pre>
+ */
+public class ETagCache {
+
+    /** The query params of paged requests, which are not cached. */
+    private static final List<String> PAGING_PARAMS =
+            Arrays.asList(Constants.PAGE_PARAM, Constants.PER_PAGE_PARAM, Constants.PAGINATION_PARAM);
+
+    /** The default maximum number of cached responses. */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /** The default maximum total size of the cached entities in bytes. */
+    public static final long DEFAULT_MAX_BYTES = 32 * 1024 * 1024;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private long bytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates an ETagCache with the default maximum number of entries and bytes.
+     */
+    public ETagCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates an ETagCache with the provided maximum number of entries and bytes.
+     *
+     * @param maxEntries the maximum number of cached responses
+     * @param maxBytes the maximum total size of the cached entities in bytes, larger responses are not cached
+     */
+    public ETagCache(int maxEntries, long maxBytes) {
+
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("maxEntries and maxBytes must be greater than 0");
+        }
+
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get the key identifying a request, made of the URL, the sorted query params, the Accept header, a digest
+     * of the authentication token and the sudo user.
+     *
+     * @param url the URL of the request
+     * @param queryParams the query params of the request, may be null
+     * @param accept the Accept header of the request, may be null
+     * @param authToken the authentication token of the request, may be null
+     * @param sudoAsId the sudo user of the request, may be null
+     * @return the key identifying the request
+     */
+    static String getKey(
+            URL url, MultivaluedMap<String, String> queryParams, String accept, String authToken, Long sudoAsId) {
+
+        StringBuilder key = new StringBuilder(url.toExternalForm());
+        if (queryParams != null && !queryParams.isEmpty()) {
+
+            List<String> names = new ArrayList<>(queryParams.keySet());
+            Collections.sort(names);
+
+            char separator = (url.getQuery() == null ? '?' : '&');
+            for (String name : names) {
+                List<String> values = queryParams.get(name);
+                for (String value : (values != null ? values : Collections.<String>emptyList())) {
+                    key.append(separator).append(name).append('=').append(value);
+                    separator = '&';
+                }
+            }
+        }
+
+        key.append('\n').append(accept != null ? accept : "");
+        key.append('\n').append(authToken != null ? digest(authToken) : "");
+        key.append('\n').append(sudoAsId != null ? sudoAsId.toString() : "");
+        return (key.toString());
+    }
+
+    /**
+     * Get whether the response of a request can be cached, paged requests (with a "page", "per_page" or
+     * "pagination" query param) are not cached.
+     *
+     * @param url the URL of the request, may hold query params such as the "next" link of a keyset paged list
+     * @param queryParams the query params of the request, may be null
+     * @return true if the response of the request can be cached
+     */
+    static boolean isCacheable(URL url, MultivaluedMap<String, String> queryParams) {
+
+        for (String name : PAGING_PARAMS) {
+            if (queryParams != null && queryParams.containsKey(name)) {
+                return (false);
+            }
+        }
+
+        String query = url.getQuery();
+        if (query == null) {
+            return (true);
+        }
+
+        for (String param : query.split("&")) {
+            int equals = param.indexOf('=');
+            if (PAGING_PARAMS.contains(equals >= 0 ? param.substring(0, equals) : param)) {
+                return (false);
+            }
+        }
+
+        return (true);
+    }
+
+    /**
+     * Get the hex encoded SHA-256 digest of the provided value.
+     *
+     * @param value the value to digest
+     * @return the hex encoded SHA-256 digest of the provided value
+     */
+    static String digest(String value) {
+
+        try {
+
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+
+            return (hex.toString());
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Get the cached entry of the provided key.
+     *
+     * @param key the key of the request, see {@link #getKey(URL, MultivaluedMap, String, String, Long)}
+     * @return the cached entry, or null if the key is not cached
+     */
+    synchronized Entry get(String key) {
+        return (entries.get(key));
+    }
+
+    /**
+     * Records the outcome of a conditional request.
+     *
+     * @param hit true if the cached response was returned
+     */
+    void record(boolean hit) {
+        (hit ? hits : misses).incrementAndGet();
+    }
+
+    /**
+     * Caches a response with its entity tag, evicting the least recently used responses if needed.
+     *
+     * @param key the key of the request, see {@link #getKey(URL, MultivaluedMap, String, String, Long)}
+     * @param eTag the entity tag of the response
+     * @param response the response to cache
+     */
+    synchronized void put(String key, String eTag, BufferedResponse response) {
+
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            bytes -= previous.response.getEntitySize();
+        }
+
+        if (response.getEntitySize() > maxBytes) {
+            return;
+        }
+
+        entries.put(key, new Entry(eTag, response));
+        bytes += response.getEntitySize();
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().response.getEntitySize();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Get the number of cached responses.
+     *
+     * @return the number of cached responses
+     */
+    public synchronized int size() {
+        return (entries.size());
+    }
+
+    /**
+     * Get the total size of the cached entities in bytes.
+     *
+     * @return the total size of the cached entities in bytes
+     */
+    public synchronized long getBytes() {
+        return (bytes);
+    }
+
+    /**
+     * Get the number of conditional requests answered with "304 Not Modified", served from the cache.
+     *
+     * @return the number of requests served from the cache
+     */
+    public long getHitCount() {
+        return (hits.get());
+    }
+
+    /**
+     * Get the number of conditional requests whose cached response had changed.
+     *
+     * @return the number of conditional requests whose cached response had changed
+     */
+    public long getMissCount() {
+        return (misses.get());
+    }
+
+    /**
+     * A cached response and its entity tag.
+     */
+    static class Entry {
+
+        private final String eTag;
+        private final BufferedResponse response;
+
+        private Entry(String eTag, BufferedResponse response) {
+            this.eTag = eTag;
+            this.response = response;
+        }
+
+        String getETag() {
+            return (eTag);
+        }
+
+        BufferedResponse getResponse() {
+            return (response);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.gitlab4j.api;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Maps the path of a request to its endpoint template, the path relative to the API URL with the values that
+ * identify a resource replaced by a parameter name, for example "/api/v4/projects/12/merge_requests/34" is mapped to
+ * "projects/:id/merge_requests/:iid". The same endpoint templates are used as the endpoint keys of the
+ * {@link MetricsRecorder} and the {@link PerPageTuner}.
+ *
+ * <p>The templates are built from the path arguments of the request, as provided to the AbstractApi and
+ * GitLabApiClient methods. Every path argument that is not a String, such as an ID, is a value. A String path
+ * argument is a value when it follows a path segment that is always followed by a value, for example the ID or
+ * path of a group or the name of a branch, or when it is URL encoded or numeric. Only the requests made with a
+ * URL, such as the keyset pagination links, have their template built from the path of the URL.</p>
+ *
+ * <p>The templates are cached by the shape of the path arguments, the path segments with the values left out, in
+ * a fixed size cache. Once the template of a shape is cached getting it does not allocate, and as the values are
+ * not part of the key the number of cached templates does not grow with the number of resources.</p>
+ */
+final class EndpointTemplate {
+
+    /** The number of templates cached, a power of two. */
+    private static final int CACHE_SIZE = 512;
+
+    /** The parameter names of the path segments that follow the named segments. */
+    private static final Map<String, String> PARAMETERS = new HashMap<>();
+
+    static {
+        PARAMETERS.put("branches", ":branch");
+        PARAMETERS.put("protected_branches", ":branch");
+        PARAMETERS.put("tags", ":tag_name");
+        PARAMETERS.put("protected_tags", ":tag_name");
+        PARAMETERS.put("files", ":file_path");
+        PARAMETERS.put("commits", ":sha");
+        PARAMETERS.put("blobs", ":sha");
+        PARAMETERS.put("statuses", ":sha");
+        PARAMETERS.put("variables", ":key");
+        PARAMETERS.put("wikis", ":slug");
+    }
+
+    /** The top level path segments that are followed by the ID or path of a resource, such as "groups/:id". */
+    private static final Set<String> RESOURCES =
+            new HashSet<>(Arrays.asList("projects", "groups", "users", "namespaces"));
+
+    /** The path segments that are not a value where a value is expected, such as "projects/import". */
+    private static final Set<String> ACTIONS = new HashSet<>(Arrays.asList("import", "attachments"));
+
+    private static final AtomicReferenceArray<Shape> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private EndpointTemplate() {}
+
+    /**
+     * Get the endpoint template of the provided path, for the requests made with a URL.
+     *
+     * @param path the raw (encoded) path of the request URL
+     * @return the endpoint template of the path
+     */
+    static String of(String path) {
+
+        // Make the path relative to the API URL, the API URL is "<host URL>/api/v4"
+        int start = path.indexOf("/api/v");
+        start = (start >= 0 ? path.indexOf('/', start + 1 + "api/v".length()) : -1);
+        return (of((Object[]) path.substring(start >= 0 ? start + 1 : 0).split("/")));
+    }
+
+    /**
+     * Get the endpoint template of the provided path arguments, as provided to the AbstractApi and
+     * GitLabApiClient methods.
+     *
+     * @param pathArgs the path arguments of the request
+     * @return the endpoint template of the path arguments
+     */
+    static String of(Object... pathArgs) {
+
+        // The shape of the path arguments is the position of their values and their other path segments,
+        // it is only cached for the paths with up to 64 path arguments
+        if (pathArgs.length > Long.SIZE) {
+            return (build(pathArgs));
+        }
+
+        long values = 0;
+        int hash = pathArgs.length;
+        String previous = null;
+        String beforePrevious = null;
+        int index = 0;
+        for (int i = 0; i < pathArgs.length; i++) {
+
+            Object pathArg = pathArgs[i];
+            if (isEmpty(pathArg)) {
+                continue;
+            }
+
+            String parameter = getParameter(pathArg, previous, beforePrevious, index);
+            if (parameter != null) {
+                values |= 1L << i;
+                hash = 31 * hash + parameter.hashCode();
+            } else {
+                hash = 31 * hash + pathArg.hashCode();
+            }
+
+            beforePrevious = previous;
+            previous = (parameter == null ? (String) pathArg : null);
+            index++;
+        }
+
+        int slot = hash & (CACHE_SIZE - 1);
+        Shape shape = CACHE.get(slot);
+        if (shape != null && shape.matches(hash, values, pathArgs)) {
+            return (shape.template);
+        }
+
+        shape = new Shape(hash, values, pathArgs, build(pathArgs));
+        CACHE.set(slot, shape);
+        return (shape.template);
+    }
+
+    private static String build(Object[] pathArgs) {
+
+        StringBuilder template = new StringBuilder();
+        String previous = null;
+        String beforePrevious = null;
+        int index = 0;
+        for (Object pathArg : pathArgs) {
+
+            if (isEmpty(pathArg)) {
+                continue;
+            }
+
+            if (index > 0) {
+                template.append('/');
+            }
+
+            String parameter = getParameter(pathArg, previous, beforePrevious, index);
+            template.append(parameter != null ? parameter : pathArg);
+
+            beforePrevious = previous;
+            previous = (parameter == null ? (String) pathArg : null);
+            index++;
+        }
+
+        return (template.toString());
+    }
+
+    /**
+     * Get the parameter name of a path argument that is a value.
+     *
+     * @param pathArg the path argument
+     * @param previous the previous path segment, null if it is a value
+     * @param beforePrevious the path segment before the previous one, null if it is a value
+     * @param index the index of the path argument in the path, not counting the empty path arguments
+     * @return the parameter name of the path argument, or null if it is not a value
+     */
+    private static String getParameter(Object pathArg, String previous, String beforePrevious, int index) {
+
+        if (pathArg instanceof String && ACTIONS.contains(pathArg)) {
+            return (null);
+        }
+
+        String parameter = PARAMETERS.get(previous);
+        if (parameter != null) {
+            return (parameter);
+        }
+
+        if ("artifacts".equals(previous)) {
+            return ("jobs".equals(beforePrevious) ? ":ref_name" : ":artifact_path");
+        }
+
+        if (pathArg instanceof String) {
+
+            String segment = (String) pathArg;
+            boolean resource = (index == 1 && RESOURCES.contains(previous));
+            if (!resource && segment.indexOf('%') < 0 && !isNumeric(segment)) {
+                return (null);
+            }
+        }
+
+        // Issues, merge requests and epics are identified by their internal ID within their project or group
+        boolean iid = (index >= 3
+                && ("issues".equals(previous) || "merge_requests".equals(previous) || "epics".equals(previous)));
+        return (iid ? ":iid" : ":id");
+    }
+
+    private static boolean isEmpty(Object pathArg) {
+        return (pathArg == null || (pathArg instanceof String && ((String) pathArg).isEmpty()));
+    }
+
+    private static boolean isNumeric(String segment) {
+
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return (false);
+            }
+        }
+
+        return (true);
+    }
+
+    /**
+     * The shape of the path arguments of a template: their other path segments, and the position of their values.
+     */
+    private static final class Shape {
+
+        private final int hash;
+        private final long values;
+        private final String[] segments;
+        private final String template;
+
+        private Shape(int hash, long values, Object[] pathArgs, String template) {
+
+            this.hash = hash;
+            this.values = values;
+            this.template = template;
+
+            // Only keep the path segments, not the values
+            segments = new String[pathArgs.length];
+            for (int i = 0; i < pathArgs.length; i++) {
+                if ((values & (1L << i)) == 0 && pathArgs[i] != null) {
+                    segments[i] = (String) pathArgs[i];
+                }
+            }
+        }
+
+        private boolean matches(int hash, long values, Object[] pathArgs) {
+
+            if (this.hash != hash || this.values != values || segments.length != pathArgs.length) {
+                return (false);
+            }
+
+            for (int i = 0; i < pathArgs.length; i++) {
+                if ((values & (1L << i)) == 0 && !isSameSegment(segments[i], pathArgs[i])) {
+                    return (false);
+                }
+            }
+
+            return (true);
+        }
+
+        private static boolean isSameSegment(String segment, Object pathArg) {
+            return (segment == null ? pathArg == null : segment.equals(pathArg));
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package org.gitlab4j.api;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Routes the read requests of a GitLabApi instance to GitLab Geo secondary sites, while the write requests
+ * and the reads that must see the result of a recent write are sent to the primary site, the GitLab server
+ * of the GitLabApi instance.</p>
+ *
+ * <p>Each read is sent to the healthy secondary site with the lowest latency, measured as a moving average of
+ * the response times of the site. A secondary site that fails a request, with an I/O error or a 5xx response,
+ * is considered unhealthy for a while and the request is sent again to the primary site.</p>
+ *
+ * <p>A secondary site lags behind the primary site, so after a write the reads of the same project, group or
+ * user are sent to the primary site for a while. After a write to any other resource, for example the creation
+ * of a project, all the reads are sent to the primary site for that while.</p>
+ *
+ * <p>A GeoRouter is thread safe and can be set on several GitLabApi instances.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   GitLabApi gitLabApi = new GitLabApi("https://gitlab.example.com", token);
+ *   gitLabApi.setGeoRouter(new GeoRouter().withSecondary("https://gitlab-eu.example.com"));
+ * </pre>
+ */
+public class GeoRouter {
+
+    /** The default number of milliseconds the reads after a write are sent to the primary site. */
+    public static final long DEFAULT_READ_AFTER_WRITE_MILLIS = 10000;
+
+    /** The default number of milliseconds a secondary site that failed a request is considered unhealthy. */
+    public static final long DEFAULT_FAILURE_BACKOFF_MILLIS = 30000;
+
+    private static final int MAX_WRITTEN_RESOURCES = 10000;
+
+    // The weight of a new response time in the moving average of the latency of a site
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final LongSupplier clock;
+    private final List<Site> sites = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> writtenResources =
+            new LinkedHashMap<String, Long>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return (size() > MAX_WRITTEN_RESOURCES);
+                }
+            };
+
+    private volatile long readAfterWriteMillis = DEFAULT_READ_AFTER_WRITE_MILLIS;
+    private volatile long failureBackoffMillis = DEFAULT_FAILURE_BACKOFF_MILLIS;
+    private long lastWriteMillis = Long.MIN_VALUE;
+
+    /**
+     * Creates a GeoRouter with no secondary sites, see {@link #withSecondary(String)}.
+     */
+    public GeoRouter() {
+        this(System::currentTimeMillis);
+    }
+
+    GeoRouter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Adds a secondary site the reads can be sent to.
+     *
+     * @param secondaryUrl the URL of the secondary site, for example https://gitlab-eu.example.com
+     * @return this GeoRouter instance
+     */
+    public GeoRouter withSecondary(String secondaryUrl) {
+
+        if (secondaryUrl == null) {
+            throw new IllegalArgumentException("secondaryUrl must not be null");
+        }
+
+        String url = (secondaryUrl.endsWith("/") ? secondaryUrl.replaceAll("/+$", "") : secondaryUrl);
+        try {
+            new URL(url);
+        } catch (MalformedURLException mue) {
+            throw new IllegalArgumentException("Invalid secondaryUrl: " + secondaryUrl, mue);
+        }
+
+        if (getSite(url) == null) {
+            sites.add(new Site(url));
+        }
+
+        return (this);
+    }
+
+    /**
+     * Sets the number of milliseconds the reads after a write are sent to the primary site, this should be
+     * longer than the replication lag of the secondary sites.
+     *
+     * @param readAfterWriteMillis the number of milliseconds the reads after a write are sent to the primary site
+     * @return this GeoRouter instance
+     */
+    public GeoRouter withReadAfterWrite(long readAfterWriteMillis) {
+        this.readAfterWriteMillis = readAfterWriteMillis;
+        return (this);
+    }
+
+    /**
+     * Sets the number of milliseconds a secondary site that failed a request is considered unhealthy.
+     *
+     * @param failureBackoffMillis the number of milliseconds a secondary site is considered unhealthy
+     * @return this GeoRouter instance
+     */
+    public GeoRouter withFailureBackoff(long failureBackoffMillis) {
+        this.failureBackoffMillis = failureBackoffMillis;
+        return (this);
+    }
+
+    /**
+     * Get the URLs of the secondary sites.
+     *
+     * @return the URLs of the secondary sites
+     */
+    public List<String> getSecondaryUrls() {
+
+        List<String> urls = new ArrayList<>();
+        for (Site site : sites) {
+            urls.add(site.url);
+        }
+
+        return (Collections.unmodifiableList(urls));
+    }
+
+    /**
+     * Returns true if the provided secondary site is healthy.
+     *
+     * @param secondaryUrl the URL of the secondary site
+     * @return true if the secondary site is healthy, false if it is unhealthy or unknown
+     */
+    public boolean isHealthy(String secondaryUrl) {
+
+        Site site = getSite(secondaryUrl);
+        if (site == null) {
+            return (false);
+        }
+
+        synchronized (site) {
+            return (site.unhealthyUntilMillis <= clock.getAsLong());
+        }
+    }
+
+    /**
+     * Get the moving average of the response times of the provided secondary site.
+     *
+     * @param secondaryUrl the URL of the secondary site
+     * @return the moving average of the response times in milliseconds, or -1 if unknown
+     */
+    public long getLatencyMillis(String secondaryUrl) {
+
+        Site site = getSite(secondaryUrl);
+        if (site == null) {
+            return (-1);
+        }
+
+        synchronized (site) {
+            return (site.latencyNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis((long) site.latencyNanos));
+        }
+    }
+
+    /**
+     * Selects the secondary site to send a read of the provided URL to.
+     *
+     * @param url the URL of the read
+     * @return the URL of the secondary site to send the read to, or null to send it to the primary site
+     */
+    public String selectSecondary(URL url) {
+
+        if (sites.isEmpty() || isReadAfterWrite(url)) {
+            return (null);
+        }
+
+        // Sites without a measured latency are tried first, so that the latency of every site gets measured
+        long now = clock.getAsLong();
+        Site best = null;
+        double bestLatency = Double.MAX_VALUE;
+        for (Site site : sites) {
+            synchronized (site) {
+                if (site.unhealthyUntilMillis <= now && (best == null || site.latencyNanos < bestLatency)) {
+                    best = site;
+                    bestLatency = site.latencyNanos;
+                }
+            }
+        }
+
+        return (best != null ? best.url : null);
+    }
+
+    /**
+     * Records a write of the provided URL, the reads of the same resource are sent to the primary site for a while.
+     *
+     * @param url the URL of the write
+     */
+    public synchronized void recordWrite(URL url) {
+
+        long now = clock.getAsLong();
+        String resource = TokenPool.getResource(url);
+        if (resource != null) {
+            writtenResources.put(resource, now);
+        } else {
+            lastWriteMillis = now;
+        }
+    }
+
+    /**
+     * Returns true if a read of the provided URL must be sent to the primary site to see a recent write.
+     *
+     * @param url the URL of the read
+     * @return true if the read must be sent to the primary site
+     */
+    public synchronized boolean isReadAfterWrite(URL url) {
+
+        long since = clock.getAsLong() - readAfterWriteMillis;
+        if (lastWriteMillis > since) {
+            return (true);
+        }
+
+        String resource = TokenPool.getResource(url);
+        Long writeMillis = (resource != null ? writtenResources.get(resource) : null);
+        return (writeMillis != null && writeMillis > since);
+    }
+
+    /**
+     * Records a successful request to the provided secondary site.
+     *
+     * @param secondaryUrl the URL of the secondary site
+     * @param nanos the response time of the request in nanoseconds
+     */
+    public void onSuccess(String secondaryUrl, long nanos) {
+
+        Site site = getSite(secondaryUrl);
+        if (site != null) {
+            synchronized (site) {
+                site.latencyNanos = (site.latencyNanos < 0
+                        ? nanos
+                        : site.latencyNanos + LATENCY_WEIGHT * (nanos - site.latencyNanos));
+            }
+        }
+    }
+
+    /**
+     * Records a failed request to the provided secondary site, the site is considered unhealthy for a while.
+     *
+     * @param secondaryUrl the URL of the secondary site
+     */
+    public void onFailure(String secondaryUrl) {
+
+        Site site = getSite(secondaryUrl);
+        if (site != null) {
+            synchronized (site) {
+                site.unhealthyUntilMillis = clock.getAsLong() + failureBackoffMillis;
+            }
+        }
+    }
+
+    /**
+     * Get the URL of a request sent to another site, the base URL of the request is replaced
+     * with the URL of the site.
+     *
+     * @param url the URL of the request
+     * @param baseUrl the base URL of the request, the URL of the primary site
+     * @param siteUrl the URL of the site to send the request to
+     * @return the URL of the request sent to the site
+     * @throws IllegalArgumentException if the URL of the request does not start with the base URL
+     */
+    static URL getSiteUrl(URL url, String baseUrl, String siteUrl) {
+
+        String externalForm = url.toExternalForm();
+        if (!externalForm.startsWith(baseUrl)) {
+            throw new IllegalArgumentException("The URL " + url + " is not a URL of " + baseUrl);
+        }
+
+        try {
+            return (new URL(siteUrl + externalForm.substring(baseUrl.length())));
+        } catch (MalformedURLException mue) {
+            throw new IllegalArgumentException(mue);
+        }
+    }
+
+    private Site getSite(String url) {
+
+        for (Site site : sites) {
+            if (site.url.equals(url)) {
+                return (site);
+            }
+        }
+
+        return (null);
+    }
+
+    /**
+     * The latency and health of a secondary site.
+     */
+    private static class Site {
+
+        private final String url;
+        private double latencyNanos = -1;
+        private long unhealthyUntilMillis;
+
+        private Site(String url) {
+            this.url = url;
+        }
+    }
+}
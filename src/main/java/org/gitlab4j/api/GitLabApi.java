@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -50,60 +52,66 @@ public class GitLabApi implements AutoCloseable {
     private String gitLabServerUrl;
     private Map<String, Object> clientConfigProperties;
     private int defaultPerPage = DEFAULT_PER_PAGE;
-
-    private ApplicationsApi applicationsApi;
-    private ApplicationSettingsApi applicationSettingsApi;
-    private AuditEventApi auditEventApi;
-    private AwardEmojiApi awardEmojiApi;
-    private BoardsApi boardsApi;
-    private CommitsApi commitsApi;
-    private ContainerRegistryApi containerRegistryApi;
-    private DiscussionsApi discussionsApi;
-    private DeployKeysApi deployKeysApi;
-    private DeploymentsApi deploymentsApi;
-    private DeployTokensApi deployTokensApi;
-    private EnvironmentsApi environmentsApi;
-    private EpicsApi epicsApi;
-    private EventsApi eventsApi;
-    private ExternalStatusCheckApi externalStatusCheckApi;
-    private GitLabCiYamlApi gitLabCiYaml;
-    private GroupApi groupApi;
-    private HealthCheckApi healthCheckApi;
-    private ImportExportApi importExportApi;
-    private IssuesApi issuesApi;
-    private JobApi jobApi;
-    private LabelsApi labelsApi;
-    private LicenseApi licenseApi;
-    private LicenseTemplatesApi licenseTemplatesApi;
-    private MarkdownApi markdownApi;
-    private MergeRequestApi mergeRequestApi;
-    private MilestonesApi milestonesApi;
-    private NamespaceApi namespaceApi;
-    private NotesApi notesApi;
-    private NotificationSettingsApi notificationSettingsApi;
-    private PackagesApi packagesApi;
-    private PersonalAccessTokenApi personalAccessTokenApi;
-    private PipelineApi pipelineApi;
-    private ProjectApi projectApi;
-    private ProtectedBranchesApi protectedBranchesApi;
-    private ReleaseLinksApi releaseLinksApi;
-    private ReleasesApi releasesApi;
-    private RepositoryApi repositoryApi;
-    private RepositoryFileApi repositoryFileApi;
-    private ResourceLabelEventsApi resourceLabelEventsApi;
-    private ResourceStateEventsApi resourceStateEventsApi;
-    private RunnersApi runnersApi;
-    private SearchApi searchApi;
-    private ServicesApi servicesApi;
-    private SnippetsApi snippetsApi;
-    private SystemHooksApi systemHooksApi;
-    private TagsApi tagsApi;
-    private TodosApi todosApi;
-    private TopicsApi topicsApi;
-    private UserApi userApi;
-    private WikisApi wikisApi;
-    private KeysApi keysApi;
-    private MetadataApi metadataApi;
+    private volatile PerPageTuner perPageTuner;
+    private volatile ContentCache contentCache;
+
+    // The sub API instances are created lazily, volatile makes the double-checked creation safe. The creation
+    // is guarded by a lock rather than a monitor, which would pin a virtual thread to its carrier thread.
+    private final ReentrantLock apiLock = new ReentrantLock();
+    private volatile AsyncGitLabApi asyncGitLabApi;
+    private volatile ApplicationsApi applicationsApi;
+    private volatile ApplicationSettingsApi applicationSettingsApi;
+    private volatile AuditEventApi auditEventApi;
+    private volatile AwardEmojiApi awardEmojiApi;
+    private volatile BoardsApi boardsApi;
+    private volatile CommitsApi commitsApi;
+    private volatile ContainerRegistryApi containerRegistryApi;
+    private volatile DiscussionsApi discussionsApi;
+    private volatile DeployKeysApi deployKeysApi;
+    private volatile DeploymentsApi deploymentsApi;
+    private volatile DeployTokensApi deployTokensApi;
+    private volatile EnvironmentsApi environmentsApi;
+    private volatile EpicsApi epicsApi;
+    private volatile EventsApi eventsApi;
+    private volatile ExternalStatusCheckApi externalStatusCheckApi;
+    private volatile GitLabCiYamlApi gitLabCiYaml;
+    private volatile GroupApi groupApi;
+    private volatile HealthCheckApi healthCheckApi;
+    private volatile ImportExportApi importExportApi;
+    private volatile IssuesApi issuesApi;
+    private volatile JobApi jobApi;
+    private volatile LabelsApi labelsApi;
+    private volatile LicenseApi licenseApi;
+    private volatile LicenseTemplatesApi licenseTemplatesApi;
+    private volatile MarkdownApi markdownApi;
+    private volatile MergeRequestApi mergeRequestApi;
+    private volatile MilestonesApi milestonesApi;
+    private volatile NamespaceApi namespaceApi;
+    private volatile NotesApi notesApi;
+    private volatile NotificationSettingsApi notificationSettingsApi;
+    private volatile PackagesApi packagesApi;
+    private volatile PersonalAccessTokenApi personalAccessTokenApi;
+    private volatile PipelineApi pipelineApi;
+    private volatile ProjectApi projectApi;
+    private volatile ProtectedBranchesApi protectedBranchesApi;
+    private volatile ReleaseLinksApi releaseLinksApi;
+    private volatile ReleasesApi releasesApi;
+    private volatile RepositoryApi repositoryApi;
+    private volatile RepositoryFileApi repositoryFileApi;
+    private volatile ResourceLabelEventsApi resourceLabelEventsApi;
+    private volatile ResourceStateEventsApi resourceStateEventsApi;
+    private volatile RunnersApi runnersApi;
+    private volatile SearchApi searchApi;
+    private volatile ServicesApi servicesApi;
+    private volatile SnippetsApi snippetsApi;
+    private volatile SystemHooksApi systemHooksApi;
+    private volatile TagsApi tagsApi;
+    private volatile TodosApi todosApi;
+    private volatile TopicsApi topicsApi;
+    private volatile UserApi userApi;
+    private volatile WikisApi wikisApi;
+    private volatile KeysApi keysApi;
+    private volatile MetadataApi metadataApi;
 
     /**
      * Get the GitLab4J shared Logger instance.
@@ -519,6 +527,73 @@ public class GitLabApi implements AutoCloseable {
         apiClient = new GitLabApiClient(apiVersion, hostUrl, tokenType, authToken, secretToken, clientConfigProperties);
     }
 
+    /**
+     * Constructs a view of the provided GitLabApi instance that makes its requests with the provided client.
+     *
+     * @param gitLabApi the GitLabApi instance to make a view of
+     * @param apiClient the client of the view
+     */
+    private GitLabApi(GitLabApi gitLabApi, GitLabApiClient apiClient) {
+        this.apiVersion = gitLabApi.apiVersion;
+        this.gitLabServerUrl = gitLabApi.gitLabServerUrl;
+        this.clientConfigProperties = gitLabApi.clientConfigProperties;
+        this.defaultPerPage = gitLabApi.defaultPerPage;
+        this.perPageTuner = gitLabApi.perPageTuner;
+        this.contentCache = gitLabApi.contentCache;
+        this.apiClient = apiClient;
+    }
+
+    /**
+     * Get a lightweight view of this GitLabApi instance that makes its requests with the provided RequestContext,
+     * for example as another user with a shorter timeout. The view shares the HTTP client, the connection pool,
+     * the caches and the request policies of this instance, which makes it much cheaper than {@link #duplicate()}.
+     * Closing the view does not close the HTTP client of this instance.
+     *
+     * <p>The view takes a snapshot of the caches and request policies set on this instance when it is created,
+     * such as the RetryPolicy, the RateLimitScheduler, the CircuitBreaker, the HedgingPolicy and the
+     * MetricsRecorder. Setting them on this instance afterwards does not change the views already created, nor
+     * does setting them on a view change this instance. Views are cheap, create them for each unit of work
+     * rather than keeping them.</p>
+     *
+     * @param context the RequestContext of the requests made by the view
+     * @return a view of this GitLabApi instance that makes its requests with the provided RequestContext
+     */
+    public GitLabApi forContext(RequestContext context) {
+        return (new GitLabApi(this, apiClient.forContext(context)));
+    }
+
+    /**
+     * Get a lightweight view of this GitLabApi instance whose requests must complete within the provided
+     * number of milliseconds from now, for example to bound a multi-page {@link Pager#all()} call or a download
+     * to the time left to the caller. Requests are not started once the deadline has passed, their timeouts are
+     * shortened to the time left, and the reading of a response still open at the deadline is cancelled, all
+     * failing with a {@link GitLabApiTimeoutException}. The other settings of the RequestContext of this
+     * instance, if any, are kept.
+     *
+     * <p>Example usage:</p>
+     *
+     * <pre>
+     *   List&lt;Issue&gt; issues = gitLabApi.forDeadlineIn(30000).getIssuesApi().getIssues(projectId, 100).all();
+     * </pre>
+     *
+     * @param timeoutMillis the number of milliseconds from now to the deadline
+     * @return a view of this GitLabApi instance whose requests must complete before the deadline
+     */
+    public GitLabApi forDeadlineIn(long timeoutMillis) {
+        RequestContext context = apiClient.getContext();
+        return (forContext((context != null ? context : RequestContext.create()).withDeadlineIn(timeoutMillis)));
+    }
+
+    /**
+     * Get the RequestContext of the requests made by this GitLabApi instance.
+     *
+     * @return the RequestContext of the requests made by this GitLabApi instance, or null if this is not a view
+     * made with {@link #forContext(RequestContext)}
+     */
+    public RequestContext getContext() {
+        return (apiClient.getContext());
+    }
+
     /**
      * Create a new GitLabApi instance that is logically a duplicate of this instance, with the exception of sudo state.
      *
@@ -538,6 +613,17 @@ public class GitLabApi implements AutoCloseable {
         }
 
         gitLabApi.defaultPerPage = this.defaultPerPage;
+        gitLabApi.perPageTuner = this.perPageTuner;
+        gitLabApi.contentCache = this.contentCache;
+        gitLabApi.setTokenPool(getTokenPool());
+        gitLabApi.setGeoRouter(getGeoRouter());
+        gitLabApi.setHedgingPolicy(getHedgingPolicy());
+        gitLabApi.setMetricsRecorder(getMetricsRecorder());
+        gitLabApi.setRateLimitScheduler(getRateLimitScheduler());
+        gitLabApi.setRetryPolicy(getRetryPolicy());
+        gitLabApi.setCircuitBreaker(getCircuitBreaker());
+        gitLabApi.setETagCache(getETagCache());
+        gitLabApi.setRequestCoalescing(isRequestCoalescing());
         return (gitLabApi);
     }
 
@@ -546,11 +632,64 @@ public class GitLabApi implements AutoCloseable {
      */
     @Override
     public void close() {
+
+        if (asyncGitLabApi != null) {
+            asyncGitLabApi.close();
+        }
+
         if (apiClient != null) {
             apiClient.close();
         }
     }
 
+    /**
+     * Gets the AsyncGitLabApi instance owned by this GitLabApi instance, used to make calls to the GitLab API
+     * asynchronously. The calls are made on a pool of {@link AsyncGitLabApi#DEFAULT_THREADS} daemon threads
+     * which is shut down when this GitLabApi instance is closed. Each call holds a thread of the pool until it
+     * completes, use {@link #async(int)} to have more calls in flight at the same time.
+     *
+     * @return the AsyncGitLabApi instance owned by this GitLabApi instance
+     */
+    public AsyncGitLabApi async() {
+
+        if (asyncGitLabApi == null) {
+            apiLock.lock();
+            try {
+                if (asyncGitLabApi == null) {
+                    asyncGitLabApi = new AsyncGitLabApi(this, AsyncGitLabApi.DEFAULT_THREADS);
+                }
+            } finally {
+                apiLock.unlock();
+            }
+        }
+
+        return (asyncGitLabApi);
+    }
+
+    /**
+     * Creates an AsyncGitLabApi instance that makes calls to the GitLab API asynchronously on its own pool of
+     * the specified number of daemon threads, with this GitLabApi instance. Each call holds a thread of the pool
+     * until it completes, so this is the number of calls in flight at the same time. The pool is shut down when
+     * the returned AsyncGitLabApi instance is closed.
+     *
+     * @param threads the number of threads of the pool, must be greater than 0
+     * @return a new AsyncGitLabApi instance making the calls on its own pool of threads
+     */
+    public AsyncGitLabApi async(int threads) {
+        return (new AsyncGitLabApi(this, threads));
+    }
+
+    /**
+     * Creates an AsyncGitLabApi instance that makes calls to the GitLab API asynchronously on the provided
+     * Executor, with this GitLabApi instance.
+     *
+     * @param executor the Executor to make the calls on
+     * @return a new AsyncGitLabApi instance making the calls on the provided Executor
+     */
+    public AsyncGitLabApi async(Executor executor) {
+        return (new AsyncGitLabApi(this, executor));
+    }
+
     /**
      * Sets the per request connect and read timeout.
      *
@@ -573,6 +712,284 @@ public class GitLabApi implements AutoCloseable {
         return (this);
     }
 
+    /**
+     * Get the MetricsRecorder that records the metrics of the requests to the GitLab server.
+     *
+     * @return the MetricsRecorder that records the metrics of the requests, or null if no metrics are recorded
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return (apiClient.getMetricsRecorder());
+    }
+
+    /**
+     * Set the MetricsRecorder that records the metrics of the requests to the GitLab server, per endpoint template
+     * such as "projects/:id/merge_requests/:iid": the status and latency of each request, the bytes in and out,
+     * the retries, and the pages fetched by Pager instances. See {@link InMemoryMetricsRecorder}.
+     *
+     * @param metricsRecorder the MetricsRecorder to use, or null to stop recording metrics
+     */
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        apiClient.setMetricsRecorder(metricsRecorder);
+    }
+
+    /**
+     * Fluent method that sets the MetricsRecorder that records the metrics of the requests to the GitLab server.
+     *
+     * @param metricsRecorder the MetricsRecorder to use, or null to stop recording metrics
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withMetricsRecorder(MetricsRecorder metricsRecorder) {
+        apiClient.setMetricsRecorder(metricsRecorder);
+        return (this);
+    }
+
+    /**
+     * Get the HedgingPolicy used to hedge the slow GET requests to the GitLab server.
+     *
+     * @return the HedgingPolicy used to hedge the slow GET requests, or null if the requests are not hedged
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return (apiClient.getHedgingPolicy());
+    }
+
+    /**
+     * Set the HedgingPolicy used to hedge the slow GET requests to the GitLab server, a GET request without
+     * a response after a percentile of the response times is sent again and the first response is used.
+     * The same HedgingPolicy can be set on several GitLabApi instances to share its response times and budget.
+     *
+     * @param hedgingPolicy the HedgingPolicy to use, or null to stop hedging the requests
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        apiClient.setHedgingPolicy(hedgingPolicy);
+    }
+
+    /**
+     * Fluent method that sets the HedgingPolicy used to hedge the slow GET requests to the GitLab server.
+     *
+     * @param hedgingPolicy the HedgingPolicy to use, or null to stop hedging the requests
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        apiClient.setHedgingPolicy(hedgingPolicy);
+        return (this);
+    }
+
+    /**
+     * Get the GeoRouter that routes the reads to GitLab Geo secondary sites.
+     *
+     * @return the GeoRouter that routes the reads, or null if all the requests are sent to the GitLab server
+     */
+    public GeoRouter getGeoRouter() {
+        return (apiClient.getGeoRouter());
+    }
+
+    /**
+     * Set the GeoRouter that routes the reads to GitLab Geo secondary sites, the writes and the reads
+     * after a write are still sent to the GitLab server of this GitLabApi instance, the primary site.
+     *
+     * @param geoRouter the GeoRouter to route the reads with, or null to send all the requests to the GitLab server
+     */
+    public void setGeoRouter(GeoRouter geoRouter) {
+        apiClient.setGeoRouter(geoRouter);
+    }
+
+    /**
+     * Fluent method that sets the GeoRouter that routes the reads to GitLab Geo secondary sites.
+     *
+     * @param geoRouter the GeoRouter to route the reads with, or null to send all the requests to the GitLab server
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withGeoRouter(GeoRouter geoRouter) {
+        apiClient.setGeoRouter(geoRouter);
+        return (this);
+    }
+
+    /**
+     * Get the TokenPool the requests to the GitLab server are spread across.
+     *
+     * @return the TokenPool the requests are spread across, or null if the requests are made with the auth token
+     */
+    public TokenPool getTokenPool() {
+        return (apiClient.getTokenPool());
+    }
+
+    /**
+     * Set the TokenPool to spread the requests to the GitLab server across, so the requests are not limited
+     * by the rate limit of a single token. Each request is made with the token selected by the pool instead
+     * of the auth token of this GitLabApi instance.
+     *
+     * @param tokenPool the TokenPool to spread the requests across, or null to make them with the auth token
+     */
+    public void setTokenPool(TokenPool tokenPool) {
+        apiClient.setTokenPool(tokenPool);
+    }
+
+    /**
+     * Fluent method that sets the TokenPool to spread the requests to the GitLab server across.
+     *
+     * @param tokenPool the TokenPool to spread the requests across, or null to make them with the auth token
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withTokenPool(TokenPool tokenPool) {
+        apiClient.setTokenPool(tokenPool);
+        return (this);
+    }
+
+    /**
+     * Get the RateLimitScheduler used to pace the requests to the GitLab server.
+     *
+     * @return the RateLimitScheduler used to pace the requests, or null if the requests are not paced
+     */
+    public RateLimitScheduler getRateLimitScheduler() {
+        return (apiClient.getRateLimitScheduler());
+    }
+
+    /**
+     * Set the RateLimitScheduler used to pace the requests to the GitLab server, to stay under the rate limits
+     * of the server instead of failing with "429 Too Many Requests" responses. The same RateLimitScheduler
+     * can be set on several GitLabApi instances to share the budget of a host and token.
+     *
+     * @param rateLimitScheduler the RateLimitScheduler to use, or null to stop pacing the requests
+     */
+    public void setRateLimitScheduler(RateLimitScheduler rateLimitScheduler) {
+        apiClient.setRateLimitScheduler(rateLimitScheduler);
+    }
+
+    /**
+     * Fluent method that sets the RateLimitScheduler used to pace the requests to the GitLab server.
+     *
+     * @param rateLimitScheduler the RateLimitScheduler to use, or null to stop pacing the requests
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withRateLimitScheduler(RateLimitScheduler rateLimitScheduler) {
+        apiClient.setRateLimitScheduler(rateLimitScheduler);
+        return (this);
+    }
+
+    /**
+     * Get the RetryPolicy used to retry the requests that fail with a transient error.
+     *
+     * @return the RetryPolicy used to retry the requests, or null if the requests are not retried
+     */
+    public RetryPolicy getRetryPolicy() {
+        return (apiClient.getRetryPolicy());
+    }
+
+    /**
+     * Set the RetryPolicy used to retry the requests that fail with a transient error, such as the 502 and 503
+     * responses returned while the GitLab server is being restarted. The retry counts are available from the
+     * RetryPolicy.
+     *
+     * @param retryPolicy the RetryPolicy to use, or null to stop retrying the requests
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        apiClient.setRetryPolicy(retryPolicy);
+    }
+
+    /**
+     * Fluent method that sets the RetryPolicy used to retry the requests that fail with a transient error.
+     *
+     * @param retryPolicy the RetryPolicy to use, or null to stop retrying the requests
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withRetryPolicy(RetryPolicy retryPolicy) {
+        apiClient.setRetryPolicy(retryPolicy);
+        return (this);
+    }
+
+    /**
+     * Get the CircuitBreaker used to fail fast when the GitLab server is failing.
+     *
+     * @return the CircuitBreaker used to fail fast when the GitLab server is failing, or null if not set
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return (apiClient.getCircuitBreaker());
+    }
+
+    /**
+     * Set the CircuitBreaker used to fail fast when the GitLab server is failing. While the circuit of the
+     * server is open the requests fail immediately with a {@link CircuitBreakerOpenException} instead of
+     * waiting for the read timeout.
+     *
+     * @param circuitBreaker the CircuitBreaker to use, or null to always send the requests
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        apiClient.setCircuitBreaker(circuitBreaker);
+    }
+
+    /**
+     * Fluent method that sets the CircuitBreaker used to fail fast when the GitLab server is failing.
+     *
+     * @param circuitBreaker the CircuitBreaker to use, or null to always send the requests
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withCircuitBreaker(CircuitBreaker circuitBreaker) {
+        apiClient.setCircuitBreaker(circuitBreaker);
+        return (this);
+    }
+
+    /**
+     * Get the ETagCache used to validate the responses of the GET requests with their entity tag.
+     *
+     * @return the ETagCache used to validate the responses of the GET requests, or null if not caching responses
+     */
+    public ETagCache getETagCache() {
+        return (apiClient.getETagCache());
+    }
+
+    /**
+     * Set the ETagCache used to validate the responses of the GET requests with their entity tag. When set,
+     * the GET requests are sent with an "If-None-Match" header and the cached response is returned when
+     * the GitLab server answers "304 Not Modified".
+     *
+     * @param eTagCache the ETagCache to use, or null to stop caching responses
+     */
+    public void setETagCache(ETagCache eTagCache) {
+        apiClient.setETagCache(eTagCache);
+    }
+
+    /**
+     * Fluent method that sets the ETagCache used to validate the responses of the GET requests.
+     *
+     * @param eTagCache the ETagCache to use, or null to stop caching responses
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withETagCache(ETagCache eTagCache) {
+        apiClient.setETagCache(eTagCache);
+        return (this);
+    }
+
+    /**
+     * Returns true if the identical GET requests made at the same time share a single call to the GitLab server.
+     *
+     * @return true if the identical GET requests made at the same time share a single call
+     */
+    public boolean isRequestCoalescing() {
+        return (apiClient.isRequestCoalescing());
+    }
+
+    /**
+     * Set whether the identical GET requests made at the same time share a single call to the GitLab server.
+     * When enabled, a GET request made while an identical request (same URL, query params, authentication token
+     * and sudo user) is in flight waits for that request and is given its response, instead of making another call.
+     *
+     * @param requestCoalescing true to share a single call between the identical GET requests made at the same time
+     */
+    public void setRequestCoalescing(boolean requestCoalescing) {
+        apiClient.setRequestCoalescing(requestCoalescing);
+    }
+
+    /**
+     * Fluent method that sets whether the identical GET requests made at the same time share a single call.
+     *
+     * @param requestCoalescing true to share a single call between the identical GET requests made at the same time
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withRequestCoalescing(boolean requestCoalescing) {
+        apiClient.setRequestCoalescing(requestCoalescing);
+        return (this);
+    }
+
     /**
      * Enable the logging of the requests to and the responses from the GitLab server API
      * using the GitLab4J shared Logger instance and Level.FINE as the level.
@@ -853,6 +1270,56 @@ public class GitLabApi implements AutoCloseable {
         this.defaultPerPage = defaultPerPage;
     }
 
+    /**
+     * Get the PerPageTuner used to select the number per page of Pager instances, null if adaptive per page
+     * selection is not enabled.
+     *
+     * @return the PerPageTuner used to select the number per page of Pager instances, or null
+     */
+    public PerPageTuner getPerPageTuner() {
+        return (perPageTuner);
+    }
+
+    /**
+     * Set the PerPageTuner used to select the number per page of Pager instances. When set, Pager instances
+     * created with the default number per page use the number per page tuned for their endpoint instead.
+     *
+     * @param perPageTuner the PerPageTuner to use, or null to disable adaptive per page selection
+     */
+    public void setPerPageTuner(PerPageTuner perPageTuner) {
+        this.perPageTuner = perPageTuner;
+    }
+
+    /**
+     * Get the ContentCache holding the commits, diffs and blobs fetched by SHA, null if not caching them.
+     *
+     * @return the ContentCache holding the commits, diffs and blobs fetched by SHA, or null
+     */
+    public ContentCache getContentCache() {
+        return (contentCache);
+    }
+
+    /**
+     * Set the ContentCache holding the commits, diffs and blobs fetched by SHA. As these can never change
+     * they are returned from the cache without making a request to the GitLab server.
+     *
+     * @param contentCache the ContentCache to use, or null to stop caching the resources fetched by SHA
+     */
+    public void setContentCache(ContentCache contentCache) {
+        this.contentCache = contentCache;
+    }
+
+    /**
+     * Fluent method that sets the ContentCache holding the commits, diffs and blobs fetched by SHA.
+     *
+     * @param contentCache the ContentCache to use, or null to stop caching the resources fetched by SHA
+     * @return this GitLabApi instance
+     */
+    public GitLabApi withContentCache(ContentCache contentCache) {
+        this.contentCache = contentCache;
+        return (this);
+    }
+
     /**
      * Return the GitLabApiClient associated with this instance. This is used by all the sub API classes
      * to communicate with the GitLab API.
@@ -876,6 +1343,8 @@ public class GitLabApi implements AutoCloseable {
      * Sets up the Jersey system ignore SSL certificate errors or not.
      *
      * @param ignoreCertificateErrors if true will set up the Jersey system ignore SSL certificate errors
+     * @throws IllegalStateException if ignoreCertificateErrors is true and this instance uses a
+     * {@link SharedConnectionPool}, see {@link SharedConnectionPool#getClientConfigProperties()}
      */
     public void setIgnoreCertificateErrors(boolean ignoreCertificateErrors) {
         apiClient.setIgnoreCertificateErrors(ignoreCertificateErrors);
@@ -908,10 +1377,13 @@ public class GitLabApi implements AutoCloseable {
     public ApplicationsApi getApplicationsApi() {
 
         if (applicationsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (applicationsApi == null) {
                     applicationsApi = new ApplicationsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -927,10 +1399,13 @@ public class GitLabApi implements AutoCloseable {
     public ApplicationSettingsApi getApplicationSettingsApi() {
 
         if (applicationSettingsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (applicationSettingsApi == null) {
                     applicationSettingsApi = new ApplicationSettingsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -946,10 +1421,13 @@ public class GitLabApi implements AutoCloseable {
     public AuditEventApi getAuditEventApi() {
 
         if (auditEventApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (auditEventApi == null) {
                     auditEventApi = new AuditEventApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -965,10 +1443,13 @@ public class GitLabApi implements AutoCloseable {
     public AwardEmojiApi getAwardEmojiApi() {
 
         if (awardEmojiApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (awardEmojiApi == null) {
                     awardEmojiApi = new AwardEmojiApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -984,10 +1465,13 @@ public class GitLabApi implements AutoCloseable {
     public BoardsApi getBoardsApi() {
 
         if (boardsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (boardsApi == null) {
                     boardsApi = new BoardsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1003,10 +1487,13 @@ public class GitLabApi implements AutoCloseable {
     public CommitsApi getCommitsApi() {
 
         if (commitsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (commitsApi == null) {
                     commitsApi = new CommitsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1022,10 +1509,13 @@ public class GitLabApi implements AutoCloseable {
     public ContainerRegistryApi getContainerRegistryApi() {
 
         if (containerRegistryApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (containerRegistryApi == null) {
                     containerRegistryApi = new ContainerRegistryApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1041,10 +1531,13 @@ public class GitLabApi implements AutoCloseable {
     public DeployKeysApi getDeployKeysApi() {
 
         if (deployKeysApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (deployKeysApi == null) {
                     deployKeysApi = new DeployKeysApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1060,10 +1553,13 @@ public class GitLabApi implements AutoCloseable {
     public DeploymentsApi getDeploymentsApi() {
 
         if (deploymentsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (deploymentsApi == null) {
                     deploymentsApi = new DeploymentsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1079,10 +1575,13 @@ public class GitLabApi implements AutoCloseable {
     public DeployTokensApi getDeployTokensApi() {
 
         if (deployTokensApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (deployTokensApi == null) {
                     deployTokensApi = new DeployTokensApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1098,10 +1597,13 @@ public class GitLabApi implements AutoCloseable {
     public DiscussionsApi getDiscussionsApi() {
 
         if (discussionsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (discussionsApi == null) {
                     discussionsApi = new DiscussionsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1117,10 +1619,13 @@ public class GitLabApi implements AutoCloseable {
     public EnvironmentsApi getEnvironmentsApi() {
 
         if (environmentsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (environmentsApi == null) {
                     environmentsApi = new EnvironmentsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1136,10 +1641,13 @@ public class GitLabApi implements AutoCloseable {
     public EpicsApi getEpicsApi() {
 
         if (epicsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (epicsApi == null) {
                     epicsApi = new EpicsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1155,10 +1663,13 @@ public class GitLabApi implements AutoCloseable {
     public EventsApi getEventsApi() {
 
         if (eventsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (eventsApi == null) {
                     eventsApi = new EventsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1174,10 +1685,13 @@ public class GitLabApi implements AutoCloseable {
     public ExternalStatusCheckApi getExternalStatusCheckApi() {
 
         if (externalStatusCheckApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (externalStatusCheckApi == null) {
                     externalStatusCheckApi = new ExternalStatusCheckApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1190,10 +1704,13 @@ public class GitLabApi implements AutoCloseable {
      * @return the GitLabCiYamlApi instance owned by this GitLabApi instance
      */
     public GitLabCiYamlApi getGitLabCiYamlApi() {
-        synchronized (this) {
+        apiLock.lock();
+        try {
             if (gitLabCiYaml == null) {
                 gitLabCiYaml = new GitLabCiYamlApi(this);
             }
+        } finally {
+            apiLock.unlock();
         }
         return gitLabCiYaml;
     }
@@ -1207,10 +1724,13 @@ public class GitLabApi implements AutoCloseable {
     public GroupApi getGroupApi() {
 
         if (groupApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (groupApi == null) {
                     groupApi = new GroupApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1226,10 +1746,13 @@ public class GitLabApi implements AutoCloseable {
     public HealthCheckApi getHealthCheckApi() {
 
         if (healthCheckApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (healthCheckApi == null) {
                     healthCheckApi = new HealthCheckApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1245,10 +1768,13 @@ public class GitLabApi implements AutoCloseable {
     public ImportExportApi getImportExportApi() {
 
         if (importExportApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (importExportApi == null) {
                     importExportApi = new ImportExportApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1264,10 +1790,13 @@ public class GitLabApi implements AutoCloseable {
     public IssuesApi getIssuesApi() {
 
         if (issuesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (issuesApi == null) {
                     issuesApi = new IssuesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1283,10 +1812,13 @@ public class GitLabApi implements AutoCloseable {
     public JobApi getJobApi() {
 
         if (jobApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (jobApi == null) {
                     jobApi = new JobApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1296,10 +1828,13 @@ public class GitLabApi implements AutoCloseable {
     public LabelsApi getLabelsApi() {
 
         if (labelsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (labelsApi == null) {
                     labelsApi = new LabelsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1315,10 +1850,13 @@ public class GitLabApi implements AutoCloseable {
     public LicenseApi getLicenseApi() {
 
         if (licenseApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (licenseApi == null) {
                     licenseApi = new LicenseApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1334,10 +1872,13 @@ public class GitLabApi implements AutoCloseable {
     public LicenseTemplatesApi getLicenseTemplatesApi() {
 
         if (licenseTemplatesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (licenseTemplatesApi == null) {
                     licenseTemplatesApi = new LicenseTemplatesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1353,10 +1894,13 @@ public class GitLabApi implements AutoCloseable {
     public MarkdownApi getMarkdownApi() {
 
         if (markdownApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (markdownApi == null) {
                     markdownApi = new MarkdownApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1372,10 +1916,13 @@ public class GitLabApi implements AutoCloseable {
     public MergeRequestApi getMergeRequestApi() {
 
         if (mergeRequestApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (mergeRequestApi == null) {
                     mergeRequestApi = new MergeRequestApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1390,10 +1937,13 @@ public class GitLabApi implements AutoCloseable {
     public MilestonesApi getMilestonesApi() {
 
         if (milestonesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (milestonesApi == null) {
                     milestonesApi = new MilestonesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1409,10 +1959,13 @@ public class GitLabApi implements AutoCloseable {
     public NamespaceApi getNamespaceApi() {
 
         if (namespaceApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (namespaceApi == null) {
                     namespaceApi = new NamespaceApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1428,10 +1981,13 @@ public class GitLabApi implements AutoCloseable {
     public NotesApi getNotesApi() {
 
         if (notesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (notesApi == null) {
                     notesApi = new NotesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1447,10 +2003,13 @@ public class GitLabApi implements AutoCloseable {
     public NotificationSettingsApi getNotificationSettingsApi() {
 
         if (notificationSettingsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (notificationSettingsApi == null) {
                     notificationSettingsApi = new NotificationSettingsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1466,10 +2025,13 @@ public class GitLabApi implements AutoCloseable {
     public PackagesApi getPackagesApi() {
 
         if (packagesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (packagesApi == null) {
                     packagesApi = new PackagesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1485,10 +2047,13 @@ public class GitLabApi implements AutoCloseable {
     public PersonalAccessTokenApi getPersonalAccessTokenApi() {
 
         if (personalAccessTokenApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (personalAccessTokenApi == null) {
                     personalAccessTokenApi = new PersonalAccessTokenApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1504,10 +2069,13 @@ public class GitLabApi implements AutoCloseable {
     public PipelineApi getPipelineApi() {
 
         if (pipelineApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (pipelineApi == null) {
                     pipelineApi = new PipelineApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1523,10 +2091,13 @@ public class GitLabApi implements AutoCloseable {
     public ProjectApi getProjectApi() {
 
         if (projectApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (projectApi == null) {
                     projectApi = new ProjectApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1542,10 +2113,13 @@ public class GitLabApi implements AutoCloseable {
     public ProtectedBranchesApi getProtectedBranchesApi() {
 
         if (this.protectedBranchesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (this.protectedBranchesApi == null) {
                     this.protectedBranchesApi = new ProtectedBranchesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1561,10 +2135,13 @@ public class GitLabApi implements AutoCloseable {
     public ReleaseLinksApi getReleaseLinksApi() {
 
         if (releaseLinksApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (releaseLinksApi == null) {
                     releaseLinksApi = new ReleaseLinksApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1580,10 +2157,13 @@ public class GitLabApi implements AutoCloseable {
     public ReleasesApi getReleasesApi() {
 
         if (releasesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (releasesApi == null) {
                     releasesApi = new ReleasesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1599,10 +2179,13 @@ public class GitLabApi implements AutoCloseable {
     public RepositoryApi getRepositoryApi() {
 
         if (repositoryApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (repositoryApi == null) {
                     repositoryApi = new RepositoryApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1618,10 +2201,13 @@ public class GitLabApi implements AutoCloseable {
     public RepositoryFileApi getRepositoryFileApi() {
 
         if (repositoryFileApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (repositoryFileApi == null) {
                     repositoryFileApi = new RepositoryFileApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1637,10 +2223,13 @@ public class GitLabApi implements AutoCloseable {
     public ResourceLabelEventsApi getResourceLabelEventsApi() {
 
         if (resourceLabelEventsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (resourceLabelEventsApi == null) {
                     resourceLabelEventsApi = new ResourceLabelEventsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1656,10 +2245,13 @@ public class GitLabApi implements AutoCloseable {
     public ResourceStateEventsApi getResourceStateEventsApi() {
 
         if (resourceStateEventsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (resourceStateEventsApi == null) {
                     resourceStateEventsApi = new ResourceStateEventsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1675,10 +2267,13 @@ public class GitLabApi implements AutoCloseable {
     public RunnersApi getRunnersApi() {
 
         if (runnersApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (runnersApi == null) {
                     runnersApi = new RunnersApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1694,10 +2289,13 @@ public class GitLabApi implements AutoCloseable {
     public SearchApi getSearchApi() {
 
         if (searchApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (searchApi == null) {
                     searchApi = new SearchApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1713,10 +2311,13 @@ public class GitLabApi implements AutoCloseable {
     public ServicesApi getServicesApi() {
 
         if (servicesApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (servicesApi == null) {
                     servicesApi = new ServicesApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1732,10 +2333,13 @@ public class GitLabApi implements AutoCloseable {
     public SystemHooksApi getSystemHooksApi() {
 
         if (systemHooksApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (systemHooksApi == null) {
                     systemHooksApi = new SystemHooksApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1751,10 +2355,13 @@ public class GitLabApi implements AutoCloseable {
     public TagsApi getTagsApi() {
 
         if (tagsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (tagsApi == null) {
                     tagsApi = new TagsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1770,10 +2377,13 @@ public class GitLabApi implements AutoCloseable {
     public TopicsApi getTopicsApi() {
 
         if (topicsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (topicsApi == null) {
                     topicsApi = new TopicsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1788,10 +2398,13 @@ public class GitLabApi implements AutoCloseable {
      */
     public SnippetsApi getSnippetApi() {
         if (snippetsApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (snippetsApi == null) {
                     snippetsApi = new SnippetsApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1805,10 +2418,13 @@ public class GitLabApi implements AutoCloseable {
      */
     public TodosApi getTodosApi() {
         if (todosApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (todosApi == null) {
                     todosApi = new TodosApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1824,10 +2440,13 @@ public class GitLabApi implements AutoCloseable {
     public UserApi getUserApi() {
 
         if (userApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (userApi == null) {
                     userApi = new UserApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1841,10 +2460,13 @@ public class GitLabApi implements AutoCloseable {
      */
     public WikisApi getWikisApi() {
         if (wikisApi == null) {
-            synchronized (this) {
+            apiLock.lock();
+            try {
                 if (wikisApi == null) {
                     wikisApi = new WikisApi(this);
                 }
+            } finally {
+                apiLock.unlock();
             }
         }
 
@@ -1857,10 +2479,13 @@ public class GitLabApi implements AutoCloseable {
      * @return the KeysApi instance owned by this GitLabApi instance
      */
     public KeysApi getKeysAPI() {
-        synchronized (this) {
+        apiLock.lock();
+        try {
             if (keysApi == null) {
                 keysApi = new KeysApi(this);
             }
+        } finally {
+            apiLock.unlock();
         }
         return keysApi;
     }
@@ -1872,10 +2497,13 @@ public class GitLabApi implements AutoCloseable {
      * @return the MetadataApi instance owned by this GitlabApi instance
      */
     public MetadataApi getMetadataApi() {
-        synchronized (this) {
+        apiLock.lock();
+        try {
             if (metadataApi == null) {
                 metadataApi = new MetadataApi(this);
             }
+        } finally {
+            apiLock.unlock();
         }
         return metadataApi;
     }
@@ -11,6 +11,11 @@ import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -21,6 +26,8 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509ExtendedTrustManager;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
@@ -36,6 +43,7 @@ import org.gitlab4j.api.Constants.TokenType;
 import org.gitlab4j.api.GitLabApi.ApiVersion;
 import org.gitlab4j.api.utils.JacksonJson;
 import org.gitlab4j.api.utils.MaskingLoggingFilter;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
 import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
@@ -61,8 +69,24 @@ public class GitLabApiClient implements AutoCloseable {
     protected static final String AUTHORIZATION_HEADER = "Authorization";
     protected static final String X_GITLAB_TOKEN_HEADER = "X-Gitlab-Token";
 
+    // The token of the TokenPool selected for the request being made by the current thread
+    private static final ThreadLocal<String> POOLED_TOKEN = new ThreadLocal<>();
+
+    // The URL of the Geo secondary site the request being made by the current thread is sent to
+    private static final ThreadLocal<String> SECONDARY_URL = new ThreadLocal<>();
+
+    // The endpoint template of the request being measured by the current thread
+    private static final ThreadLocal<String> METRICS_ENDPOINT = new ThreadLocal<>();
+
+    // The URL last built from path arguments by the current thread, with the endpoint template of the path arguments
+    private static final ThreadLocal<PathEndpoint> PATH_ENDPOINT = ThreadLocal.withInitial(PathEndpoint::new);
+
     private ClientConfig clientConfig;
-    private Client apiClient;
+
+    // The Jersey Client is created on first use, guarded by a lock rather than a monitor so that
+    // a virtual thread creating it is not pinned to its carrier thread
+    private volatile Client apiClient;
+    private final ReentrantLock apiClientLock = new ReentrantLock();
     private String baseUrl;
     private String hostUrl;
     private TokenType tokenType = TokenType.PRIVATE;
@@ -74,6 +98,18 @@ public class GitLabApiClient implements AutoCloseable {
     private Long sudoAsId;
     private Integer connectTimeout;
     private Integer readTimeout;
+    private volatile TokenPool tokenPool;
+    private volatile GeoRouter geoRouter;
+    private volatile HedgingPolicy hedgingPolicy;
+    private volatile MetricsRecorder metricsRecorder;
+    private volatile RateLimitScheduler rateLimitScheduler;
+    private volatile RetryPolicy retryPolicy;
+    private volatile CircuitBreaker circuitBreaker;
+    private volatile ETagCache eTagCache;
+    private volatile boolean requestCoalescing;
+    private Map<String, CompletableFuture<BufferedResponse>> inFlightRequests = new ConcurrentHashMap<>();
+    private RequestContext context;
+    private boolean sharedClient;
 
     /**
      * Construct an instance to communicate with a GitLab API server using the specified GitLab API version,
@@ -246,7 +282,9 @@ public class GitLabApiClient implements AutoCloseable {
         clientConfig = new ClientConfig();
         if (clientConfigProperties != null) {
 
-            if (clientConfigProperties.containsKey(ClientProperties.PROXY_URI)) {
+            // A proxy server and a SharedConnectionPool require the Apache HTTP client connector
+            if (clientConfigProperties.containsKey(ClientProperties.PROXY_URI)
+                    || clientConfigProperties.containsKey(ApacheClientProperties.CONNECTION_MANAGER)) {
                 clientConfig.connectorProvider(new ApacheConnectorProvider());
             }
 
@@ -263,14 +301,78 @@ public class GitLabApiClient implements AutoCloseable {
         clientConfig.register(JacksonJson.class);
         clientConfig.register(JacksonFeature.class);
         clientConfig.register(MultiPartFeature.class);
+
+        // Cancels the reading of response entities once the deadline of the RequestContext has passed
+        clientConfig.register(new DeadlineFilter());
+
+        // Counts the bytes of the request and response entities when a MetricsRecorder is set
+        clientConfig.register(new MetricsFilter());
     }
 
     /**
-     * Close the underlying {@link Client} and its associated resources.
+     * Construct a view of the provided client that makes its requests with the provided RequestContext. The view
+     * shares the Jersey Client, the authentication and the request policies of the provided client. The request
+     * policies are copied, setting them on the provided client afterwards does not change the view.
+     *
+     * @param client the client to make a view of
+     * @param context the RequestContext of the requests made by the view
+     */
+    private GitLabApiClient(GitLabApiClient client, RequestContext context) {
+
+        this.clientConfig = client.clientConfig;
+        this.apiClient = client.getOrCreateApiClient();
+        this.sharedClient = true;
+        this.baseUrl = client.baseUrl;
+        this.hostUrl = client.hostUrl;
+        this.tokenType = client.tokenType;
+        this.authToken = client.authToken;
+        this.secretToken = client.secretToken;
+        this.ignoreCertificateErrors = client.ignoreCertificateErrors;
+        this.openSslContext = client.openSslContext;
+        this.openHostnameVerifier = client.openHostnameVerifier;
+        this.sudoAsId = client.sudoAsId;
+        this.connectTimeout = client.connectTimeout;
+        this.readTimeout = client.readTimeout;
+        this.tokenPool = client.tokenPool;
+        this.geoRouter = client.geoRouter;
+        this.hedgingPolicy = client.hedgingPolicy;
+        this.metricsRecorder = client.metricsRecorder;
+        this.rateLimitScheduler = client.rateLimitScheduler;
+        this.retryPolicy = client.retryPolicy;
+        this.circuitBreaker = client.circuitBreaker;
+        this.eTagCache = client.eTagCache;
+        this.requestCoalescing = client.requestCoalescing;
+        this.inFlightRequests = client.inFlightRequests;
+        this.context = context;
+    }
+
+    /**
+     * Get a view of this client that makes its requests with the provided RequestContext. The view shares
+     * the Jersey Client of this client, closing the view does not close it.
+     *
+     * @param context the RequestContext of the requests made by the view
+     * @return a view of this client that makes its requests with the provided RequestContext
+     */
+    GitLabApiClient forContext(RequestContext context) {
+        return (new GitLabApiClient(this, context));
+    }
+
+    /**
+     * Get the RequestContext of the requests made by this client.
+     *
+     * @return the RequestContext of the requests made by this client, or null if not set
+     */
+    RequestContext getContext() {
+        return (context);
+    }
+
+    /**
+     * Close the underlying {@link Client} and its associated resources. A view made with
+     * {@link #forContext(RequestContext)} does not close the Client it shares.
      */
     @Override
     public void close() {
-        if (apiClient != null) {
+        if (apiClient != null && !sharedClient) {
             apiClient.close();
         }
     }
@@ -336,11 +438,13 @@ public class GitLabApiClient implements AutoCloseable {
     }
 
     /**
-     * Set the ID of the user to sudo as.
+     * Get the ID of the user to sudo as, the one of the RequestContext of this client if set.
      *
+     * @return the ID of the user to sudo as, or null if not set
      */
     Long getSudoAsId() {
-        return (sudoAsId);
+        Long contextSudoAsId = (context != null ? context.getSudoAsId() : null);
+        return (contextSudoAsId != null ? contextSudoAsId : sudoAsId);
     }
 
     /**
@@ -360,8 +464,19 @@ public class GitLabApiClient implements AutoCloseable {
      * @throws IOException if an error occurs while constructing the URL
      */
     protected URL getApiUrl(Object... pathArgs) throws IOException {
+
         String url = appendPathArgs(this.hostUrl, pathArgs);
-        return (new URL(url));
+        URL apiUrl = new URL(url);
+
+        // The path arguments tell the values apart from the other path segments, unlike the path of the URL,
+        // keep their endpoint template for the request made with the URL
+        if (metricsRecorder != null) {
+            PathEndpoint pathEndpoint = PATH_ENDPOINT.get();
+            pathEndpoint.url = apiUrl;
+            pathEndpoint.endpoint = EndpointTemplate.of(pathArgs);
+        }
+
+        return (apiUrl);
     }
 
     /**
@@ -428,7 +543,7 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a ClientResponse instance with the data returned from the endpoint
      */
     protected Response get(MultivaluedMap<String, String> queryParams, URL url) {
-        return (invocation(url, queryParams).get());
+        return (coalescedGet(queryParams, url, MediaType.APPLICATION_JSON));
     }
 
     /**
@@ -457,7 +572,146 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a ClientResponse instance with the data returned from the endpoint
      */
     protected Response getWithAccepts(MultivaluedMap<String, String> queryParams, URL url, String accepts) {
-        return (invocation(url, queryParams, accepts).get());
+        return (coalescedGet(queryParams, url, accepts));
+    }
+
+    /**
+     * Performs an HTTP GET call, sharing the call with the identical GET calls made at the same time if request
+     * coalescing is enabled. Calls are identical when made with the same URL, query params, Accept header,
+     * authentication token (or TokenPool), sudo user, RequestContext headers and deadline. Only the calls
+     * accepting JSON are shared, as the shared response is read into memory.
+     *
+     * @param queryParams multivalue map of request parameters
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param accepts if non-empty will set the Accepts header to this value
+     * @return a ClientResponse instance with the data returned from the endpoint
+     */
+    private Response coalescedGet(MultivaluedMap<String, String> queryParams, URL url, String accepts) {
+
+        if (!requestCoalescing || !MediaType.APPLICATION_JSON.equals(accepts)) {
+            return (conditionalGet(queryParams, url, accepts));
+        }
+
+        String key = getCoalescingKey(queryParams, url, accepts);
+        CompletableFuture<BufferedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<BufferedResponse> inFlight = inFlightRequests.putIfAbsent(key, flight);
+        if (inFlight != null) {
+
+            // Wait for the identical call in flight, each caller decodes the shared entity into its own instances
+            try {
+                return (inFlight.join().duplicate());
+            } catch (CompletionException ce) {
+
+                // The deadline of the shared call has passed, but not necessarily the deadline of this call
+                Throwable cause = ce.getCause();
+                GitLabApiTimeoutException timeout = (cause != null ? GitLabApiTimeoutException.findCause(cause) : null);
+                Long deadline = (context != null ? context.getDeadline() : null);
+                if (timeout != null && (deadline == null || System.currentTimeMillis() < deadline)) {
+                    return (conditionalGet(queryParams, url, accepts));
+                }
+
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw new ProcessingException(cause);
+            }
+        }
+
+        try {
+
+            Response response = conditionalGet(queryParams, url, accepts);
+            BufferedResponse buffered = (response instanceof BufferedResponse
+                    ? (BufferedResponse) response
+                    : BufferedResponse.of(response));
+            flight.complete(buffered);
+            return (buffered);
+
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, flight);
+        }
+    }
+
+    /**
+     * Get the key identifying the identical GET calls that can share one call.
+     *
+     * @param queryParams multivalue map of request parameters
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param accepts the Accept header of the call
+     * @return the key identifying the identical GET calls
+     */
+    String getCoalescingKey(MultivaluedMap<String, String> queryParams, URL url, String accepts) {
+
+        // The calls made with a TokenPool use any token of the pool, only share them with calls using the same pool
+        TokenPool pool = tokenPool;
+        String token = (pool != null ? String.join("\n", pool.getTokens()) : getRequestToken());
+        StringBuilder key = new StringBuilder(ETagCache.getKey(url, queryParams, accepts, token, getSudoAsId()));
+
+        RequestContext requestContext = context;
+        if (requestContext != null) {
+
+            for (Map.Entry<String, String> header : new TreeMap<>(requestContext.getHeaders()).entrySet()) {
+                key.append('\n').append(header.getKey()).append(": ").append(header.getValue());
+            }
+
+            if (requestContext.getDeadline() != null) {
+                key.append("\ndeadline: ").append(requestContext.getDeadline());
+            }
+        }
+
+        return (key.toString());
+    }
+
+    /**
+     * Performs an HTTP GET call, validating the cached response of the request with an "If-None-Match" header
+     * if an ETagCache is set. When the GitLab server answers "304 Not Modified" a duplicate of the cached response
+     * is returned, which decodes the entity into its own instances, and a successful response holding an "ETag"
+     * header is buffered and cached. Paged requests are not cached, see
+     * {@link ETagCache#isCacheable(URL, MultivaluedMap)}.
+     *
+     * @param queryParams multivalue map of request parameters
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param accepts if non-empty will set the Accepts header to this value
+     * @return a ClientResponse instance with the data returned from the endpoint
+     */
+    private Response conditionalGet(MultivaluedMap<String, String> queryParams, URL url, String accepts) {
+
+        ETagCache cache = eTagCache;
+        if (cache == null || !ETagCache.isCacheable(url, queryParams)) {
+            return (invoke(HttpMethod.GET, url, () -> invocation(url, queryParams, accepts).get()));
+        }
+
+        String key = ETagCache.getKey(url, queryParams, accepts, authToken.get(), getSudoAsId());
+        ETagCache.Entry cached = cache.get(key);
+        Response response = invoke(HttpMethod.GET, url, () -> {
+            Invocation.Builder builder = invocation(url, queryParams, accepts);
+            return (cached != null ? builder.header(Constants.IF_NONE_MATCH_HEADER, cached.getETag()) : builder).get();
+        });
+
+        int status = response.getStatus();
+        if (cached != null && status == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            response.close();
+            cache.record(true);
+            return (cached.getResponse().duplicate());
+        }
+
+        if (cached != null) {
+            cache.record(false);
+        }
+
+        String eTag = response.getHeaderString(Constants.ETAG_HEADER);
+        if (status != Response.Status.OK.getStatusCode() || eTag == null || eTag.trim().isEmpty()) {
+            return (response);
+        }
+
+        BufferedResponse buffered = BufferedResponse.of(response);
+        cache.put(key, eTag, buffered);
+        return (buffered);
     }
 
     /**
@@ -483,7 +737,7 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a ClientResponse instance with the data returned from the endpoint
      */
     protected Response head(MultivaluedMap<String, String> queryParams, URL url) {
-        return (invocation(url, queryParams).head());
+        return (invoke(HttpMethod.HEAD, url, () -> invocation(url, queryParams).head()));
     }
 
     /**
@@ -511,9 +765,9 @@ public class GitLabApiClient implements AutoCloseable {
     protected Response patch(MultivaluedMap<String, String> queryParams, URL url) {
         Entity<?> empty = Entity.text("");
         // use "X-HTTP-Method-Override" header on POST to override to unsupported PATCH
-        return (invocation(url, queryParams)
+        return (invoke(HttpMethod.PATCH, url, () -> invocation(url, queryParams)
                 .header("X-HTTP-Method-Override", "PATCH")
-                .post(empty));
+                .post(empty)));
     }
 
     /**
@@ -553,14 +807,16 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a ClientResponse instance with the data returned from the endpoint
      */
     protected Response post(Form formData, URL url) {
+        Entity<?> entity;
         if (formData instanceof GitLabApiForm) {
-            return (invocation(url, null)
-                    .post(Entity.entity(formData.asMap(), MediaType.APPLICATION_FORM_URLENCODED_TYPE)));
+            entity = Entity.entity(formData.asMap(), MediaType.APPLICATION_FORM_URLENCODED_TYPE);
         } else if (formData != null) {
-            return (invocation(url, null).post(Entity.entity(formData, MediaType.APPLICATION_FORM_URLENCODED_TYPE)));
+            entity = Entity.entity(formData, MediaType.APPLICATION_FORM_URLENCODED_TYPE);
         } else {
-            return (invocation(url, null).post(Entity.entity(new Form(), MediaType.APPLICATION_FORM_URLENCODED_TYPE)));
+            entity = Entity.entity(new Form(), MediaType.APPLICATION_FORM_URLENCODED_TYPE);
         }
+
+        return (invoke(HttpMethod.POST, url, () -> invocation(url, null).post(entity)));
     }
 
     /**
@@ -572,8 +828,8 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a ClientResponse instance with the data returned from the endpoint
      */
     protected Response post(MultivaluedMap<String, String> queryParams, URL url) {
-        return (invocation(url, queryParams)
-                .post(Entity.entity(new Form(), MediaType.APPLICATION_FORM_URLENCODED_TYPE)));
+        Entity<?> entity = Entity.entity(new Form(), MediaType.APPLICATION_FORM_URLENCODED_TYPE);
+        return (invoke(HttpMethod.POST, url, () -> invocation(url, queryParams).post(entity)));
     }
 
     /**
@@ -588,7 +844,7 @@ public class GitLabApiClient implements AutoCloseable {
     protected Response post(Object payload, Object... pathArgs) throws IOException {
         URL url = getApiUrl(pathArgs);
         Entity<?> entity = Entity.entity(payload, MediaType.APPLICATION_JSON);
-        return (invocation(url, null).post(entity));
+        return (invoke(HttpMethod.POST, url, () -> invocation(url, null).post(entity)));
     }
 
     /**
@@ -603,7 +859,8 @@ public class GitLabApiClient implements AutoCloseable {
      */
     protected Response post(StreamingOutput stream, String mediaType, Object... pathArgs) throws IOException {
         URL url = getApiUrl(pathArgs);
-        return (invocation(url, null).post(Entity.entity(stream, mediaType)));
+        Entity<?> entity = Entity.entity(stream, mediaType);
+        return (invoke(HttpMethod.POST, url, () -> invocation(url, null).post(entity)));
     }
 
     /**
@@ -684,7 +941,7 @@ public class GitLabApiClient implements AutoCloseable {
 
             multiPart.bodyPart(bodyPart);
             final Entity<?> entity = Entity.entity(multiPart, Boundary.addBoundary(multiPart.getMediaType()));
-            return (invocation(url, null).post(entity));
+            return (invoke(HttpMethod.POST, url, () -> invocation(url, null).post(entity)));
         }
     }
 
@@ -723,7 +980,7 @@ public class GitLabApiClient implements AutoCloseable {
                 multiPart.bodyPart(new FileDataBodyPart(name, fileToUpload, MediaType.APPLICATION_OCTET_STREAM_TYPE));
             }
             final Entity<?> entity = Entity.entity(multiPart, Boundary.addBoundary(multiPart.getMediaType()));
-            return (invocation(url, null).put(entity));
+            return (invoke(HttpMethod.PUT, url, () -> invocation(url, null).put(entity)));
         }
     }
 
@@ -750,12 +1007,10 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a ClientResponse instance with the data returned from the endpoint
      */
     protected Response put(MultivaluedMap<String, String> queryParams, URL url) {
-        if (queryParams == null || queryParams.isEmpty()) {
-            Entity<?> empty = Entity.text("");
-            return (invocation(url, null).put(empty));
-        } else {
-            return (invocation(url, null).put(Entity.entity(queryParams, MediaType.APPLICATION_FORM_URLENCODED_TYPE)));
-        }
+        Entity<?> entity = (queryParams == null || queryParams.isEmpty()
+                ? Entity.text("")
+                : Entity.entity(queryParams, MediaType.APPLICATION_FORM_URLENCODED_TYPE));
+        return (invoke(HttpMethod.PUT, url, () -> invocation(url, null).put(entity)));
     }
 
     /**
@@ -781,10 +1036,10 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a ClientResponse instance with the data returned from the endpoint
      */
     protected Response put(Form formData, URL url) {
-        if (formData instanceof GitLabApiForm)
-            return (invocation(url, null)
-                    .put(Entity.entity(formData.asMap(), MediaType.APPLICATION_FORM_URLENCODED_TYPE)));
-        else return (invocation(url, null).put(Entity.entity(formData, MediaType.APPLICATION_FORM_URLENCODED_TYPE)));
+        Entity<?> entity = (formData instanceof GitLabApiForm
+                ? Entity.entity(formData.asMap(), MediaType.APPLICATION_FORM_URLENCODED_TYPE)
+                : Entity.entity(formData, MediaType.APPLICATION_FORM_URLENCODED_TYPE));
+        return (invoke(HttpMethod.PUT, url, () -> invocation(url, null).put(entity)));
     }
 
     /**
@@ -799,7 +1054,7 @@ public class GitLabApiClient implements AutoCloseable {
     protected Response put(Object payload, Object... pathArgs) throws IOException {
         URL url = getApiUrl(pathArgs);
         Entity<?> entity = Entity.entity(payload, MediaType.APPLICATION_JSON);
-        return (invocation(url, null).put(entity));
+        return (invoke(HttpMethod.PUT, url, () -> invocation(url, null).put(entity)));
     }
 
     /**
@@ -824,7 +1079,330 @@ public class GitLabApiClient implements AutoCloseable {
      * @return a Response instance with the data returned from the endpoint
      */
     protected Response delete(MultivaluedMap<String, String> queryParams, URL url) {
-        return (invocation(url, queryParams).delete());
+        return (invoke(HttpMethod.DELETE, url, () -> invocation(url, queryParams).delete()));
+    }
+
+    /**
+     * Performs a request to the GitLab server. Every request made by this client goes through this method,
+     * which applies the request policies configured on this client: the retries, the hedging, the Geo routing,
+     * the token pool, the rate limit scheduling, the circuit breaker, and the metrics recording. The endpoint
+     * template the metrics are recorded for is looked up once here, and passed down to the request policies.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     * @throws ProcessingException holding a GitLabApiTimeoutException if the deadline of the RequestContext
+     * has passed before the request completed
+     */
+    protected Response invoke(String method, URL url, Supplier<Response> request) {
+
+        String endpoint = (metricsRecorder != null ? getEndpoint(url) : null);
+        RequestContext requestContext = context;
+        Long deadline = (requestContext != null ? requestContext.getDeadline() : null);
+        if (deadline == null) {
+            return (retry(method, url, endpoint, request));
+        }
+
+        try {
+            return (retry(method, url, endpoint, request));
+        } catch (ProcessingException pe) {
+
+            // A request that fails once the deadline has passed, typically with a read timeout shortened
+            // to the time left until the deadline, fails because of the deadline
+            Throwable cause = pe.getCause();
+            if (cause instanceof GitLabApiTimeoutException || System.currentTimeMillis() < deadline) {
+                throw pe;
+            }
+
+            throw new ProcessingException(new GitLabApiTimeoutException(deadline, cause != null ? cause : pe));
+        }
+    }
+
+    /**
+     * Get the endpoint template of a request. For a URL built from path arguments by {@link #getApiUrl(Object...)}
+     * this is the endpoint template of the path arguments, otherwise it is built from the path of the URL.
+     *
+     * @param url the fully formed path to the GitLab API endpoint
+     * @return the endpoint template of the request
+     */
+    private static String getEndpoint(URL url) {
+
+        PathEndpoint pathEndpoint = PATH_ENDPOINT.get();
+        URL pathUrl = pathEndpoint.url;
+        String endpoint = pathEndpoint.endpoint;
+        pathEndpoint.url = null;
+        pathEndpoint.endpoint = null;
+
+        return (pathUrl == url ? endpoint : EndpointTemplate.of(url.getPath()));
+    }
+
+    /**
+     * Performs a request, retrying it if a RetryPolicy is set. The retries are recorded with the MetricsRecorder
+     * if one is set, and are not made if the deadline of the RequestContext would pass while waiting for them.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param endpoint the endpoint template of the request, null if no MetricsRecorder is set
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     */
+    private Response retry(String method, URL url, String endpoint, Supplier<Response> request) {
+
+        RetryPolicy policy = retryPolicy;
+        if (policy == null) {
+            return (hedge(method, url, endpoint, request));
+        }
+
+        RequestContext requestContext = context;
+        Long deadline = (requestContext != null ? requestContext.getDeadline() : null);
+        MetricsRecorder recorder = metricsRecorder;
+        if (recorder == null || endpoint == null) {
+            return (policy.execute(method, deadline, () -> hedge(method, url, endpoint, request)));
+        }
+
+        int[] attempts = new int[1];
+        return (policy.execute(method, deadline, () -> {
+            if (attempts[0]++ > 0) {
+                recorder.recordRetry(endpoint, method);
+            }
+
+            return (hedge(method, url, endpoint, request));
+        }));
+    }
+
+    /**
+     * Performs a single attempt of a request, hedged if a HedgingPolicy is set. A hedge goes through the
+     * same request policies as the request it duplicates.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param endpoint the endpoint template of the request, null if no MetricsRecorder is set
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     */
+    private Response hedge(String method, URL url, String endpoint, Supplier<Response> request) {
+
+        HedgingPolicy policy = hedgingPolicy;
+        if (policy == null) {
+            return (route(method, url, endpoint, request));
+        }
+
+        return (policy.execute(method, () -> route(method, url, endpoint, request)));
+    }
+
+    /**
+     * Performs a single attempt of a request on the site selected by the GeoRouter if one is set. Reads are sent
+     * to the selected secondary site, and sent again to the primary site if the secondary site fails them.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param endpoint the endpoint template of the request, null if no MetricsRecorder is set
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     */
+    private Response route(String method, URL url, String endpoint, Supplier<Response> request) {
+
+        GeoRouter router = geoRouter;
+        if (router == null) {
+            return (attempt(method, url, endpoint, request));
+        }
+
+        if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) {
+            try {
+                return (attempt(method, url, endpoint, request));
+            } finally {
+                router.recordWrite(url);
+            }
+        }
+
+        String secondaryUrl = (url.toExternalForm().startsWith(baseUrl) ? router.selectSecondary(url) : null);
+        if (secondaryUrl == null) {
+            return (attempt(method, url, endpoint, request));
+        }
+
+        long startNanos = System.nanoTime();
+        Response response;
+        SECONDARY_URL.set(secondaryUrl);
+        try {
+            response = attempt(method, GeoRouter.getSiteUrl(url, baseUrl, secondaryUrl), endpoint, request);
+        } catch (ProcessingException pe) {
+
+            Throwable cause = pe.getCause();
+            if (!(cause instanceof IOException) && !(cause instanceof CircuitBreakerOpenException)) {
+                throw pe;
+            }
+
+            response = null;
+        } finally {
+            SECONDARY_URL.remove();
+        }
+
+        if (response != null && response.getStatus() < 500) {
+            router.onSuccess(secondaryUrl, System.nanoTime() - startNanos);
+            return (response);
+        }
+
+        // Fail over to the primary site
+        router.onFailure(secondaryUrl);
+        if (response != null) {
+            response.close();
+        }
+
+        return (attempt(method, url, endpoint, request));
+    }
+
+    /**
+     * Performs a single attempt of a request. If a TokenPool is set the request is made with the token selected
+     * by the pool, and made again with another token if the selected token gets sidelined by the response.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param endpoint the endpoint template of the request, null if no MetricsRecorder is set
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     */
+    private Response attempt(String method, URL url, String endpoint, Supplier<Response> request) {
+
+        TokenPool pool = tokenPool;
+        if (pool == null) {
+            return (schedule(method, url, endpoint, request));
+        }
+
+        String outerToken = POOLED_TOKEN.get();
+        try {
+
+            for (int tries = pool.getTokens().size(); ; tries--) {
+
+                String token = pool.select(url);
+                POOLED_TOKEN.set(token);
+                Response response = schedule(method, url, endpoint, request);
+                if (!pool.update(token, response) || tries <= 1 || !pool.hasAvailableToken()) {
+                    return (response);
+                }
+
+                response.close();
+            }
+
+        } finally {
+            if (outerToken != null) {
+                POOLED_TOKEN.set(outerToken);
+            } else {
+                POOLED_TOKEN.remove();
+            }
+        }
+    }
+
+    /**
+     * Performs a request, waiting first for the rate limit budget of the host and token
+     * if a RateLimitScheduler is set. The request fails right away if the deadline of the
+     * RequestContext would pass while waiting.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param endpoint the endpoint template of the request, null if no MetricsRecorder is set
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     */
+    private Response schedule(String method, URL url, String endpoint, Supplier<Response> request) {
+
+        RateLimitScheduler scheduler = rateLimitScheduler;
+        if (scheduler == null) {
+            return (guard(method, url, endpoint, request));
+        }
+
+        RequestContext requestContext = context;
+        String key = RateLimitScheduler.getKey(url.getAuthority(), getRequestToken());
+        scheduler.acquire(key, requestContext != null ? requestContext.getDeadline() : null);
+        Response response = guard(method, url, endpoint, request);
+        scheduler.update(key, response);
+        return (response);
+    }
+
+    /**
+     * Performs a request through the circuit of the host if a CircuitBreaker is set, failing fast if the
+     * circuit is open and recording the outcome and latency of the request otherwise.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param endpoint the endpoint template of the request, null if no MetricsRecorder is set
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     * @throws ProcessingException holding a CircuitBreakerOpenException if the circuit of the host is open
+     */
+    private Response guard(String method, URL url, String endpoint, Supplier<Response> request) {
+
+        CircuitBreaker breaker = circuitBreaker;
+        if (breaker == null) {
+            return (measure(method, url, endpoint, request));
+        }
+
+        String host = url.getAuthority();
+        try {
+            breaker.acquire(host);
+        } catch (CircuitBreakerOpenException cboe) {
+            throw new ProcessingException(cboe);
+        }
+
+        long startNanos = System.nanoTime();
+        boolean recorded = false;
+        try {
+
+            Response response = measure(method, url, endpoint, request);
+            long nanos = System.nanoTime() - startNanos;
+            if (response.getStatus() >= 500) {
+                breaker.onFailure(host, nanos);
+            } else {
+                breaker.onSuccess(host, nanos);
+            }
+
+            recorded = true;
+            return (response);
+
+        } catch (ProcessingException pe) {
+
+            if (pe.getCause() instanceof IOException) {
+                breaker.onFailure(host, System.nanoTime() - startNanos);
+                recorded = true;
+            }
+
+            throw pe;
+
+        } finally {
+            if (!recorded) {
+                breaker.onIgnored(host);
+            }
+        }
+    }
+
+    /**
+     * Performs a request, recording its status and latency with the MetricsRecorder if one is set.
+     *
+     * @param method the HTTP method of the request
+     * @param url the fully formed path to the GitLab API endpoint
+     * @param endpoint the endpoint template of the request, null if no MetricsRecorder is set
+     * @param request performs the request and returns the Response instance
+     * @return a Response instance with the data returned from the endpoint
+     */
+    private Response measure(String method, URL url, String endpoint, Supplier<Response> request) {
+
+        MetricsRecorder recorder = metricsRecorder;
+        if (recorder == null || endpoint == null) {
+            return (request.get());
+        }
+
+        long startNanos = System.nanoTime();
+        METRICS_ENDPOINT.set(endpoint);
+        try {
+            Response response = request.get();
+            recorder.recordRequest(endpoint, method, response.getStatus(), System.nanoTime() - startNanos);
+            return (response);
+        } catch (RuntimeException re) {
+            recorder.recordRequest(endpoint, method, MetricsRecorder.NO_STATUS, System.nanoTime() - startNanos);
+            throw re;
+        } finally {
+            METRICS_ENDPOINT.remove();
+        }
     }
 
     protected Invocation.Builder invocation(URL url, MultivaluedMap<String, String> queryParams) {
@@ -849,13 +1427,50 @@ public class GitLabApiClient implements AutoCloseable {
         return (apiClient);
     }
 
+    /**
+     * Get the Jersey Client of this instance, creating it if it has not been created yet. When several threads
+     * make their first request at the same time only one of them creates the Client.
+     *
+     * @return the Jersey Client of this instance
+     */
+    private Client getOrCreateApiClient() {
+
+        Client client = apiClient;
+        if (client == null) {
+            apiClientLock.lock();
+            try {
+                client = apiClient;
+                if (client == null) {
+                    client = createApiClient();
+                }
+            } finally {
+                apiClientLock.unlock();
+            }
+        }
+
+        return (client);
+    }
+
     protected Invocation.Builder invocation(URL url, MultivaluedMap<String, String> queryParams, String accept) {
 
-        if (apiClient == null) {
-            createApiClient();
+        Client client = getOrCreateApiClient();
+
+        // Do not start a request once the deadline of the RequestContext has passed
+        RequestContext requestContext = context;
+        long remainingMillis = Long.MAX_VALUE;
+        if (requestContext != null && requestContext.getDeadline() != null) {
+            remainingMillis = requestContext.getDeadline() - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                throw new ProcessingException(new GitLabApiTimeoutException(requestContext.getDeadline()));
+            }
         }
 
-        WebTarget target = apiClient.target(url.toExternalForm()).property(ClientProperties.FOLLOW_REDIRECTS, true);
+        // Send the request to the Geo secondary site selected for it, if any
+        String secondaryUrl = (geoRouter != null ? SECONDARY_URL.get() : null);
+        URL targetUrl = (secondaryUrl != null ? GeoRouter.getSiteUrl(url, baseUrl, secondaryUrl) : url);
+
+        WebTarget target =
+                client.target(targetUrl.toExternalForm()).property(ClientProperties.FOLLOW_REDIRECTS, true);
         if (queryParams != null) {
             for (Map.Entry<String, List<String>> param : queryParams.entrySet()) {
                 target = target.queryParam(param.getKey(), param.getValue().toArray());
@@ -872,30 +1487,87 @@ public class GitLabApiClient implements AutoCloseable {
         }
 
         // If sudo as ID is set add the Sudo header
+        Long sudoAsId = getSudoAsId();
         if (sudoAsId != null && sudoAsId.intValue() > 0) builder = builder.header(SUDO_HEADER, sudoAsId);
 
+        // Add the extra headers of the RequestContext
+        if (requestContext != null) {
+            for (Map.Entry<String, String> header : requestContext.getHeaders().entrySet()) {
+                builder = builder.header(header.getKey(), header.getValue());
+            }
+        }
+
         // Set the per request connect timeout
+        Integer contextConnectTimeout = (requestContext != null ? requestContext.getConnectTimeout() : null);
+        Integer connectTimeout = getTimeout(contextConnectTimeout, this.connectTimeout, remainingMillis);
         if (connectTimeout != null) {
             builder.property(ClientProperties.CONNECT_TIMEOUT, connectTimeout);
         }
 
         // Set the per request read timeout
+        Integer contextReadTimeout = (requestContext != null ? requestContext.getReadTimeout() : null);
+        Integer readTimeout = getTimeout(contextReadTimeout, this.readTimeout, remainingMillis);
         if (readTimeout != null) {
             builder.property(ClientProperties.READ_TIMEOUT, readTimeout);
         }
 
+        if (remainingMillis != Long.MAX_VALUE) {
+            builder.property(DeadlineFilter.DEADLINE_PROPERTY, requestContext.getDeadline());
+        }
+
+        MetricsRecorder recorder = metricsRecorder;
+        if (recorder != null) {
+            builder.property(MetricsFilter.RECORDER_PROPERTY, recorder);
+            String endpoint = METRICS_ENDPOINT.get();
+            if (endpoint != null) {
+                builder.property(MetricsFilter.ENDPOINT_PROPERTY, endpoint);
+            }
+        }
+
         return (builder);
     }
 
+    /**
+     * Get the timeout of a request, the one of the RequestContext if set, shortened to the time left until
+     * the deadline of the RequestContext.
+     *
+     * @param contextTimeout the timeout of the RequestContext, may be null
+     * @param clientTimeout the timeout of this client, may be null
+     * @param remainingMillis the time left until the deadline, Long.MAX_VALUE if there is no deadline
+     * @return the timeout of the request in milliseconds, or null to use the default timeout
+     */
+    private static Integer getTimeout(Integer contextTimeout, Integer clientTimeout, long remainingMillis) {
+
+        Integer timeout = (contextTimeout != null ? contextTimeout : clientTimeout);
+        if (remainingMillis == Long.MAX_VALUE) {
+            return (timeout);
+        }
+
+        // A timeout of 0 means no timeout
+        int remaining = (int) Math.min(Integer.MAX_VALUE, remainingMillis);
+        return (timeout == null || timeout <= 0 ? remaining : Math.min(timeout, remaining));
+    }
+
     private String getAuthValue() {
         switch (tokenType) {
             case OAUTH2_ACCESS:
-                return "Bearer " + authToken.get();
+                return "Bearer " + getRequestToken();
             default:
-                return authToken.get();
+                return getRequestToken();
         }
     }
 
+    /**
+     * Get the token the current request is made with, the token selected by the TokenPool if one is set,
+     * otherwise the auth token of this client.
+     *
+     * @return the token the current request is made with
+     */
+    private String getRequestToken() {
+        String pooledToken = (tokenPool != null ? POOLED_TOKEN.get() : null);
+        return (pooledToken != null ? pooledToken : authToken.get());
+    }
+
     private String getAuthHeader() {
         switch (tokenType) {
             case OAUTH2_ACCESS:
@@ -924,9 +1596,12 @@ public class GitLabApiClient implements AutoCloseable {
     }
 
     /**
-     * Sets up the Jersey system ignore SSL certificate errors or not.
+     * Sets up the Jersey system ignore SSL certificate errors or not. Certificate errors cannot be ignored
+     * when the connections are created by a connection manager provided with the ClientConfig properties,
+     * for example by a {@link SharedConnectionPool}, the SSLContext of the connection manager is used instead.
      *
      * @param ignoreCertificateErrors if true will set up the Jersey system ignore SSL certificate errors
+     * @throws IllegalStateException if ignoreCertificateErrors is true and a connection manager was provided
      */
     public void setIgnoreCertificateErrors(boolean ignoreCertificateErrors) {
 
@@ -934,6 +1609,11 @@ public class GitLabApiClient implements AutoCloseable {
             return;
         }
 
+        if (ignoreCertificateErrors && clientConfig.getProperty(ApacheClientProperties.CONNECTION_MANAGER) != null) {
+            throw new IllegalStateException("Certificate errors cannot be ignored with a connection manager,"
+                    + " create the SharedConnectionPool with an SSLContext that ignores them instead");
+        }
+
         if (!ignoreCertificateErrors) {
 
             this.ignoreCertificateErrors = false;
@@ -1022,4 +1702,175 @@ public class GitLabApiClient implements AutoCloseable {
     public void setAuthTokenSupplier(Supplier<String> authTokenSupplier) {
         this.authToken = authTokenSupplier;
     }
+
+    /**
+     * Get the MetricsRecorder that records the metrics of the requests made by this client.
+     *
+     * @return the MetricsRecorder that records the metrics of the requests, or null if no metrics are recorded
+     */
+    MetricsRecorder getMetricsRecorder() {
+        return (metricsRecorder);
+    }
+
+    /**
+     * Set the MetricsRecorder that records the metrics of the requests made by this client.
+     *
+     * @param metricsRecorder the MetricsRecorder to use, or null to stop recording metrics
+     */
+    void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Get the HedgingPolicy used to hedge the slow reads of this client.
+     *
+     * @return the HedgingPolicy used to hedge the slow reads, or null if the reads are not hedged
+     */
+    HedgingPolicy getHedgingPolicy() {
+        return (hedgingPolicy);
+    }
+
+    /**
+     * Set the HedgingPolicy used to hedge the slow reads of this client.
+     *
+     * @param hedgingPolicy the HedgingPolicy to use, or null to stop hedging the reads
+     */
+    void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Get the GeoRouter that routes the reads of this client to Geo secondary sites.
+     *
+     * @return the GeoRouter that routes the reads, or null if all the requests are sent to the GitLab server
+     */
+    public GeoRouter getGeoRouter() {
+        return (geoRouter);
+    }
+
+    /**
+     * Set the GeoRouter that routes the reads of this client to Geo secondary sites.
+     *
+     * @param geoRouter the GeoRouter to route the reads with, or null to send all the requests to the GitLab server
+     */
+    public void setGeoRouter(GeoRouter geoRouter) {
+        this.geoRouter = geoRouter;
+    }
+
+    /**
+     * Get the TokenPool the requests of this client are spread across.
+     *
+     * @return the TokenPool the requests are spread across, or null if the requests are made with the auth token
+     */
+    public TokenPool getTokenPool() {
+        return (tokenPool);
+    }
+
+    /**
+     * Set the TokenPool to spread the requests of this client across, each request is made with a token
+     * selected by the pool instead of the auth token of this client.
+     *
+     * @param tokenPool the TokenPool to spread the requests across, or null to make them with the auth token
+     */
+    public void setTokenPool(TokenPool tokenPool) {
+        this.tokenPool = tokenPool;
+    }
+
+    /**
+     * Get the RateLimitScheduler used to pace the requests of this client.
+     *
+     * @return the RateLimitScheduler used to pace the requests of this client, or null if not pacing requests
+     */
+    RateLimitScheduler getRateLimitScheduler() {
+        return (rateLimitScheduler);
+    }
+
+    /**
+     * Set the RateLimitScheduler used to pace the requests of this client.
+     *
+     * @param rateLimitScheduler the RateLimitScheduler to use, or null to stop pacing requests
+     */
+    void setRateLimitScheduler(RateLimitScheduler rateLimitScheduler) {
+        this.rateLimitScheduler = rateLimitScheduler;
+    }
+
+    /**
+     * Get the RetryPolicy used to retry the requests of this client that fail with a transient error.
+     *
+     * @return the RetryPolicy used to retry the requests of this client, or null if not retrying requests
+     */
+    RetryPolicy getRetryPolicy() {
+        return (retryPolicy);
+    }
+
+    /**
+     * Set the RetryPolicy used to retry the requests of this client that fail with a transient error.
+     *
+     * @param retryPolicy the RetryPolicy to use, or null to stop retrying requests
+     */
+    void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Get the CircuitBreaker used to fail fast when the GitLab host is failing.
+     *
+     * @return the CircuitBreaker used to fail fast when the GitLab host is failing, or null if not set
+     */
+    CircuitBreaker getCircuitBreaker() {
+        return (circuitBreaker);
+    }
+
+    /**
+     * Set the CircuitBreaker used to fail fast when the GitLab host is failing.
+     *
+     * @param circuitBreaker the CircuitBreaker to use, or null to always send the requests
+     */
+    void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Get the ETagCache used to validate the responses of the GET requests of this client.
+     *
+     * @return the ETagCache used to validate the responses of the GET requests, or null if not caching responses
+     */
+    ETagCache getETagCache() {
+        return (eTagCache);
+    }
+
+    /**
+     * Set the ETagCache used to validate the responses of the GET requests of this client.
+     *
+     * @param eTagCache the ETagCache to use, or null to stop caching responses
+     */
+    void setETagCache(ETagCache eTagCache) {
+        this.eTagCache = eTagCache;
+    }
+
+    /**
+     * Returns true if the identical GET requests made at the same time share a single call.
+     *
+     * @return true if the identical GET requests made at the same time share a single call
+     */
+    boolean isRequestCoalescing() {
+        return (requestCoalescing);
+    }
+
+    /**
+     * Set whether the identical GET requests made at the same time share a single call.
+     *
+     * @param requestCoalescing true to share a single call between the identical GET requests made at the same time
+     */
+    void setRequestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+    }
+
+    /**
+     * A URL built from path arguments and the endpoint template of the path arguments.
+     */
+    private static class PathEndpoint {
+        private URL url;
+        private String endpoint;
+    }
 }
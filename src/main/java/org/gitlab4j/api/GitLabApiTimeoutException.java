@@ -0,0 +1,59 @@
+package org.gitlab4j.api;
+
+/**
+ * This is the exception that will be thrown when a request is not made, or not completed, because the deadline
+ * of its {@link RequestContext} has passed.
+ */
+public class GitLabApiTimeoutException extends GitLabApiException {
+    private static final long serialVersionUID = 1L;
+
+    private final long deadline;
+
+    /**
+     * Create a GitLabApiTimeoutException instance for the specified deadline.
+     *
+     * @param deadline the deadline that has passed, in milliseconds since the epoch
+     */
+    public GitLabApiTimeoutException(long deadline) {
+        super("The deadline of the request has passed");
+        this.deadline = deadline;
+    }
+
+    /**
+     * Create a GitLabApiTimeoutException instance for the specified deadline and the exception
+     * the request failed with when the deadline passed.
+     *
+     * @param deadline the deadline that has passed, in milliseconds since the epoch
+     * @param cause the exception the request failed with
+     */
+    public GitLabApiTimeoutException(long deadline, Throwable cause) {
+        this(deadline);
+        initCause(cause);
+    }
+
+    /**
+     * Get the deadline that has passed.
+     *
+     * @return the deadline that has passed, in milliseconds since the epoch
+     */
+    public long getDeadline() {
+        return (deadline);
+    }
+
+    /**
+     * Get the GitLabApiTimeoutException in the causes of the provided exception, if any.
+     *
+     * @param thrown the exception to look into the causes of
+     * @return the GitLabApiTimeoutException in the causes of the exception, or null if there is none
+     */
+    static GitLabApiTimeoutException findCause(Throwable thrown) {
+
+        for (Throwable cause = thrown.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof GitLabApiTimeoutException) {
+                return ((GitLabApiTimeoutException) cause);
+            }
+        }
+
+        return (null);
+    }
+}
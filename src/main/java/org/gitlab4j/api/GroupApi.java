@@ -179,6 +179,23 @@ public class GroupApi extends AbstractApi {
         return (new Pager<Group>(this, Group.class, itemsPerPage, formData.asMap(), "groups"));
     }
 
+    /**
+     * Get a keyset paginated Pager of visible groups for the authenticated user using the provided filter.
+     * GitLab only supports keyset pagination of groups ordered by name, so the groups are ordered by name
+     * unless the filter specifies otherwise.
+     *
+     * <pre><code>GitLab Endpoint: GET /groups?pagination=keyset</code></pre>
+     *
+     * @param filter the GroupFilter to match against, may be null
+     * @param itemsPerPage the number of Group instances that will be fetched per page
+     * @return a keyset paginated Pager containing matching Group instances
+     * @throws GitLabApiException if any exception occurs
+     */
+    public Pager<Group> getGroupsKeysetPager(GroupFilter filter, int itemsPerPage) throws GitLabApiException {
+        GitLabApiForm formData = (filter != null ? filter.getQueryParams() : null);
+        return (new Pager<Group>(this, Group.class, itemsPerPage, getKeysetQueryParams(formData, "name"), "groups"));
+    }
+
     /**
      * Get a Stream of visible groups for the authenticated user using the provided filter.
      *
@@ -499,6 +516,31 @@ public class GroupApi extends AbstractApi {
                 "projects"));
     }
 
+    /**
+     * Get a keyset paginated Pager of projects belonging to the specified group ID and filter.
+     * If the filter does not specify an order, the projects are ordered by ID.
+     *
+     * <pre><code>GitLab Endpoint: GET /groups/:id/projects?pagination=keyset</code></pre>
+     *
+     * @param groupIdOrPath the group ID, path of the group, or a Group instance holding the group ID or path
+     * @param filter the GroupProjectsFilter instance holding the filter values for the query, may be null
+     * @param itemsPerPage the number of Project instances that will be fetched per page
+     * @return a keyset paginated Pager containing Project instances that belong to the group and match the provided filter
+     * @throws GitLabApiException if any exception occurs
+     */
+    public Pager<Project> getProjectsKeysetPager(Object groupIdOrPath, GroupProjectsFilter filter, int itemsPerPage)
+            throws GitLabApiException {
+        GitLabApiForm formData = (filter != null ? filter.getQueryParams() : null);
+        return (new Pager<Project>(
+                this,
+                Project.class,
+                itemsPerPage,
+                getKeysetQueryParams(formData, "id"),
+                "groups",
+                getGroupIdOrPath(groupIdOrPath),
+                "projects"));
+    }
+
     /**
      * Get a Stream of projects belonging to the specified group ID and filter.
      *
@@ -929,6 +971,20 @@ public class GroupApi extends AbstractApi {
                 this, Member.class, itemsPerPage, null, "groups", getGroupIdOrPath(groupIdOrPath), "members"));
     }
 
+    /**
+     * Get the number of group members viewable by the authenticated user. Only the number of members is requested,
+     * the members themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /groups/:id/members</code></pre>
+     *
+     * @param groupIdOrPath the group ID, path of the group, or a Group instance holding the group ID or path
+     * @return the number of group members viewable by the authenticated user, or -1 if the GitLab server does not return the count
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getMembersCount(Object groupIdOrPath) throws GitLabApiException {
+        return (getCount(null, "groups", getGroupIdOrPath(groupIdOrPath), "members"));
+    }
+
     /**
      * Get a Stream of group members viewable by the authenticated user.
      *
@@ -1788,6 +1844,33 @@ public class GroupApi extends AbstractApi {
                 "audit_events"));
     }
 
+    /**
+     * Get a keyset paginated Pager of the group audit events viewable by Maintainer or an Owner of the group.
+     *
+     * <pre><code>GET /groups/:id/audit_events?pagination=keyset</code></pre>
+     *
+     * @param groupIdOrPath the group ID, path of the group, or a Group instance holding the group ID or path
+     * @param created_after Group audit events created on or after the given time.
+     * @param created_before Group audit events created on or before the given time.
+     * @param itemsPerPage the number of Audit Event instances that will be fetched per page
+     * @return a keyset paginated Pager of group Audit events
+     * @throws GitLabApiException if any exception occurs
+     */
+    public Pager<AuditEvent> getAuditEventsKeysetPager(
+            Object groupIdOrPath, Date created_after, Date created_before, int itemsPerPage) throws GitLabApiException {
+        Form form = new GitLabApiForm()
+                .withParam("created_before", ISO8601.toString(created_before, false))
+                .withParam("created_after", ISO8601.toString(created_after, false));
+        return (new Pager<AuditEvent>(
+                this,
+                AuditEvent.class,
+                itemsPerPage,
+                getKeysetQueryParams(form, null),
+                "groups",
+                getGroupIdOrPath(groupIdOrPath),
+                "audit_events"));
+    }
+
     /**
      * Get a Stream of the group audit events viewable by Maintainer or an Owner of the group.
      *
@@ -0,0 +1,529 @@
+package org.gitlab4j.api;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Response;
+
+/**
+ * <p>Hedges the GET and HEAD requests that are slow to get a response: if a request has no response after
+ * a delay, a duplicate of the request is sent and the first successful response of the two is used, the other
+ * response is closed when it arrives. The delay is a percentile of the response times of the last requests,
+ * by default the 95th percentile, so only the slowest requests are hedged.</p>
+ *
+ * <p>The number of hedged requests is limited by a budget, by default 5% of the requests, so hedging cannot
+ * multiply the load on a GitLab server that is slow because it is overloaded. Requests are not hedged until the
+ * response times of enough requests are known.</p>
+ *
+ * <p>The requests and their hedges are sent from an Executor, the calling thread waits for the first response.
+ * A HedgingPolicy is thread safe and can be set on several GitLabApi instances.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   HedgingPolicy hedgingPolicy = new HedgingPolicy()
+ *       .withPercentile(0.9)
+ *       .withBudget(0.1);
+ *   gitLabApi.setHedgingPolicy(hedgingPolicy);
+ * </pre>
+ */
+public class HedgingPolicy implements AutoCloseable {
+
+    /** The default percentile of the response times used as the delay before hedging a request. */
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /** The default maximum ratio of hedged requests to requests. */
+    public static final double DEFAULT_BUDGET = 0.05;
+
+    /** The default minimum delay before hedging a request, in milliseconds. */
+    public static final long DEFAULT_MIN_DELAY_MILLIS = 10;
+
+    // The maximum number of hedges that can be sent in a burst, once the budget has been saved up
+    private static final double MAX_BURST = 10;
+
+    // The number of response times recorded between two computations of the delay
+    private static final int DELAY_UPDATE_INTERVAL = 16;
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private double percentile = DEFAULT_PERCENTILE;
+    private double budgetRatio = DEFAULT_BUDGET;
+    private long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MIN_DELAY_MILLIS);
+    private int minimumSamples = 20;
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] latencies = new long[100];
+    private int count;
+    private int next;
+    private int sinceUpdate;
+    private long delayNanos = -1;
+    private double budget;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    /**
+     * Creates a HedgingPolicy that sends the requests from its own pool of daemon threads,
+     * shut down by {@link #close()}.
+     */
+    public HedgingPolicy() {
+
+        String poolName = "gitlab4j-hedging-" + POOL_NUMBER.incrementAndGet() + "-";
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, poolName + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return (thread);
+        };
+
+        this.ownedExecutor = Executors.newCachedThreadPool(threadFactory);
+        this.executor = ownedExecutor;
+    }
+
+    /**
+     * Creates a HedgingPolicy that sends the requests from the provided Executor.
+     *
+     * @param executor the Executor to send the requests from
+     */
+    public HedgingPolicy(Executor executor) {
+
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+
+        this.executor = executor;
+        this.ownedExecutor = null;
+    }
+
+    /**
+     * Set the percentile of the response times used as the delay before hedging a request.
+     *
+     * @param percentile the percentile of the response times, greater than 0 and less than 1
+     * @return this HedgingPolicy instance
+     */
+    public HedgingPolicy withPercentile(double percentile) {
+
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be greater than 0 and less than 1");
+        }
+
+        this.percentile = percentile;
+        return (this);
+    }
+
+    /**
+     * Set the maximum ratio of hedged requests to requests, for example 0.05 to hedge at most 5% of the requests.
+     *
+     * @param budgetRatio the maximum ratio of hedged requests to requests, from 0 to 1
+     * @return this HedgingPolicy instance
+     */
+    public HedgingPolicy withBudget(double budgetRatio) {
+
+        if (budgetRatio < 0 || budgetRatio > 1) {
+            throw new IllegalArgumentException("budgetRatio must be from 0 to 1");
+        }
+
+        this.budgetRatio = budgetRatio;
+        return (this);
+    }
+
+    /**
+     * Set the minimum delay before hedging a request, used when the percentile of the response times is lower.
+     *
+     * @param minDelayMillis the minimum delay before hedging a request, in milliseconds
+     * @return this HedgingPolicy instance
+     */
+    public HedgingPolicy withMinDelay(long minDelayMillis) {
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        return (this);
+    }
+
+    /**
+     * Set the number of response times the delay is computed from, and the minimum number of recorded
+     * response times before requests are hedged.
+     *
+     * @param windowSize the number of last response times the delay is computed from
+     * @param minimumSamples the minimum number of recorded response times before requests are hedged
+     * @return this HedgingPolicy instance
+     */
+    public HedgingPolicy withWindowSize(int windowSize, int minimumSamples) {
+
+        if (windowSize < 1 || minimumSamples < 1 || minimumSamples > windowSize) {
+            throw new IllegalArgumentException("minimumSamples must be from 1 to windowSize");
+        }
+
+        lock.lock();
+        try {
+            this.latencies = new long[windowSize];
+            this.minimumSamples = minimumSamples;
+            this.count = 0;
+            this.next = 0;
+            this.delayNanos = -1;
+        } finally {
+            lock.unlock();
+        }
+
+        return (this);
+    }
+
+    /**
+     * Returns true if requests with the provided HTTP method can be hedged, only GET and HEAD requests
+     * are hedged.
+     *
+     * @param method the HTTP method of the request
+     * @return true if requests with the provided HTTP method can be hedged
+     */
+    public boolean isHedgeable(String method) {
+        return (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method));
+    }
+
+    /**
+     * Get the current delay before hedging a request.
+     *
+     * @return the current delay before hedging a request in milliseconds, or -1 if requests are not hedged yet
+     */
+    public long getDelayMillis() {
+        long delay = getDelayNanos();
+        return (delay < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(delay));
+    }
+
+    /**
+     * Get the number of hedgeable requests made with this policy.
+     *
+     * @return the number of hedgeable requests
+     */
+    public long getRequestCount() {
+        return (requestCount.get());
+    }
+
+    /**
+     * Get the number of hedges sent.
+     *
+     * @return the number of hedges sent
+     */
+    public long getHedgeCount() {
+        return (hedgeCount.get());
+    }
+
+    /**
+     * Get the number of hedges whose response was used, because it arrived before the response of the request.
+     *
+     * @return the number of hedges whose response was used
+     */
+    public long getHedgeWinCount() {
+        return (hedgeWinCount.get());
+    }
+
+    /**
+     * Performs a request, sending a hedge of the request if it is hedgeable and has no response after the delay.
+     * If both the request and its hedge fail, the last 5xx response is returned, or the last exception thrown.
+     *
+     * @param method the HTTP method of the request
+     * @param request performs the request and returns the Response instance
+     * @return the first successful Response of the request and its hedge
+     * @throws ProcessingException if the request failed or the calling thread is interrupted
+     */
+    public Response execute(String method, Supplier<Response> request) {
+
+        if (!isHedgeable(method)) {
+            return (request.get());
+        }
+
+        requestCount.incrementAndGet();
+        long delay = earnBudget();
+        if (delay < 0) {
+            long startNanos = System.nanoTime();
+            Response response = request.get();
+            record(System.nanoTime() - startNanos);
+            return (response);
+        }
+
+        Race race = new Race();
+        if (!race.start(request, false)) {
+            return (request.get());
+        }
+
+        Response response = race.await(delay);
+        if (response != null || race.isDone()) {
+            return (race.getResult());
+        }
+
+        if (tryAcquireHedge() && race.start(request, true)) {
+            hedgeCount.incrementAndGet();
+        }
+
+        race.await(Long.MAX_VALUE);
+        return (race.getResult());
+    }
+
+    /**
+     * Adds the share of a request to the hedging budget and returns the current delay before hedging.
+     *
+     * @return the current delay before hedging a request in nanoseconds, or -1 if requests are not hedged yet
+     */
+    private long earnBudget() {
+
+        lock.lock();
+        try {
+            budget = Math.min(MAX_BURST, budget + budgetRatio);
+            return (delayNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAcquireHedge() {
+
+        lock.lock();
+        try {
+
+            if (budget < 1) {
+                return (false);
+            }
+
+            budget -= 1;
+            return (true);
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long getDelayNanos() {
+
+        lock.lock();
+        try {
+            return (delayNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the response time of a request, the delay is computed again every few response times.
+     *
+     * @param nanos the response time of the request in nanoseconds
+     */
+    void record(long nanos) {
+
+        lock.lock();
+        try {
+
+            latencies[next] = nanos;
+            next = (next + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+            if (count < minimumSamples) {
+                return;
+            }
+
+            if (delayNanos < 0 || ++sinceUpdate >= DELAY_UPDATE_INTERVAL) {
+                long[] sorted = Arrays.copyOf(latencies, count);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile * count) - 1;
+                delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, index)]);
+                sinceUpdate = 0;
+            }
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Shuts down the pool of threads of this HedgingPolicy if it owns one. An Executor provided
+     * by the application is not shut down.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * A request and its hedge racing for the first successful response. The responses that arrive after
+     * the result of the race is known are closed.
+     */
+    private class Race {
+
+        private final ReentrantLock raceLock = new ReentrantLock();
+        private final Condition finished = raceLock.newCondition();
+        private int started;
+        private int completed;
+        private Response winner;
+        private Response failedResponse;
+        private RuntimeException failure;
+        private boolean abandoned;
+
+        private boolean start(Supplier<Response> request, boolean hedge) {
+
+            raceLock.lock();
+            try {
+                started++;
+            } finally {
+                raceLock.unlock();
+            }
+
+            try {
+
+                executor.execute(() -> {
+
+                    long startNanos = System.nanoTime();
+                    try {
+                        Response response = request.get();
+                        record(System.nanoTime() - startNanos);
+                        complete(response, null, hedge);
+                    } catch (RuntimeException re) {
+                        complete(null, re, hedge);
+                    } catch (Error err) {
+                        complete(null, new ProcessingException(err), hedge);
+                        throw err;
+                    }
+                });
+
+                return (true);
+
+            } catch (RejectedExecutionException ree) {
+
+                raceLock.lock();
+                try {
+                    started--;
+                } finally {
+                    raceLock.unlock();
+                }
+
+                return (false);
+            }
+        }
+
+        private void complete(Response response, RuntimeException exception, boolean hedge) {
+
+            Response unused = null;
+            raceLock.lock();
+            try {
+
+                completed++;
+                if (winner != null || abandoned) {
+                    unused = response;
+                } else if (response != null && response.getStatus() < 500) {
+                    winner = response;
+                    unused = failedResponse;
+                    failedResponse = null;
+                    if (hedge) {
+                        hedgeWinCount.incrementAndGet();
+                    }
+                } else if (response != null) {
+                    unused = failedResponse;
+                    failedResponse = response;
+                } else {
+                    failure = exception;
+                }
+
+                finished.signalAll();
+
+            } finally {
+                raceLock.unlock();
+            }
+
+            if (unused != null) {
+                unused.close();
+            }
+        }
+
+        private boolean isDone() {
+
+            raceLock.lock();
+            try {
+                return (winner != null || completed == started);
+            } finally {
+                raceLock.unlock();
+            }
+        }
+
+        /**
+         * Waits for the result of the race.
+         *
+         * @param timeoutNanos the maximum time to wait in nanoseconds, Long.MAX_VALUE to wait until it is known
+         * @return the winning Response, or null if there is none yet
+         * @throws ProcessingException if the calling thread is interrupted
+         */
+        private Response await(long timeoutNanos) {
+
+            raceLock.lock();
+            try {
+
+                if (timeoutNanos == Long.MAX_VALUE) {
+                    while (winner == null && completed < started) {
+                        finished.await();
+                    }
+                } else {
+                    long remaining = timeoutNanos;
+                    while (winner == null && completed < started && remaining > 0) {
+                        remaining = finished.awaitNanos(remaining);
+                    }
+                }
+
+                return (winner);
+
+            } catch (InterruptedException ie) {
+                abandon();
+                Thread.currentThread().interrupt();
+                throw new ProcessingException("Interrupted while waiting for the response", ie);
+            } finally {
+                raceLock.unlock();
+            }
+        }
+
+        private Response getResult() {
+
+            raceLock.lock();
+            try {
+
+                if (winner != null) {
+                    return (winner);
+                }
+
+                if (failedResponse != null) {
+                    return (failedResponse);
+                }
+
+                throw failure;
+
+            } finally {
+                raceLock.unlock();
+            }
+        }
+
+        private void abandon() {
+
+            Response unused = null;
+            abandoned = true;
+            if (winner != null) {
+                unused = winner;
+                winner = null;
+            } else if (failedResponse != null) {
+                unused = failedResponse;
+                failedResponse = null;
+            }
+
+            if (unused != null) {
+                unused.close();
+            }
+        }
+    }
+}
@@ -169,7 +169,7 @@ public class ImportExportApi extends AbstractApi {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
@@ -219,7 +219,7 @@ public class ImportExportApi extends AbstractApi {
         try {
             url = getApiClient().getApiUrl("projects", "import");
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
 
         GitLabApiForm formData = new GitLabApiForm()
@@ -0,0 +1,408 @@
+package org.gitlab4j.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.ws.rs.HttpMethod;
+
+import org.gitlab4j.api.utils.JacksonJson;
+
+/**
+ * <p>A {@link MetricsRecorder} that keeps the metrics in memory, per endpoint template and HTTP method. For each
+ * endpoint it counts the requests by status class, keeps a histogram of the latencies with fixed buckets, and
+ * counts the bytes in and out, the retries and the pages fetched by {@link Pager} instances.</p>
+ *
+ * <p>Once an endpoint has been seen recording its metrics does not allocate. The metrics are kept for at most
+ * {@link #DEFAULT_MAX_ENDPOINTS} endpoints unless another maximum is provided, the metrics of the endpoints seen
+ * once the maximum has been reached are kept together as the {@link #OTHER_ENDPOINTS} endpoint, so that the memory
+ * used stays bounded whatever the requests made. The metrics are exported with {@link #snapshot()}, each
+ * {@link EndpointSnapshot} can be serialized to JSON with its toString() method.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   InMemoryMetricsRecorder metrics = new InMemoryMetricsRecorder();
+ *   gitLabApi.setMetricsRecorder(metrics);
+ *   ...
+ *   for (InMemoryMetricsRecorder.EndpointSnapshot endpoint : metrics.snapshot()) {
+ *       System.out.println(endpoint.getMethod() + " " + endpoint.getEndpoint() + ": "
+ *           + endpoint.getLatencyPercentileMillis(0.99) + " ms");
+ *   }
+ * </pre>
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+    /** The default maximum number of endpoints the metrics are kept for. */
+    public static final int DEFAULT_MAX_ENDPOINTS = 1000;
+
+    /** The endpoint the metrics of the endpoints beyond the maximum number of endpoints are kept for. */
+    public static final String OTHER_ENDPOINTS = "(other)";
+
+    /** The upper bounds in milliseconds of the latency histogram buckets, the last bucket holds the slower ones. */
+    private static final long[] LATENCY_BOUNDS_MILLIS = {
+        5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000
+    };
+
+    /** The labels of the status counts, the status classes and the requests that failed without a response. */
+    private static final String[] STATUS_LABELS = {"failed", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    /** The HTTP methods metrics are kept for, the metrics of other methods are kept as "OTHER". */
+    private static final String[] METHODS = {
+        HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE, HttpMethod.HEAD, "OTHER"
+    };
+
+    private static final long[] LATENCY_BOUNDS_NANOS = new long[LATENCY_BOUNDS_MILLIS.length];
+
+    static {
+        for (int i = 0; i < LATENCY_BOUNDS_MILLIS.length; i++) {
+            LATENCY_BOUNDS_NANOS[i] = TimeUnit.MILLISECONDS.toNanos(LATENCY_BOUNDS_MILLIS[i]);
+        }
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final int maxEndpoints;
+
+    /**
+     * Creates an InMemoryMetricsRecorder that keeps the metrics of at most {@link #DEFAULT_MAX_ENDPOINTS} endpoints.
+     */
+    public InMemoryMetricsRecorder() {
+        this(DEFAULT_MAX_ENDPOINTS);
+    }
+
+    /**
+     * Creates an InMemoryMetricsRecorder that keeps the metrics of at most maxEndpoints endpoints, the metrics
+     * of the other endpoints are kept together as the {@link #OTHER_ENDPOINTS} endpoint.
+     *
+     * @param maxEndpoints the maximum number of endpoints the metrics are kept for, must be greater than 0
+     */
+    public InMemoryMetricsRecorder(int maxEndpoints) {
+
+        if (maxEndpoints < 1) {
+            throw new IllegalArgumentException("maxEndpoints must be greater than 0");
+        }
+
+        this.maxEndpoints = maxEndpoints;
+    }
+
+    @Override
+    public void recordRequest(String endpoint, String method, int status, long nanos) {
+
+        Metrics metrics = getMetrics(endpoint, method);
+        metrics.requests.increment();
+        metrics.statuses[status >= 100 && status < 600 ? status / 100 : 0].increment();
+
+        int bucket = 0;
+        while (bucket < LATENCY_BOUNDS_NANOS.length && nanos > LATENCY_BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+
+        metrics.latencies[bucket].increment();
+        metrics.totalLatency.add(nanos);
+        metrics.maxLatency.accumulate(nanos);
+    }
+
+    @Override
+    public void recordBytes(String endpoint, String method, long bytesIn, long bytesOut) {
+        Metrics metrics = getMetrics(endpoint, method);
+        metrics.bytesIn.add(bytesIn);
+        metrics.bytesOut.add(bytesOut);
+    }
+
+    @Override
+    public void recordRetry(String endpoint, String method) {
+        getMetrics(endpoint, method).retries.increment();
+    }
+
+    @Override
+    public void recordPage(String endpoint) {
+        getMetrics(endpoint, HttpMethod.GET).pages.increment();
+    }
+
+    /**
+     * Get a snapshot of the metrics of every endpoint and HTTP method, sorted by endpoint and HTTP method.
+     *
+     * @return a snapshot of the metrics of every endpoint and HTTP method
+     */
+    public List<EndpointSnapshot> snapshot() {
+
+        List<String> names = new ArrayList<>(endpoints.keySet());
+        Collections.sort(names);
+
+        List<EndpointSnapshot> snapshots = new ArrayList<>();
+        for (String name : names) {
+            Endpoint endpoint = endpoints.get(name);
+            for (int i = 0; i < METHODS.length; i++) {
+                Metrics metrics = endpoint.byMethod.get(i);
+                if (metrics != null) {
+                    snapshots.add(new EndpointSnapshot(name, METHODS[i], metrics));
+                }
+            }
+        }
+
+        return (snapshots);
+    }
+
+    /**
+     * Discards the metrics recorded so far.
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private Metrics getMetrics(String endpoint, String method) {
+
+        Endpoint metrics = endpoints.get(endpoint);
+        if (metrics == null) {
+            String name = (endpoints.size() < maxEndpoints ? endpoint : OTHER_ENDPOINTS);
+            metrics = endpoints.computeIfAbsent(name, key -> new Endpoint());
+        }
+
+        return (metrics.get(method));
+    }
+
+    /**
+     * The metrics of an endpoint, per HTTP method.
+     */
+    private static class Endpoint {
+
+        private final AtomicReferenceArray<Metrics> byMethod = new AtomicReferenceArray<>(METHODS.length);
+
+        private Metrics get(String method) {
+
+            int index = 0;
+            while (index < METHODS.length - 1 && !METHODS[index].equals(method)) {
+                index++;
+            }
+
+            Metrics metrics = byMethod.get(index);
+            if (metrics == null) {
+                byMethod.compareAndSet(index, null, new Metrics());
+                metrics = byMethod.get(index);
+            }
+
+            return (metrics);
+        }
+    }
+
+    /**
+     * The metrics of an endpoint and HTTP method.
+     */
+    private static class Metrics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder[] statuses = adders(STATUS_LABELS.length);
+        private final LongAdder[] latencies = adders(LATENCY_BOUNDS_NANOS.length + 1);
+        private final LongAdder totalLatency = new LongAdder();
+        private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder pages = new LongAdder();
+
+        private static LongAdder[] adders(int count) {
+
+            LongAdder[] adders = new LongAdder[count];
+            for (int i = 0; i < count; i++) {
+                adders[i] = new LongAdder();
+            }
+
+            return (adders);
+        }
+    }
+
+    /**
+     * An immutable snapshot of the metrics of an endpoint and HTTP method.
+     */
+    public static class EndpointSnapshot {
+
+        private final String endpoint;
+        private final String method;
+        private final long requestCount;
+        private final Map<String, Long> statusCounts;
+        private final long[] latencyBucketCounts;
+        private final long totalLatencyNanos;
+        private final long maxLatencyNanos;
+        private final long bytesIn;
+        private final long bytesOut;
+        private final long retryCount;
+        private final long pageCount;
+
+        private EndpointSnapshot(String endpoint, String method, Metrics metrics) {
+
+            this.endpoint = endpoint;
+            this.method = method;
+            this.requestCount = metrics.requests.sum();
+
+            Map<String, Long> statusCounts = new LinkedHashMap<>();
+            for (int i = 0; i < STATUS_LABELS.length; i++) {
+                statusCounts.put(STATUS_LABELS[i], metrics.statuses[i].sum());
+            }
+
+            this.statusCounts = Collections.unmodifiableMap(statusCounts);
+            this.latencyBucketCounts = new long[metrics.latencies.length];
+            for (int i = 0; i < latencyBucketCounts.length; i++) {
+                latencyBucketCounts[i] = metrics.latencies[i].sum();
+            }
+
+            this.totalLatencyNanos = metrics.totalLatency.sum();
+            this.maxLatencyNanos = metrics.maxLatency.get();
+            this.bytesIn = metrics.bytesIn.sum();
+            this.bytesOut = metrics.bytesOut.sum();
+            this.retryCount = metrics.retries.sum();
+            this.pageCount = metrics.pages.sum();
+        }
+
+        /**
+         * Get the endpoint template, for example "projects/:id/merge_requests/:iid".
+         *
+         * @return the endpoint template
+         */
+        public String getEndpoint() {
+            return (endpoint);
+        }
+
+        /**
+         * Get the HTTP method, "OTHER" for the methods that are not kept separately.
+         *
+         * @return the HTTP method
+         */
+        public String getMethod() {
+            return (method);
+        }
+
+        /**
+         * Get the number of requests made, including the retries and hedges.
+         *
+         * @return the number of requests made
+         */
+        public long getRequestCount() {
+            return (requestCount);
+        }
+
+        /**
+         * Get the number of requests by status class, keyed by "1xx" to "5xx", and "failed" for the requests
+         * that failed without a response.
+         *
+         * @return the number of requests by status class
+         */
+        public Map<String, Long> getStatusCounts() {
+            return (statusCounts);
+        }
+
+        /**
+         * Get the upper bounds in milliseconds of the latency histogram buckets. There is one more bucket than
+         * bounds, the last bucket holds the latencies over the last bound.
+         *
+         * @return the upper bounds in milliseconds of the latency histogram buckets
+         */
+        public long[] getLatencyBucketBoundsMillis() {
+            return (LATENCY_BOUNDS_MILLIS.clone());
+        }
+
+        /**
+         * Get the number of requests in each latency histogram bucket.
+         *
+         * @return the number of requests in each latency histogram bucket
+         */
+        public long[] getLatencyBucketCounts() {
+            return (latencyBucketCounts.clone());
+        }
+
+        /**
+         * Get the mean latency of the requests.
+         *
+         * @return the mean latency of the requests in milliseconds, 0 if no request was made
+         */
+        public double getMeanLatencyMillis() {
+            return (requestCount > 0 ? totalLatencyNanos / 1e6 / requestCount : 0);
+        }
+
+        /**
+         * Get the maximum latency of the requests.
+         *
+         * @return the maximum latency of the requests in milliseconds
+         */
+        public double getMaxLatencyMillis() {
+            return (maxLatencyNanos / 1e6);
+        }
+
+        /**
+         * Get an estimate of a percentile of the latencies, the upper bound of the histogram bucket holding
+         * the percentile, or the maximum latency if lower.
+         *
+         * @param percentile the percentile to get, from 0 (exclusive) to 1 (inclusive), for example 0.99
+         * @return the estimate of the percentile in milliseconds, 0 if no request was made
+         */
+        public double getLatencyPercentileMillis(double percentile) {
+
+            if (percentile <= 0 || percentile > 1) {
+                throw new IllegalArgumentException("percentile must be greater than 0 and not greater than 1");
+            }
+
+            long total = 0;
+            for (long count : latencyBucketCounts) {
+                total += count;
+            }
+
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < LATENCY_BOUNDS_MILLIS.length && total > 0; i++) {
+                seen += latencyBucketCounts[i];
+                if (seen >= rank) {
+                    return (Math.min(LATENCY_BOUNDS_MILLIS[i], getMaxLatencyMillis()));
+                }
+            }
+
+            return (getMaxLatencyMillis());
+        }
+
+        /**
+         * Get the number of bytes read from the response entities.
+         *
+         * @return the number of bytes read from the response entities
+         */
+        public long getBytesIn() {
+            return (bytesIn);
+        }
+
+        /**
+         * Get the number of bytes written to the request entities.
+         *
+         * @return the number of bytes written to the request entities
+         */
+        public long getBytesOut() {
+            return (bytesOut);
+        }
+
+        /**
+         * Get the number of requests made again by the RetryPolicy.
+         *
+         * @return the number of retries
+         */
+        public long getRetryCount() {
+            return (retryCount);
+        }
+
+        /**
+         * Get the number of pages fetched by Pager instances.
+         *
+         * @return the number of pages fetched
+         */
+        public long getPageCount() {
+            return (pageCount);
+        }
+
+        @Override
+        public String toString() {
+            return (JacksonJson.toJsonString(this));
+        }
+    }
+}
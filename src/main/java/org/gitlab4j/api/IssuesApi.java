@@ -206,6 +206,41 @@ public class IssuesApi extends AbstractApi implements Constants {
                 "issues"));
     }
 
+    /**
+     * Get the number of project's issues matching the filter. Only the number of issues is requested,
+     * the issues themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects/:id/issues</code></pre>
+     *
+     * @param projectIdOrPath the project in the form of an Long(ID), String(path), or Project instance
+     * @param filter {@link IssueFilter} a IssueFilter instance with the filter settings, may be null
+     * @return the number of matching issues, or -1 if the GitLab server does not return the count
+     * (more than 10,000 issues with the Kaminari count limit enabled)
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getIssuesCount(Object projectIdOrPath, IssueFilter filter) throws GitLabApiException {
+        return (getCount(
+                filter != null ? filter.getQueryParams().asMap() : null,
+                "projects",
+                getProjectIdOrPath(projectIdOrPath),
+                "issues"));
+    }
+
+    /**
+     * Get the number of issues the authenticated user has access to matching the filter.
+     * Only the number of issues is requested, the issues themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /issues</code></pre>
+     *
+     * @param filter {@link IssueFilter} a IssueFilter instance with the filter settings, may be null
+     * @return the number of matching issues, or -1 if the GitLab server does not return the count
+     * (more than 10,000 issues with the Kaminari count limit enabled)
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getIssuesCount(IssueFilter filter) throws GitLabApiException {
+        return (getCount(filter != null ? filter.getQueryParams().asMap() : null, "issues"));
+    }
+
     /**
      * Get a Stream of project's issues.
      *
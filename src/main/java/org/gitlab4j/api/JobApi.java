@@ -78,6 +78,28 @@ public class JobApi extends AbstractApi implements Constants {
                 this, Job.class, itemsPerPage, null, "projects", getProjectIdOrPath(projectIdOrPath), "jobs"));
     }
 
+    /**
+     * Get a keyset paginated Pager of jobs in a project. Keyset pagination does not provide the total
+     * number of jobs, but fetching each page costs the same regardless of how many pages have already been fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects/:id/jobs?pagination=keyset</code></pre>
+     *
+     * @param projectIdOrPath id, path of the project, or a Project instance holding the project ID or path to get the jobs for
+     * @param itemsPerPage the number of Job instances that will be fetched per page
+     * @return a keyset paginated Pager containing the jobs for the specified project ID
+     * @throws GitLabApiException if any exception occurs during execution
+     */
+    public Pager<Job> getJobsKeysetPager(Object projectIdOrPath, int itemsPerPage) throws GitLabApiException {
+        return (new Pager<Job>(
+                this,
+                Job.class,
+                itemsPerPage,
+                getKeysetQueryParams(null, null),
+                "projects",
+                getProjectIdOrPath(projectIdOrPath),
+                "jobs"));
+    }
+
     /**
      * Get a Stream of jobs in a project.
      *
@@ -91,6 +113,22 @@ public class JobApi extends AbstractApi implements Constants {
         return (getJobs(projectIdOrPath, getDefaultPerPage()).stream());
     }
 
+    /**
+     * Get the number of jobs in a project. Only the number of jobs is requested, the jobs themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects/:id/jobs</code></pre>
+     *
+     * @param projectIdOrPath id, path of the project, or a Project instance holding the project ID or path to count the jobs for
+     * @param scope the scope of jobs to count, one of: CREATED, PENDING, RUNNING, FAILED, SUCCESS, CANCELED, SKIPPED, MANUAL, may be null
+     * @return the number of jobs, or -1 if the GitLab server does not return the count
+     * (more than 10,000 jobs with the Kaminari count limit enabled)
+     * @throws GitLabApiException if any exception occurs during execution
+     */
+    public int getJobsCount(Object projectIdOrPath, JobScope scope) throws GitLabApiException {
+        GitLabApiForm formData = new GitLabApiForm().withParam("scope", scope);
+        return (getCount(formData.asMap(), "projects", getProjectIdOrPath(projectIdOrPath), "jobs"));
+    }
+
     /**
      * Get a list of jobs in a project.
      *
@@ -365,7 +403,7 @@ public class JobApi extends AbstractApi implements Constants {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
@@ -434,7 +472,7 @@ public class JobApi extends AbstractApi implements Constants {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
@@ -499,7 +537,7 @@ public class JobApi extends AbstractApi implements Constants {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
@@ -569,7 +607,7 @@ public class JobApi extends AbstractApi implements Constants {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
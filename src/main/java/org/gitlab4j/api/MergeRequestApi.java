@@ -129,6 +129,55 @@ public class MergeRequestApi extends AbstractApi {
         }
     }
 
+    /**
+     * Get the number of merge requests matching the filter. Only the number of merge requests is requested,
+     * the merge requests themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /merge_requests</code></pre>
+     *
+     * @param filter a MergeRequestFilter instance with the filter settings
+     * @return the number of merge requests matching the filter, or -1 if the GitLab server does not return the count
+     * (more than 10,000 merge requests with the Kaminari count limit enabled)
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getMergeRequestsCount(MergeRequestFilter filter) throws GitLabApiException {
+
+        MultivaluedMap<String, String> queryParams =
+                (filter != null ? filter.getQueryParams().asMap() : null);
+        if (filter != null
+                && ((filter.getProjectId() != null && filter.getProjectId().intValue() > 0)
+                        || (filter.getIids() != null && filter.getIids().size() > 0))) {
+
+            if (filter.getProjectId() == null || filter.getProjectId().intValue() == 0) {
+                throw new RuntimeException("project ID cannot be null or 0");
+            }
+
+            return (getCount(queryParams, "projects", filter.getProjectId(), "merge_requests"));
+        } else if (filter != null
+                && filter.getGroupId() != null
+                && filter.getGroupId().intValue() > 0) {
+            return (getCount(queryParams, "groups", filter.getGroupId(), "merge_requests"));
+        } else {
+            return (getCount(queryParams, "merge_requests"));
+        }
+    }
+
+    /**
+     * Get the number of merge requests with the specified state for the specified project. Only the number of
+     * merge requests is requested, the merge requests themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects/:id/merge_requests?state=:state</code></pre>
+     *
+     * @param projectIdOrPath the project in the form of an Long(ID), String(path), or Project instance
+     * @param state the state parameter can be used to count only merge requests with a given state (opened, closed, or merged) or all of them (all).
+     * @return the number of merge requests for the specified project, or -1 if the GitLab server does not return the count
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getMergeRequestsCount(Object projectIdOrPath, MergeRequestState state) throws GitLabApiException {
+        Form formData = new GitLabApiForm().withParam("state", state);
+        return (getCount(formData.asMap(), "projects", getProjectIdOrPath(projectIdOrPath), "merge_requests"));
+    }
+
     /**
      * Get all merge requests matching the filter as a Stream.
      *
@@ -0,0 +1,172 @@
+package org.gitlab4j.api;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Counts the bytes of the request and response entities of the requests made with a {@link MetricsRecorder}.
+ * The request entity is counted while it is written, the response entity while it is read, and the sizes are
+ * recorded once the response entity has been read to its end or closed.
+ */
+class MetricsFilter implements ClientResponseFilter, WriterInterceptor {
+
+    /** The name of the request property holding the MetricsRecorder of the request. */
+    static final String RECORDER_PROPERTY = "org.gitlab4j.api.metrics";
+
+    /** The name of the request property holding the endpoint template of the request. */
+    static final String ENDPOINT_PROPERTY = "org.gitlab4j.api.metrics.endpoint";
+
+    /** The name of the request property holding the number of bytes written to the request entity. */
+    static final String BYTES_OUT_PROPERTY = "org.gitlab4j.api.metrics.bytesOut";
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+
+        if (!(context.getProperty(RECORDER_PROPERTY) instanceof MetricsRecorder)) {
+            context.proceed();
+            return;
+        }
+
+        CountingOutputStream out = new CountingOutputStream(context.getOutputStream());
+        context.setOutputStream(out);
+        try {
+            context.proceed();
+        } finally {
+            context.setProperty(BYTES_OUT_PROPERTY, out.count);
+        }
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+
+        Object recorder = requestContext.getProperty(RECORDER_PROPERTY);
+        if (!(recorder instanceof MetricsRecorder)) {
+            return;
+        }
+
+        // The endpoint template is set by GitLabApiClient for the requests it measures, it is only built here
+        // for the requests made outside of its request policies
+        MetricsRecorder metricsRecorder = (MetricsRecorder) recorder;
+        Object template = requestContext.getProperty(ENDPOINT_PROPERTY);
+        String endpoint = (template instanceof String
+                ? (String) template
+                : EndpointTemplate.of(requestContext.getUri().getRawPath()));
+        String method = requestContext.getMethod();
+        Object bytesOut = requestContext.getProperty(BYTES_OUT_PROPERTY);
+        long requestBytes = (bytesOut instanceof Long ? (Long) bytesOut : 0);
+
+        if (!responseContext.hasEntity()) {
+            metricsRecorder.recordBytes(endpoint, method, 0, requestBytes);
+            return;
+        }
+
+        InputStream entityStream = responseContext.getEntityStream();
+        responseContext.setEntityStream(
+                new CountingInputStream(entityStream, metricsRecorder, endpoint, method, requestBytes));
+    }
+
+    /**
+     * A request entity stream that counts the bytes written to it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * A response entity stream that counts the bytes read from it, and records the sizes of the request and
+     * response entities at the end of the stream or when closed, whichever comes first.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final MetricsRecorder recorder;
+        private final String endpoint;
+        private final String method;
+        private final long bytesOut;
+        private long count;
+        private boolean recorded;
+
+        private CountingInputStream(
+                InputStream in, MetricsRecorder recorder, String endpoint, String method, long bytesOut) {
+            super(in);
+            this.recorder = recorder;
+            this.endpoint = endpoint;
+            this.method = method;
+            this.bytesOut = bytesOut;
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                recorder.recordBytes(endpoint, method, count, bytesOut);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            } else {
+                record();
+            }
+
+            return (b);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            } else if (n < 0) {
+                record();
+            }
+
+            return (n);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return (skipped);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                record();
+            }
+        }
+    }
+}
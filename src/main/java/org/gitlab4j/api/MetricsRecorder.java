@@ -0,0 +1,54 @@
+package org.gitlab4j.api;
+
+/**
+ * <p>This interface defines the metrics recorded for the requests made to the GitLab server, see
+ * {@link GitLabApi#setMetricsRecorder(MetricsRecorder)}. The metrics are recorded per endpoint template, the path
+ * of the request relative to the API URL with the values identifying a resource replaced by a parameter name,
+ * for example "projects/:id/merge_requests/:iid".</p>
+ *
+ * <p>The methods are called on the threads making the requests, implementations must be thread safe and should
+ * not block nor allocate. {@link InMemoryMetricsRecorder} is the default implementation, an implementation can
+ * forward the metrics to any metrics library.</p>
+ */
+public interface MetricsRecorder {
+
+    /** The status recorded for a request that failed without a response, for example on a connection error. */
+    int NO_STATUS = 0;
+
+    /**
+     * This method is called when a request has been made to the GitLab server, once for every attempt of the
+     * request, including the retries and hedges.
+     *
+     * @param endpoint the endpoint template of the request
+     * @param method the HTTP method of the request
+     * @param status the HTTP status of the response, or {@link #NO_STATUS} if the request failed without a response
+     * @param nanos the time from sending the request to receiving the response headers in nanoseconds
+     */
+    default void recordRequest(String endpoint, String method, int status, long nanos) {}
+
+    /**
+     * This method is called once the entity of a response has been read or closed, with the size of the
+     * request and response entities.
+     *
+     * @param endpoint the endpoint template of the request
+     * @param method the HTTP method of the request
+     * @param bytesIn the number of bytes read from the response entity
+     * @param bytesOut the number of bytes written to the request entity
+     */
+    default void recordBytes(String endpoint, String method, long bytesIn, long bytesOut) {}
+
+    /**
+     * This method is called when a request is made again by the {@link RetryPolicy}.
+     *
+     * @param endpoint the endpoint template of the request
+     * @param method the HTTP method of the request
+     */
+    default void recordRetry(String endpoint, String method) {}
+
+    /**
+     * This method is called when a page has been fetched by a {@link Pager}.
+     *
+     * @param endpoint the endpoint template of the paged list
+     */
+    default void recordPage(String endpoint) {}
+}
@@ -1,20 +1,39 @@
 package org.gitlab4j.api;
 
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 
+import org.gitlab4j.api.reactive.PagerPublisher;
+import org.gitlab4j.api.reactive.Publisher;
 import org.gitlab4j.api.utils.JacksonJson;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -37,6 +56,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  *   }
  * </pre>
  *
+ * <p>If the query params contain "pagination=keyset" the Pager uses keyset pagination, following the "next" link
+ * returned in the Link header instead of using the page param. Keyset pagination does not provide the total number
+ * of pages or items and only supports moving to the first page or the next page, but the cost of fetching a page
+ * does not grow with the number of pages already fetched.</p>
+ *
+ * <p>When the deadline of the {@link RequestContext} passes while the pages are fetched, all() and stream(),
+ * including their concurrent variants, throw a {@link GitLabApiTimeoutException}. The methods of the Iterator
+ * interface and the lazy Streams cannot throw a checked exception, they throw a RuntimeException with the
+ * GitLabApiTimeoutException in its causes instead.</p>
+ *
  * @param <T> the GitLab4J type contained in the List.
  */
 public class Pager<T> implements Iterator<List<T>>, Constants {
@@ -46,18 +75,35 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
     private int totalItems;
     private int currentPage;
     private int kaminariNextPage;
-
-    private List<String> pageParam = new ArrayList<>(1);
+    private boolean keysetPagination;
+    private String keysetNextLink;
+    private String currentLink;
+    private int firstPage = 1;
+    private String firstLink;
+    private int firstItemOffset;
+    private int maxItems;
+    private int iteratedItems;
+
+    private List<String> pageParam = new ArrayList<>(Collections.singletonList("1"));
     private List<T> currentItems;
-    private Stream<T> pagerStream = null;
+    private List<T> prefetchedItems;
+    private final AtomicBoolean streamIssued = new AtomicBoolean();
 
     private AbstractApi api;
     private MultivaluedMap<String, String> queryParams;
     private Object[] pathArgs;
 
+    private PerPageTuner perPageTuner;
+    private String endpoint;
+    private String metricsEndpoint;
+
+    private static final Pattern PER_PAGE_LINK_PATTERN = Pattern.compile("([?&]" + PER_PAGE_PARAM + "=)[0-9]+");
+    private static final Pattern NEXT_LINK_PATTERN = Pattern.compile("<([^>]+)>\\s*;[^,]*rel\\s*=\\s*\"?next\"?");
+
     private static JacksonJson jacksonJson = new JacksonJson();
     private static ObjectMapper mapper = jacksonJson.getObjectMapper();
     private JavaType javaType;
+    private JavaType elementType;
 
     /**
      * Creates a Pager instance to access the API through the specified path and query parameters.
@@ -78,8 +124,16 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
             throws GitLabApiException {
 
         javaType = mapper.getTypeFactory().constructCollectionType(List.class, type);
-
-        if (itemsPerPage < 1) {
+        elementType = mapper.getTypeFactory().constructType(type);
+
+        // When adaptive per page selection is enabled use the value tuned for the endpoint,
+        // unless a specific number per page was asked for
+        PerPageTuner tuner = api.getPerPageTuner();
+        if (tuner != null && (itemsPerPage < 1 || itemsPerPage == api.getDefaultPerPage())) {
+            perPageTuner = tuner;
+            endpoint = PerPageTuner.getEndpoint(pathArgs);
+            itemsPerPage = tuner.getPerPage(endpoint, api.getDefaultPerPage());
+        } else if (itemsPerPage < 1) {
             itemsPerPage = api.getDefaultPerPage();
         }
 
@@ -92,14 +146,69 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
             queryParams.add(PER_PAGE_PARAM, Integer.toString(itemsPerPage));
         }
 
-        // Set the page param to 1
-        pageParam = new ArrayList<>();
-        pageParam.add("1");
-        queryParams.put(PAGE_PARAM, pageParam);
-        Response response = api.get(Response.Status.OK, queryParams, pathArgs);
+        this.api = api;
+        this.queryParams = queryParams;
+        this.pathArgs = pathArgs;
+
+        // Keyset pagination follows the "next" link instead of using the page param
+        keysetPagination = KEYSET_PAGINATION.equals(queryParams.getFirst(PAGINATION_PARAM));
+        fetchFirstPage(itemsPerPage);
+    }
+
+    /**
+     * Creates a Pager instance that resumes an iteration at the position held by the provided PagerCursor.
+     * The iteration of the created Pager, including all() and the stream methods, starts at that position.
+     *
+     * @param api the AbstractApi implementation to communicate through
+     * @param type the GitLab4J type that will be contained in the List
+     * @param cursor the PagerCursor holding the position to resume the iteration at
+     * @throws GitLabApiException if any error occurs
+     */
+    public Pager(AbstractApi api, Class<T> type, PagerCursor cursor) throws GitLabApiException {
+
+        javaType = mapper.getTypeFactory().constructCollectionType(List.class, type);
+        elementType = mapper.getTypeFactory().constructType(type);
+
+        this.api = api;
+        this.queryParams = new MultivaluedHashMap<>();
+        cursor.getQueryParams().forEach((key, values) -> queryParams.put(key, new ArrayList<>(values)));
+        this.pathArgs = cursor.getPathArgs().toArray();
+
+        keysetPagination = KEYSET_PAGINATION.equals(queryParams.getFirst(PAGINATION_PARAM));
+        firstPage = cursor.getPage();
+        firstLink = cursor.getLink();
+        firstItemOffset = cursor.getItemOffset();
+
+        // A keyset cursor past the first page without a link was taken after the last page
+        if (keysetPagination && firstPage > 1 && firstLink == null) {
+            itemsPerPage = cursor.getItemsPerPage();
+            currentPage = firstPage - 1;
+            totalPages = currentPage;
+            totalItems = -1;
+            return;
+        }
+
+        fetchFirstPage(cursor.getItemsPerPage());
+    }
+
+    /**
+     * Fetches the first page of the iteration and sets up the paging state from the response headers.
+     *
+     * @param itemsPerPage the items per page to use if the response does not contain the "X-Per-Page" header
+     * @throws GitLabApiException if any error occurs
+     */
+    private void fetchFirstPage(int itemsPerPage) throws GitLabApiException {
+
+        long startNanos = System.nanoTime();
+        Response response;
+        try {
+            response = getPageResponse(firstPage);
+        } catch (IOException ioe) {
+            throw new GitLabApiException(ioe);
+        }
 
         try {
-            currentItems = mapper.readValue((InputStream) response.getEntity(), javaType);
+            currentItems = readPage(response, itemsPerPage, startNanos);
         } catch (Exception e) {
             throw new GitLabApiException(e);
         }
@@ -108,36 +217,75 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
             throw new GitLabApiException("Invalid response from from GitLab server");
         }
 
-        this.api = api;
-        this.queryParams = queryParams;
-        this.pathArgs = pathArgs;
+        int pageSize = currentItems.size();
+        currentItems = skipItems(currentItems);
+        prefetchedItems = currentItems;
+        currentPage = firstPage - 1;
         this.itemsPerPage = getIntHeaderValue(response, PER_PAGE);
 
+        // Keyset paginated responses never contain the totals, the pages can only be followed using the "next" link
+        if (keysetPagination) {
+
+            if (this.itemsPerPage == -1) {
+                this.itemsPerPage = itemsPerPage;
+            }
+
+            if (keysetNextLink == null) {
+                kaminariNextPage = 0;
+                totalPages = firstPage;
+                totalItems = pageSize;
+            } else {
+                totalPages = -1;
+                totalItems = -1;
+            }
+
         // Some API endpoints do not return the "X-Per-Page" header when there is only 1 page, check for that condition
         // and act accordingly
-        if (this.itemsPerPage == -1) {
+        } else if (this.itemsPerPage == -1) {
+
             this.itemsPerPage = itemsPerPage;
-            totalPages = 1;
-            totalItems = currentItems.size();
-            return;
-        }
+            totalPages = firstPage;
+            totalItems = pageSize;
 
-        totalPages = getIntHeaderValue(response, TOTAL_PAGES_HEADER);
-        totalItems = getIntHeaderValue(response, TOTAL_HEADER);
+        } else {
 
-        // Since GitLab 11.8 and behind the api_kaminari_count_with_limit feature flag,
-        // if the number of resources is more than 10,000, the X-Total and X-Total-Page
-        // headers as well as the rel="last" Link are not present in the response headers.
-        if (totalPages == -1 || totalItems == -1) {
+            totalPages = getIntHeaderValue(response, TOTAL_PAGES_HEADER);
+            totalItems = getIntHeaderValue(response, TOTAL_HEADER);
 
-            int nextPage = getIntHeaderValue(response, NEXT_PAGE_HEADER);
-            if (nextPage < 2) {
-                totalPages = 1;
-                totalItems = currentItems.size();
-            } else {
-                kaminariNextPage = 2;
+            // Since GitLab 11.8 and behind the api_kaminari_count_with_limit feature flag,
+            // if the number of resources is more than 10,000, the X-Total and X-Total-Page
+            // headers as well as the rel="last" Link are not present in the response headers.
+            if (totalPages == -1 || totalItems == -1) {
+
+                int nextPage = getIntHeaderValue(response, NEXT_PAGE_HEADER);
+                if (nextPage <= firstPage) {
+                    totalPages = firstPage;
+                    totalItems = pageSize;
+                } else {
+                    kaminariNextPage = nextPage;
+                }
             }
         }
+
+        // When resuming from a cursor the number of items left in the iteration is not known
+        if (firstPage > 1 || firstItemOffset > 0) {
+            totalItems = -1;
+        }
+    }
+
+    /**
+     * Skips the items before the cursor position if the List holds the first page of a resumed iteration.
+     *
+     * @param items the items of the first page
+     * @return the items of the first page following the cursor position
+     */
+    private List<T> skipItems(List<T> items) {
+
+        if (firstItemOffset < 1) {
+            return (items);
+        }
+
+        return (new ArrayList<>(items.subList(Math.min(firstItemOffset, items.size()), items.size())));
     }
 
     /**
@@ -181,6 +329,24 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
         }
     }
 
+    /**
+     * Get the URL of the "next" link from the Link header of the Response instance.
+     *
+     * @param response the Response instance to get the link from
+     * @return the URL of the "next" link, or null if the header or the "next" link is not present
+     * @throws GitLabApiException if any error occurs
+     */
+    private String getNextLink(Response response) throws GitLabApiException {
+
+        String value = getHeaderValue(response, LINK_HEADER);
+        if (value == null) {
+            return (null);
+        }
+
+        Matcher matcher = NEXT_LINK_PATTERN.matcher(value);
+        return (matcher.find() ? matcher.group(1).trim() : null);
+    }
+
     /**
      * Sets the "page" query parameter.
      *
@@ -212,7 +378,8 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
     /**
      * Get the total number of items (T instances) returned by the GitLab API.
      *
-     * @return the total number of items (T instances) returned by the GitLab API, or -1 if the Kaminari limit of 10,000 has been exceeded
+     * @return the total number of items (T instances) returned by the GitLab API, or -1 if the Kaminari limit of 10,000 has been exceeded,
+     * keyset pagination is used, or the Pager was created from a PagerCursor
      */
     public int getTotalItems() {
         return (totalItems);
@@ -227,6 +394,45 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
         return (currentPage);
     }
 
+    /**
+     * Get a PagerCursor holding the position following the current page. A Pager created from the
+     * returned PagerCursor resumes the iteration at the page following the current page.
+     *
+     * @return a PagerCursor holding the position following the current page
+     */
+    public PagerCursor getCursor() {
+
+        if (currentPage < firstPage) {
+            return (new PagerCursor(queryParams, pathArgs, itemsPerPage, firstPage, firstLink, firstItemOffset));
+        }
+
+        String link = (keysetPagination ? keysetNextLink : null);
+        return (new PagerCursor(queryParams, pathArgs, itemsPerPage, currentPage + 1, link, 0));
+    }
+
+    /**
+     * Get a PagerCursor holding the position of the specified item of the current page. A Pager created from the
+     * returned PagerCursor resumes the iteration at that item. If the iteration has not been started the position
+     * is relative to the first page of the iteration.
+     *
+     * @param itemOffset the index, within the List returned for the current page, of the item to resume at
+     * @return a PagerCursor holding the position of the specified item of the current page
+     */
+    public PagerCursor getCursor(int itemOffset) {
+
+        if (itemOffset < 0) {
+            throw new IllegalArgumentException("itemOffset cannot be negative");
+        }
+
+        if (currentPage <= firstPage) {
+            return (new PagerCursor(
+                    queryParams, pathArgs, itemsPerPage, firstPage, firstLink, firstItemOffset + itemOffset));
+        }
+
+        String link = (keysetPagination ? currentLink : null);
+        return (new PagerCursor(queryParams, pathArgs, itemsPerPage, currentPage, link, itemOffset));
+    }
+
     /**
      * Returns the true if there are additional pages to iterate over, otherwise returns false.
      *
@@ -234,6 +440,11 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
      */
     @Override
     public boolean hasNext() {
+
+        if (maxItems > 0 && iteratedItems >= maxItems) {
+            return (false);
+        }
+
         return (currentPage < totalPages || currentPage < kaminariNextPage);
     }
 
@@ -246,7 +457,50 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
      */
     @Override
     public List<T> next() {
-        return (page(currentPage + 1));
+
+        int remainingItems = (maxItems > 0 ? maxItems - iteratedItems : Integer.MAX_VALUE);
+        if (remainingItems <= 0) {
+            throw new NoSuchElementException();
+        }
+
+        // When the limit ends within the next page only request the items that are needed,
+        // unless the page has already been fetched by the constructor
+        int pageNumber = currentPage + 1;
+        List<T> items = null;
+        if (remainingItems < itemsPerPage && !(pageNumber == firstPage && prefetchedItems != null)) {
+            items = limitedPage(remainingItems);
+        }
+
+        if (items == null) {
+            items = page(pageNumber);
+        }
+
+        if (items.size() > remainingItems) {
+            items = new ArrayList<>(items.subList(0, remainingItems));
+        }
+
+        iteratedItems += items.size();
+        return (items);
+    }
+
+    /**
+     * Get the maximum number of items returned by the iteration.
+     *
+     * @return the maximum number of items returned by the iteration, or 0 if there is no limit
+     */
+    public int getMaxItems() {
+        return (maxItems);
+    }
+
+    /**
+     * Set the maximum number of items returned by the iteration, including all(), stream() and lazyStream().
+     * Once the limit has been reached no more pages are requested, and the request for the last page asks for
+     * fewer items than the items per page when possible.
+     *
+     * @param maxItems the maximum number of items returned by the iteration, 0 or less for no limit
+     */
+    public void setMaxItems(int maxItems) {
+        this.maxItems = Math.max(maxItems, 0);
     }
 
     /**
@@ -277,6 +531,10 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
     public List<T> last() throws GitLabApiException {
 
         if (kaminariNextPage != 0) {
+            if (keysetPagination) {
+                throw new GitLabApiException("Keyset pagination in use, unable to fetch last page");
+            }
+
             throw new GitLabApiException("Kaminari count limit exceeded, unable to fetch last page");
         }
 
@@ -311,39 +569,379 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
      */
     public List<T> page(int pageNumber) {
 
-        if (currentPage == 0 && pageNumber == 1) {
-            currentPage = 1;
+        // The first page was fetched by the constructor, only use it once as the
+        // current items will be replaced as the iteration moves on
+        if (currentPage == firstPage - 1 && pageNumber == firstPage && prefetchedItems != null) {
+            currentPage = firstPage;
+            currentItems = prefetchedItems;
+            prefetchedItems = null;
+            return (currentItems);
+        }
+
+        if (currentPage == pageNumber && currentItems != null) {
             return (currentItems);
         }
 
-        if (currentPage == pageNumber) {
+        checkPageNumber(pageNumber);
+
+        try {
+
+            long startNanos = System.nanoTime();
+            Response response = getPageResponse(pageNumber);
+            List<T> items = readPage(response, itemsPerPage, startNanos);
+            currentItems = (pageNumber == firstPage ? skipItems(items) : items);
             return (currentItems);
+
+        } catch (GitLabApiException | IOException e) {
+            throw new RuntimeException(toGitLabApiException(e));
+        }
+    }
+
+    /**
+     * Returns an Iterator over the items of the next page, the items are decoded one at a time as they are
+     * read from the response. Unlike {@link #next()} the page is never held in memory as a List, the
+     * Iterator should be closed if it is not fully consumed.
+     *
+     * @return an Iterator over the items of the next page
+     * @throws NoSuchElementException if the iteration has no more elements
+     * @throws GitLabApiException if any error occurs
+     */
+    Iterator<T> nextElements() throws GitLabApiException {
+
+        // The first page has already been decoded by the constructor
+        int pageNumber = currentPage + 1;
+        if (pageNumber == firstPage && prefetchedItems != null) {
+            return (page(pageNumber).iterator());
+        }
+
+        checkPageNumber(pageNumber);
+
+        try {
+
+            long startNanos = System.nanoTime();
+            Iterator<T> elements = readElements(getPageResponse(pageNumber), itemsPerPage, startNanos);
+            if (pageNumber == firstPage) {
+                for (int i = 0; i < firstItemOffset && elements.hasNext(); i++) {
+                    elements.next();
+                }
+            }
+
+            return (elements);
+
+        } catch (IOException e) {
+            throw toGitLabApiException(e);
+        }
+    }
+
+    /**
+     * Rewinds the iteration to its start, the next call to next() will return the first page of the iteration.
+     */
+    private void rewind() {
+        currentPage = firstPage - 1;
+        iteratedItems = 0;
+    }
+
+    /**
+     * Fetches the start of the next page, requesting only the specified number of items. With offset pagination
+     * the items per page is reduced to the smallest value that divides the offset of the next item and is not less
+     * than maxPageItems. With keyset pagination the items per page of the link is set to maxPageItems.
+     *
+     * @param maxPageItems the number of items needed from the next page
+     * @return the items at the start of the next page, or null if the page cannot be fetched with fewer items
+     * @throws NoSuchElementException if the iteration has no more elements
+     * @throws RuntimeException if a GitLab API error occurs, will contain a wrapped GitLabApiException with the details of the error
+     */
+    private List<T> limitedPage(int maxPageItems) {
+
+        int pageNumber = currentPage + 1;
+        checkPageNumber(pageNumber);
+
+        try {
+
+            long startNanos = System.nanoTime();
+            Response response;
+            int skip = 0;
+            int perPage;
+            if (keysetPagination) {
+
+                // The link always points at the start of a page, the items before the cursor position are skipped
+                skip = (pageNumber == firstPage ? firstItemOffset : 0);
+                perPage = maxPageItems + skip;
+
+                String link = (pageNumber == firstPage ? firstLink : keysetNextLink);
+                if (link == null) {
+                    MultivaluedMap<String, String> limitedQueryParams = new MultivaluedHashMap<>(queryParams);
+                    limitedQueryParams.putSingle(PER_PAGE_PARAM, Integer.toString(perPage));
+                    response = api.get(Response.Status.OK, limitedQueryParams, pathArgs);
+                } else {
+                    response = api.get(Response.Status.OK, null, new URL(withPerPage(link, perPage)));
+                }
+
+                // Continue after the fetched items with the regular items per page
+                String nextLink = getNextLink(response);
+                currentLink = link;
+                keysetNextLink = (nextLink != null ? withPerPage(nextLink, itemsPerPage) : null);
+                kaminariNextPage = (keysetNextLink != null ? pageNumber + 1 : -1);
+
+            } else {
+
+                int offset = (pageNumber == firstPage
+                        ? (firstPage - 1) * itemsPerPage + firstItemOffset
+                        : (pageNumber - 1) * itemsPerPage);
+                perPage = getLimitedPerPage(offset, maxPageItems);
+                if (perPage < 1) {
+                    return (null);
+                }
+
+                MultivaluedMap<String, String> limitedQueryParams = new MultivaluedHashMap<>(queryParams);
+                limitedQueryParams.putSingle(PAGE_PARAM, Integer.toString(offset / perPage + 1));
+                limitedQueryParams.putSingle(PER_PAGE_PARAM, Integer.toString(perPage));
+                response = api.get(Response.Status.OK, limitedQueryParams, pathArgs);
+
+                if (kaminariNextPage > 0) {
+                    kaminariNextPage = (getIntHeaderValue(response, NEXT_PAGE_HEADER) > 0 ? pageNumber + 1 : -1);
+                }
+            }
+
+            // The current page was only partially fetched, it will be fetched again if needed
+            currentPage = pageNumber;
+            currentItems = null;
+            recordPage();
+
+            List<T> items = readPage(response, perPage, startNanos);
+            return (skip > 0 ? new ArrayList<>(items.subList(Math.min(skip, items.size()), items.size())) : items);
+
+        } catch (GitLabApiException | IOException e) {
+            throw new RuntimeException(toGitLabApiException(e));
+        }
+    }
+
+    /**
+     * Get the smallest items per page value, not greater than the current items per page, that divides
+     * the offset and is not less than the number of needed items.
+     *
+     * @param offset the offset of the first needed item
+     * @param neededItems the number of needed items
+     * @return the items per page value, or 0 if there is no such value
+     */
+    private int getLimitedPerPage(int offset, int neededItems) {
+
+        if (offset == 0) {
+            return (neededItems);
+        }
+
+        for (int perPage = neededItems; perPage < itemsPerPage; perPage++) {
+            if (offset % perPage == 0) {
+                return (perPage);
+            }
         }
 
-        if (pageNumber > totalPages && pageNumber > kaminariNextPage) {
+        return (0);
+    }
+
+    /**
+     * Sets the "per_page" query param of the provided link.
+     *
+     * @param link the link to set the "per_page" query param of
+     * @param perPage the value for the "per_page" query param
+     * @return the link with the "per_page" query param set to perPage
+     */
+    private static String withPerPage(String link, int perPage) {
+
+        Matcher matcher = PER_PAGE_LINK_PATTERN.matcher(link);
+        if (matcher.find()) {
+            return (matcher.replaceFirst("$1" + perPage));
+        }
+
+        return (link + (link.indexOf('?') < 0 ? "?" : "&") + PER_PAGE_PARAM + "=" + perPage);
+    }
+
+    /**
+     * Checks that the specified page can be fetched.
+     *
+     * @param pageNumber the page to check
+     * @throws NoSuchElementException if the iteration has no more elements
+     * @throws UnsupportedOperationException if using keyset pagination and pageNumber is not the first,
+     * current, or next page
+     */
+    private void checkPageNumber(int pageNumber) {
+
+        if (pageNumber < 1) {
             throw new NoSuchElementException();
-        } else if (pageNumber < 1) {
+        } else if (keysetPagination) {
+            if (pageNumber != firstPage && pageNumber != currentPage && pageNumber != currentPage + 1) {
+                throw new UnsupportedOperationException(
+                        "Keyset pagination only supports fetching the first, current, or next page");
+            } else if (pageNumber < firstPage) {
+                throw new NoSuchElementException();
+            } else if (pageNumber != firstPage && pageNumber != currentPage && keysetNextLink == null) {
+                throw new NoSuchElementException();
+            }
+        } else if (pageNumber > totalPages && pageNumber > kaminariNextPage) {
             throw new NoSuchElementException();
         }
+    }
 
-        try {
+    /**
+     * Fetches the specified page and makes it the current page. When using keyset pagination the page
+     * is fetched using the link returned with the previous page.
+     *
+     * @param pageNumber the page to fetch
+     * @return the Response instance holding the page
+     * @throws GitLabApiException if any error occurs
+     * @throws IOException if the keyset link is not a valid URL
+     */
+    private Response getPageResponse(int pageNumber) throws GitLabApiException, IOException {
+
+        Response response;
+        if (keysetPagination) {
+
+            String link = (pageNumber == firstPage
+                    ? firstLink
+                    : (pageNumber == currentPage ? currentLink : keysetNextLink));
+            response = (link == null
+                    ? api.get(Response.Status.OK, queryParams, pathArgs)
+                    : api.get(Response.Status.OK, null, new URL(link)));
+
+            currentLink = link;
+            keysetNextLink = getNextLink(response);
+            kaminariNextPage = (keysetNextLink != null ? pageNumber + 1 : -1);
+
+        } else {
 
             setPageParam(pageNumber);
-            Response response = api.get(Response.Status.OK, queryParams, pathArgs);
-            currentItems = mapper.readValue((InputStream) response.getEntity(), javaType);
-            currentPage = pageNumber;
+            response = api.get(Response.Status.OK, queryParams, pathArgs);
 
             if (kaminariNextPage > 0) {
                 kaminariNextPage = getIntHeaderValue(response, NEXT_PAGE_HEADER);
             }
+        }
 
-            return (currentItems);
+        currentPage = pageNumber;
+        currentItems = null;
+        recordPage();
+        return (response);
+    }
 
-        } catch (GitLabApiException | IOException e) {
-            throw new RuntimeException(e);
+    /**
+     * Gets the exception to report for a page that could not be fetched or decoded. When the deadline of the
+     * RequestContext passed while the page was fetched or decoded this is the GitLabApiTimeoutException.
+     *
+     * @param e the exception the page could not be fetched or decoded with
+     * @return the exception to report for the page
+     */
+    private static GitLabApiException toGitLabApiException(Exception e) {
+
+        GitLabApiTimeoutException timeout = GitLabApiTimeoutException.findCause(e);
+        if (timeout != null) {
+            return (timeout);
+        }
+
+        return (e instanceof GitLabApiException ? (GitLabApiException) e : new GitLabApiException(e));
+    }
+
+    /**
+     * Throws the GitLabApiTimeoutException the provided exception was caused by, if any. This reports a deadline
+     * that passed while the pages were fetched through the Iterator methods the same way as the other requests.
+     *
+     * @param re the exception thrown while fetching the pages
+     * @throws GitLabApiTimeoutException if the exception was caused by the deadline of the RequestContext passing
+     */
+    private static void throwIfTimedOut(RuntimeException re) throws GitLabApiTimeoutException {
+
+        GitLabApiTimeoutException timeout = GitLabApiTimeoutException.findCause(re);
+        if (timeout != null) {
+            throw timeout;
         }
     }
 
+    /**
+     * Records a fetched page with the MetricsRecorder, if one is set.
+     */
+    private void recordPage() {
+
+        MetricsRecorder recorder = api.getMetricsRecorder();
+        if (recorder == null) {
+            return;
+        }
+
+        if (metricsEndpoint == null) {
+            metricsEndpoint = EndpointTemplate.of(pathArgs);
+        }
+
+        recorder.recordPage(metricsEndpoint);
+    }
+
+    /**
+     * Decodes the page held by the response. When adaptive per page selection is enabled the latency
+     * and size of the page are recorded with the PerPageTuner. Every page decoded as a List goes through
+     * this method, the pages decoded one item at a time go through {@link #readElements(Response, int, long)}.
+     *
+     * @param response the Response instance holding the page
+     * @param perPage the number per page the page was requested with
+     * @param startNanos the value of System.nanoTime() before the page was requested
+     * @return the items of the page
+     * @throws IOException if any error occurs decoding the page
+     */
+    private List<T> readPage(Response response, int perPage, long startNanos) throws IOException {
+
+        InputStream in = (InputStream) response.getEntity();
+        if (perPageTuner == null) {
+            return (mapper.readValue(in, javaType));
+        }
+
+        CountingInputStream countingIn = new CountingInputStream(in);
+        List<T> items = mapper.readValue(countingIn, javaType);
+        if (items != null) {
+            perPageTuner.record(endpoint, perPage, items.size(), countingIn.count, System.nanoTime() - startNanos);
+        }
+
+        return (items);
+    }
+
+    /**
+     * Creates an Iterator that decodes the items of the page held by the response one at a time. When adaptive
+     * per page selection is enabled the page is recorded with the PerPageTuner once all its items have been read,
+     * the same as {@link #readPage(Response, int, long)} does.
+     *
+     * @param response the Response instance holding the page
+     * @param perPage the number per page the page was requested with
+     * @param startNanos the value of System.nanoTime() before the page was requested
+     * @return an Iterator that decodes the items of the page one at a time
+     * @throws IOException if the content is not a JSON array or any other error occurs
+     */
+    private Iterator<T> readElements(Response response, int perPage, long startNanos) throws IOException {
+
+        InputStream in = (InputStream) response.getEntity();
+        if (perPageTuner == null) {
+            return (readElements(in));
+        }
+
+        CountingInputStream countingIn = new CountingInputStream(in);
+        MappingIterator<T> elements = readElements(countingIn);
+        return (new TunedElementIterator(elements, countingIn, perPage, System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Creates a MappingIterator that decodes the items of a JSON array one at a time.
+     *
+     * @param in the InputStream holding the JSON array
+     * @return a MappingIterator that decodes the items of the JSON array one at a time
+     * @throws IOException if the content is not a JSON array or any other error occurs
+     */
+    private MappingIterator<T> readElements(InputStream in) throws IOException {
+
+        JsonParser parser = mapper.getFactory().createParser(in);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("Invalid response from from GitLab server, expected a JSON array");
+        }
+
+        // Position the parser inside the array so that each array element is read as a separate value
+        parser.clearCurrentToken();
+        return (mapper.readerFor(elementType).readValues(parser));
+    }
+
     /**
      * Gets all the items from each page as a single List instance.
      *
@@ -352,14 +950,57 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
      */
     public List<T> all() throws GitLabApiException {
 
-        // Make sure that current page is 0, this will ensure the whole list is fetched
+        // Rewind to the start of the iteration, this will ensure the whole list is fetched
         // regardless of what page the instance is currently on.
-        currentPage = 0;
+        rewind();
         List<T> allItems = new ArrayList<>(Math.max(totalItems, 0));
 
         // Iterate through the pages and append each page of items to the list
-        while (hasNext()) {
-            allItems.addAll(next());
+        try {
+            while (hasNext()) {
+                allItems.addAll(next());
+            }
+        } catch (RuntimeException re) {
+            throwIfTimedOut(re);
+            throw re;
+        }
+
+        return (allItems);
+    }
+
+    /**
+     * Gets at most maxItems items from the pages as a single List instance. No more pages are requested
+     * once maxItems items have been fetched. This sets the maximum number of items of this Pager, see
+     * {@link #setMaxItems(int)}.
+     *
+     * @param maxItems the maximum number of items to get, 0 or less for no limit
+     * @return at most maxItems items from the pages as a single List instance
+     * @throws GitLabApiException if any error occurs
+     */
+    public List<T> all(int maxItems) throws GitLabApiException {
+        setMaxItems(maxItems);
+        return (all());
+    }
+
+    /**
+     * Gets all the items from each page as a single List instance, fetching the pages concurrently.
+     *
+     * <p>When the total number of pages is known (the "X-Total-Pages" header was returned with the first page)
+     * the remaining pages are fetched at the same time on the provided Executor, with no more than
+     * maxConcurrentRequests requests in flight. If the total number of pages is not known, because the Kaminari
+     * count limit has been exceeded, the pages are fetched one after another. In either case the items are
+     * returned in page order.</p>
+     *
+     * @param executor the Executor to fetch the pages on
+     * @param maxConcurrentRequests the maximum number of pages to fetch at the same time
+     * @return all the items from each page as a single List instance
+     * @throws GitLabApiException if any error occurs
+     */
+    public List<T> all(Executor executor, int maxConcurrentRequests) throws GitLabApiException {
+
+        List<T> allItems = new ArrayList<>(Math.max(totalItems, 0));
+        for (List<T> pageItems : fetchAllPages(executor, maxConcurrentRequests)) {
+            allItems.addAll(pageItems);
         }
 
         return (allItems);
@@ -374,30 +1015,73 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
      */
     public Stream<T> stream() throws GitLabApiException, IllegalStateException {
 
-        if (pagerStream == null) {
-            synchronized (this) {
-                if (pagerStream == null) {
-
-                    // Make sure that current page is 0, this will ensure the whole list is streamed
-                    // regardless of what page the instance is currently on.
-                    currentPage = 0;
+        issueStream();
+        try {
 
-                    // Create a Stream.Builder to contain all the items. This is more efficient than
-                    // getting a List with all() and streaming that List
-                    Stream.Builder<T> streamBuilder = Stream.builder();
+            // Rewind to the start of the iteration, this will ensure the whole list is streamed
+            // regardless of what page the instance is currently on.
+            rewind();
 
-                    // Iterate through the pages and append each page of items to the stream builder
-                    while (hasNext()) {
-                        next().forEach(streamBuilder);
-                    }
+            // Create a Stream.Builder to contain all the items. This is more efficient than
+            // getting a List with all() and streaming that List
+            Stream.Builder<T> streamBuilder = Stream.builder();
 
-                    pagerStream = streamBuilder.build();
-                    return (pagerStream);
-                }
+            // Iterate through the pages and append each page of items to the stream builder
+            while (hasNext()) {
+                next().forEach(streamBuilder);
             }
+
+            return (streamBuilder.build());
+
+        } catch (RuntimeException e) {
+            streamIssued.set(false);
+            throwIfTimedOut(e);
+            throw e;
         }
+    }
 
-        throw new IllegalStateException("Stream already issued");
+    /**
+     * Builds and returns a Stream instance which is pre-populated with at most maxItems items from the pages.
+     * No more pages are requested once maxItems items have been fetched. This sets the maximum number of items
+     * of this Pager, see {@link #setMaxItems(int)}.
+     *
+     * @param maxItems the maximum number of items to stream, 0 or less for no limit
+     * @return a Stream instance which is pre-populated with at most maxItems items from the pages
+     * @throws IllegalStateException if Stream has already been issued
+     * @throws GitLabApiException if any other error occurs
+     */
+    public Stream<T> stream(int maxItems) throws GitLabApiException, IllegalStateException {
+        setMaxItems(maxItems);
+        return (stream());
+    }
+
+    /**
+     * Builds and returns a Stream instance which is pre-populated with all items from all pages, fetching
+     * the pages concurrently. See {@link #all(Executor, int)} for details on how the pages are fetched.
+     *
+     * @param executor the Executor to fetch the pages on
+     * @param maxConcurrentRequests the maximum number of pages to fetch at the same time
+     * @return a Stream instance which is pre-populated with all items from all pages
+     * @throws IllegalStateException if Stream has already been issued
+     * @throws GitLabApiException if any other error occurs
+     */
+    public Stream<T> stream(Executor executor, int maxConcurrentRequests)
+            throws GitLabApiException, IllegalStateException {
+
+        issueStream();
+        try {
+
+            Stream.Builder<T> streamBuilder = Stream.builder();
+            for (List<T> pageItems : fetchAllPages(executor, maxConcurrentRequests)) {
+                pageItems.forEach(streamBuilder);
+            }
+
+            return (streamBuilder.build());
+
+        } catch (GitLabApiException | RuntimeException e) {
+            streamIssued.set(false);
+            throw e;
+        }
     }
 
     /**
@@ -408,20 +1092,386 @@ public class Pager<T> implements Iterator<List<T>>, Constants {
      */
     public Stream<T> lazyStream() throws IllegalStateException {
 
-        if (pagerStream == null) {
-            synchronized (this) {
-                if (pagerStream == null) {
+        issueStream();
+
+        // Rewind to the start of the iteration, this will ensure the whole list is streamed
+        // regardless of what page the instance is currently on.
+        rewind();
+
+        return (StreamSupport.stream(new PagerSpliterator<T>(this), false));
+    }
+
+    /**
+     * Creates a Stream instance for lazily streaming items from the GitLab server, fetching up to
+     * readAheadPages pages in the background while the current page is being consumed. Pages are
+     * fetched on a daemon thread started for this Stream.
+     *
+     * <p>The background fetching blocks when readAheadPages pages are waiting to be consumed.
+     * Close the Stream to stop the background fetching if the Stream is not fully consumed.</p>
+     *
+     * @param readAheadPages the maximum number of pages to fetch ahead of the consumer, must be greater than 0
+     * @return a Stream instance for lazily streaming items from the GitLab server
+     * @throws IllegalStateException if Stream has already been issued
+     */
+    public Stream<T> lazyStream(int readAheadPages) throws IllegalStateException {
+        return (lazyStream(readAheadPages, null));
+    }
+
+    /**
+     * Creates a Stream instance for lazily streaming items from the GitLab server, fetching up to
+     * readAheadPages pages on the provided Executor while the current page is being consumed.
+     *
+     * <p>The background fetching blocks when readAheadPages pages are waiting to be consumed.
+     * Close the Stream to stop the background fetching if the Stream is not fully consumed.</p>
+     *
+     * @param readAheadPages the maximum number of pages to fetch ahead of the consumer, must be greater than 0
+     * @param executor the Executor to fetch the pages on, if null a daemon thread is started to fetch the pages
+     * @return a Stream instance for lazily streaming items from the GitLab server
+     * @throws IllegalStateException if Stream has already been issued
+     */
+    public Stream<T> lazyStream(int readAheadPages, Executor executor) throws IllegalStateException {
+
+        if (readAheadPages < 1) {
+            throw new IllegalArgumentException("readAheadPages must be greater than 0");
+        }
 
-                    // Make sure that current page is 0, this will ensure the whole list is streamed
-                    // regardless of what page the instance is currently on.
-                    currentPage = 0;
+        issueStream();
 
-                    pagerStream = StreamSupport.stream(new PagerSpliterator<T>(this), false);
-                    return (pagerStream);
+        // Rewind to the start of the iteration, this will ensure the whole list is streamed
+        // regardless of what page the instance is currently on.
+        rewind();
+
+        PagerReadAheadSpliterator<T> spliterator = new PagerReadAheadSpliterator<>(this, readAheadPages, executor);
+        return (StreamSupport.stream(spliterator, false).onClose(spliterator::close));
+    }
+
+    /**
+     * Creates a Stream instance for lazily streaming items from the GitLab server, decoding each item as
+     * it is read from the response instead of decoding each page into a List. This keeps at most one
+     * decoded item in memory at a time, at the cost of holding the connection open while a page is consumed.
+     * Close the Stream to release the connection if the Stream is not fully consumed.
+     *
+     * @return a Stream instance for lazily streaming items from the GitLab server
+     * @throws IllegalStateException if Stream has already been issued
+     */
+    public Stream<T> lazyElementStream() throws IllegalStateException {
+
+        issueStream();
+
+        // Rewind to the start of the iteration, this will ensure the whole list is streamed
+        // regardless of what page the instance is currently on.
+        rewind();
+
+        ElementIterator elements = new ElementIterator();
+        Spliterator<T> spliterator = (totalItems >= 0 && maxItems == 0
+                ? Spliterators.spliterator(elements, totalItems, Spliterator.NONNULL)
+                : Spliterators.spliteratorUnknownSize(elements, Spliterator.NONNULL));
+        return (StreamSupport.stream(spliterator, false).onClose(elements::close));
+    }
+
+    /**
+     * Marks the Stream of this Pager as issued. This uses an atomic flag rather than a monitor, so that a virtual
+     * thread building a Stream is not pinned to its carrier thread while the pages are fetched.
+     *
+     * @throws IllegalStateException if Stream has already been issued
+     */
+    private void issueStream() {
+        if (!streamIssued.compareAndSet(false, true)) {
+            throw new IllegalStateException("Stream already issued");
+        }
+    }
+
+    /**
+     * Creates a Publisher of the items of this Pager for use in reactive pipelines. Pages are only fetched
+     * when the demand signaled by the Subscriber needs them, on the provided Executor, so no thread is
+     * blocked while there is no demand. The Publisher supports a single Subscriber.
+     *
+     * @param executor the Executor to fetch the pages and deliver the items on
+     * @return a Publisher of the items of this Pager
+     */
+    public Publisher<T> publisher(Executor executor) {
+
+        // Rewind to the start of the iteration, this will ensure the whole list is published
+        // regardless of what page the instance is currently on.
+        rewind();
+        return (new PagerPublisher<>(this, executor));
+    }
+
+    /**
+     * Fetches the specified page without changing the iteration state of this Pager. Unlike
+     * {@link #page(int)} this method is safe to call from several threads at the same time.
+     *
+     * @param pageNumber the page to fetch
+     * @return the specified page of List
+     * @throws GitLabApiException if any error occurs
+     */
+    List<T> fetchPage(int pageNumber) throws GitLabApiException {
+
+        if (keysetPagination) {
+            throw new UnsupportedOperationException("Keyset pagination does not support fetching pages out of order");
+        }
+
+        long startNanos = System.nanoTime();
+        MultivaluedMap<String, String> pageQueryParams = new MultivaluedHashMap<>(queryParams);
+        pageQueryParams.putSingle(PAGE_PARAM, Integer.toString(pageNumber));
+        Response response = api.get(Response.Status.OK, pageQueryParams, pathArgs);
+        recordPage();
+
+        try {
+            return (readPage(response, itemsPerPage, startNanos));
+        } catch (IOException e) {
+            throw toGitLabApiException(e);
+        }
+    }
+
+    /**
+     * Fetches all the pages, the first page is fetched through the iterator and the remaining pages
+     * are fetched concurrently on the provided Executor when the total number of pages is known.
+     *
+     * @param executor the Executor to fetch the pages on
+     * @param maxConcurrentRequests the maximum number of pages to fetch at the same time
+     * @return a List containing each page of items, in page order
+     * @throws GitLabApiException if any error occurs
+     */
+    private List<List<T>> fetchAllPages(Executor executor, int maxConcurrentRequests) throws GitLabApiException {
+
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be greater than 0");
+        }
+
+        // Rewind to the start of the iteration, this will ensure the whole list is fetched
+        // regardless of what page the instance is currently on.
+        rewind();
+        List<List<T>> pages = new ArrayList<>(Math.max(totalPages, 1));
+        if (!hasNext()) {
+            return (pages);
+        }
+
+        try {
+
+            pages.add(next());
+
+            // Without the total number of pages the pages can only be followed one after another,
+            // the same goes when the number of items is limited
+            if (kaminariNextPage != 0 || maxItems > 0) {
+                while (hasNext()) {
+                    pages.add(next());
                 }
+
+                return (pages);
             }
+
+        } catch (RuntimeException re) {
+            throwIfTimedOut(re);
+            throw re;
         }
 
-        throw new IllegalStateException("Stream already issued");
+        Semaphore permits = new Semaphore(maxConcurrentRequests);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(Math.max(totalPages - 1, 0));
+        try {
+
+            for (int pageNumber = currentPage + 1; pageNumber <= totalPages; pageNumber++) {
+
+                permits.acquire();
+
+                // Stop scheduling pages once one of them has failed, the failure is reported below
+                if (failed.get()) {
+                    break;
+                }
+
+                final int page = pageNumber;
+                CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return (fetchPage(page));
+                            } catch (GitLabApiException glae) {
+                                throw new CompletionException(glae);
+                            }
+                        },
+                        executor);
+
+                future.whenComplete((items, throwable) -> {
+                    if (throwable != null) {
+                        failed.set(true);
+                    }
+
+                    permits.release();
+                });
+                futures.add(future);
+            }
+
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new GitLabApiException(ie);
+        }
+
+        for (CompletableFuture<List<T>> future : futures) {
+            try {
+                pages.add(future.join());
+            } catch (CompletionException ce) {
+                Throwable cause = ce.getCause();
+                throw toGitLabApiException(cause instanceof Exception ? (Exception) cause : ce);
+            }
+        }
+
+        // Leave the iterator at the last page, the same as all() does
+        currentPage = firstPage - 1 + pages.size();
+        currentItems = pages.get(pages.size() - 1);
+        return (pages);
+    }
+
+    /**
+     * An Iterator over the items of all the pages, each page is decoded one item at a time.
+     */
+    private class ElementIterator implements Iterator<T> {
+
+        private Iterator<T> elements = Collections.emptyIterator();
+        private int returnedItems;
+
+        @Override
+        public boolean hasNext() {
+
+            if (maxItems > 0 && returnedItems >= maxItems) {
+                close();
+                return (false);
+            }
+
+            while (!elements.hasNext()) {
+
+                close();
+                if (!Pager.this.hasNext()) {
+                    return (false);
+                }
+
+                try {
+                    elements = nextElements();
+                } catch (GitLabApiException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return (true);
+        }
+
+        @Override
+        public T next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            returnedItems++;
+            return (elements.next());
+        }
+
+        /**
+         * Closes the Iterator of the current page, releasing the response if it was not fully read.
+         */
+        private void close() {
+
+            if (elements instanceof Closeable) {
+                try {
+                    ((Closeable) elements).close();
+                } catch (IOException ignore) {
+                }
+            }
+
+            elements = Collections.emptyIterator();
+        }
+    }
+
+    /**
+     * An Iterator over the items of a page, decoded one at a time, that records the page with the PerPageTuner
+     * once all its items have been read. Only the time spent fetching and decoding the page is measured, not
+     * the time the consumer spends between the items.
+     */
+    private class TunedElementIterator implements Iterator<T>, Closeable {
+
+        private final MappingIterator<T> elements;
+        private final CountingInputStream in;
+        private final int perPage;
+        private long nanos;
+        private int items;
+        private boolean recorded;
+
+        private TunedElementIterator(MappingIterator<T> elements, CountingInputStream in, int perPage, long nanos) {
+            this.elements = elements;
+            this.in = in;
+            this.perPage = perPage;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            long startNanos = System.nanoTime();
+            boolean hasNext = elements.hasNext();
+            nanos += System.nanoTime() - startNanos;
+
+            if (!hasNext && !recorded) {
+                recorded = true;
+                perPageTuner.record(endpoint, perPage, items, in.count, nanos);
+            }
+
+            return (hasNext);
+        }
+
+        @Override
+        public T next() {
+
+            long startNanos = System.nanoTime();
+            T element = elements.next();
+            nanos += System.nanoTime() - startNanos;
+            items++;
+            return (element);
+        }
+
+        @Override
+        public void close() throws IOException {
+            elements.close();
+        }
+    }
+
+    /**
+     * An InputStream that counts the bytes read from the wrapped InputStream.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return (b);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return (n);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return (skipped);
+        }
     }
 }
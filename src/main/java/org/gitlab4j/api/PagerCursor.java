@@ -0,0 +1,127 @@
+package org.gitlab4j.api;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * <p>Holds a position within the iteration of a {@link Pager}. A PagerCursor is obtained with
+ * {@link Pager#getCursor()} or {@link Pager#getCursor(int)} and is Serializable, so that it can be saved
+ * and later used to create a Pager that resumes the iteration where it stopped.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   // Save the position after processing each page
+ *   while (pager.hasNext()) {
+ *       process(pager.next());
+ *       save(pager.getCursor());
+ *   }
+ *
+ *   // After a restart, continue from the saved position
+ *   Pager&lt;Project&gt; pager = new Pager&lt;&gt;(gitLabApi.getProjectApi(), Project.class, loadCursor());
+ * </pre>
+ */
+public class PagerCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final LinkedHashMap<String, ArrayList<String>> queryParams;
+    private final ArrayList<String> pathArgs;
+    private final int itemsPerPage;
+    private final int page;
+    private final String link;
+    private final int itemOffset;
+
+    PagerCursor(
+            MultivaluedMap<String, String> queryParams,
+            Object[] pathArgs,
+            int itemsPerPage,
+            int page,
+            String link,
+            int itemOffset) {
+
+        this.queryParams = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
+            if (!Constants.PAGE_PARAM.equals(entry.getKey())) {
+                this.queryParams.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+        }
+
+        this.pathArgs = new ArrayList<>(pathArgs.length);
+        for (Object pathArg : pathArgs) {
+            this.pathArgs.add(String.valueOf(pathArg));
+        }
+
+        this.itemsPerPage = itemsPerPage;
+        this.page = page;
+        this.link = link;
+        this.itemOffset = itemOffset;
+    }
+
+    /**
+     * Get the query params used to fetch the pages, not including the "page" param.
+     *
+     * @return the query params used to fetch the pages
+     */
+    public Map<String, List<String>> getQueryParams() {
+        return (Collections.unmodifiableMap(queryParams));
+    }
+
+    /**
+     * Get the path arguments used to fetch the pages.
+     *
+     * @return the path arguments used to fetch the pages
+     */
+    public List<String> getPathArgs() {
+        return (Collections.unmodifiableList(pathArgs));
+    }
+
+    /**
+     * Get the items per page value.
+     *
+     * @return the items per page value
+     */
+    public int getItemsPerPage() {
+        return (itemsPerPage);
+    }
+
+    /**
+     * Get the page the iteration resumes at.
+     *
+     * @return the page the iteration resumes at
+     */
+    public int getPage() {
+        return (page);
+    }
+
+    /**
+     * Get the link used to fetch the page the iteration resumes at when using keyset pagination.
+     *
+     * @return the link used to fetch the page the iteration resumes at, or null if not using keyset pagination
+     * or the page is the first page
+     */
+    public String getLink() {
+        return (link);
+    }
+
+    /**
+     * Get the number of items of the page to skip when resuming the iteration.
+     *
+     * @return the number of items of the page to skip when resuming the iteration
+     */
+    public int getItemOffset() {
+        return (itemOffset);
+    }
+
+    @Override
+    public String toString() {
+        return ("PagerCursor[pathArgs=" + pathArgs + ", queryParams=" + queryParams + ", page=" + page
+                + ", link=" + link + ", itemOffset=" + itemOffset + "]");
+    }
+}
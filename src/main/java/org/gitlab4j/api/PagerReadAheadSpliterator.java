@@ -0,0 +1,183 @@
+package org.gitlab4j.api;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator over the items of a Pager that fetches pages ahead of the consumer. A background task
+ * fetches the pages into a bounded buffer, blocking when the buffer is full, so that the next page
+ * is usually available by the time the consumer has processed the current one.
+ */
+class PagerReadAheadSpliterator<T> implements Spliterator<T> {
+
+    /** How long the producer waits for room in the buffer before checking whether it has been closed. */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final Pager<T> pager;
+    private final BlockingQueue<Page<T>> buffer;
+    private volatile boolean closed;
+
+    private Iterator<T> elements = Collections.emptyIterator();
+    private boolean done;
+    private long consumed;
+
+    /**
+     * Creates the spliterator and starts fetching pages.
+     *
+     * @param pager the Pager to fetch the pages with
+     * @param readAheadPages the maximum number of pages to hold in the buffer
+     * @param executor the Executor to fetch the pages on, if null a daemon thread is started to fetch the pages
+     */
+    PagerReadAheadSpliterator(Pager<T> pager, int readAheadPages, Executor executor) {
+
+        this.pager = pager;
+        this.buffer = new ArrayBlockingQueue<>(readAheadPages);
+
+        if (executor == null) {
+            executor = task -> {
+                Thread thread = new Thread(task, "gitlab4j-pager-read-ahead");
+                thread.setDaemon(true);
+                thread.start();
+            };
+        }
+
+        executor.execute(this::fetchPages);
+    }
+
+    /**
+     * Fetches the pages into the buffer until there are no more pages, an error occurs, or this instance is closed.
+     * The end of the pages, or the error, is always put into the buffer so that the consumer never waits forever,
+     * including when the fetching fails with an Error.
+     */
+    private void fetchPages() {
+
+        Throwable error = null;
+        try {
+
+            while (!closed && pager.hasNext()) {
+                if (!put(new Page<>(pager.next(), null))) {
+                    return;
+                }
+            }
+
+        } catch (Throwable t) {
+            error = t;
+        }
+
+        put(new Page<>(null, error));
+    }
+
+    /**
+     * Puts a page into the buffer, waiting for room to become available.
+     *
+     * @param page the page to put into the buffer
+     * @return true if the page was added to the buffer, false if this instance was closed or the thread interrupted
+     */
+    private boolean put(Page<T> page) {
+
+        try {
+            while (!closed) {
+                if (buffer.offer(page, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return (true);
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        return (false);
+    }
+
+    /**
+     * Stops fetching pages and releases the buffered pages.
+     */
+    void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        if (action == null) {
+            throw new NullPointerException("Action is null");
+        }
+
+        while (!elements.hasNext()) {
+
+            if (done || closed) {
+                return false;
+            }
+
+            Page<T> page;
+            try {
+                page = buffer.take();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ie);
+            }
+
+            if (page.error != null) {
+                done = true;
+                if (page.error instanceof Error) {
+                    throw (Error) page.error;
+                }
+
+                throw (page.error instanceof RuntimeException
+                        ? (RuntimeException) page.error
+                        : new RuntimeException(page.error));
+            } else if (page.items == null) {
+                done = true;
+                return false;
+            }
+
+            elements = page.items.iterator();
+        }
+
+        consumed++;
+        action.accept(elements.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        int totalItems = pager.getTotalItems();
+        int maxItems = pager.getMaxItems();
+        if (maxItems > 0) {
+            return (Math.max((totalItems >= 0 ? Math.min(totalItems, maxItems) : maxItems) - consumed, 0));
+        }
+
+        return (totalItems >= 0 ? Math.max(totalItems - consumed, 0) : Long.MAX_VALUE);
+    }
+
+    @Override
+    public int characteristics() {
+        return (pager.getTotalItems() >= 0 && pager.getMaxItems() == 0 ? SIZED | NONNULL : NONNULL);
+    }
+
+    /**
+     * Holds a page of items, the end of the pages (null items), or the error that stopped the fetching.
+     */
+    private static class Page<T> {
+
+        private final List<T> items;
+        private final Throwable error;
+
+        private Page(List<T> items, Throwable error) {
+            this.items = items;
+            this.error = error;
+        }
+    }
+}
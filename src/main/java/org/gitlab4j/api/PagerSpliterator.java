@@ -5,51 +5,136 @@ import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
+/**
+ * A Spliterator over the items of a Pager. When the total number of pages and items are known
+ * the remaining pages are split into page ranges, each range fetching its own pages, this allows
+ * a parallel Stream to fetch and process pages on several threads at the same time. When the
+ * totals are not known (for example when GitLab omits them for large collections) the pages are
+ * followed one after another using the Pager.
+ */
 class PagerSpliterator<T> implements Spliterator<T> {
 
     private Pager<T> pager;
 
     private Iterator<T> elements;
 
+    /** The next page to fetch when splitting by page range, 0 if following the Pager. */
+    private int nextPage;
+
+    /** The last page (inclusive) of the page range covered by this instance. */
+    private int lastPage;
+
+    /** Set once this instance has been split, from then on estimateSize() is only an estimate. */
+    private boolean split;
+
+    /** The number of items consumed by tryAdvance(), used to report the number of remaining items. */
+    private long consumed;
+
     PagerSpliterator(Pager<T> pager) {
         this.pager = pager;
         if (pager.hasNext()) {
             elements = this.pager.next().iterator();
+            int totalPages = pager.getTotalPages();
+            if (totalPages > 1 && pager.getTotalItems() >= 0 && pager.getMaxItems() == 0) {
+                nextPage = pager.getCurrentPage() + 1;
+                lastPage = totalPages;
+            }
         } else {
             elements = Collections.emptyIterator();
         }
     }
 
+    private PagerSpliterator(Pager<T> pager, Iterator<T> elements, int nextPage, int lastPage) {
+        this.pager = pager;
+        this.elements = elements;
+        this.nextPage = nextPage;
+        this.lastPage = lastPage;
+        this.split = true;
+    }
+
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
         if (action == null) {
             throw new NullPointerException("Action is null");
         }
         if (elements.hasNext()) {
-            action.accept(elements.next());
-            return true;
+            return accept(action);
+        } else if (nextPage > 0) {
+            while (nextPage <= lastPage) {
+                elements = fetchPage(nextPage++);
+                if (elements.hasNext()) {
+                    return accept(action);
+                }
+            }
         } else if (pager.hasNext()) {
             elements = pager.next().iterator();
             if (elements.hasNext()) {
-                action.accept(elements.next());
-                return true;
+                return accept(action);
             }
         }
         return false;
     }
 
+    private boolean accept(Consumer<? super T> action) {
+        consumed++;
+        action.accept(elements.next());
+        return true;
+    }
+
+    /**
+     * Splits off a prefix containing the items already fetched and the first half of the remaining
+     * page range. Returns null when following the Pager page by page, or when less than two pages remain.
+     */
     @Override
     public Spliterator<T> trySplit() {
-        return null;
+
+        int remainingPages = lastPage - nextPage + 1;
+        if (nextPage <= 0 || remainingPages < 2) {
+            return null;
+        }
+
+        int splitPage = nextPage + remainingPages / 2;
+        PagerSpliterator<T> prefix = new PagerSpliterator<>(pager, elements, nextPage, splitPage - 1);
+        elements = Collections.emptyIterator();
+        nextPage = splitPage;
+        split = true;
+        return prefix;
     }
 
     @Override
     public long estimateSize() {
-        return pager.getTotalItems();
+
+        if (split) {
+            long remainingPages = Math.max(lastPage - nextPage + 1, 0);
+            long estimate = remainingPages * pager.getItemsPerPage();
+            return (elements.hasNext() ? estimate + pager.getItemsPerPage() : estimate);
+        }
+
+        // Once unsplit, the size is the number of items still to come
+        int totalItems = pager.getTotalItems();
+        int maxItems = pager.getMaxItems();
+        if (maxItems > 0) {
+            return (Math.max((totalItems >= 0 ? Math.min(totalItems, maxItems) : maxItems) - consumed, 0));
+        }
+
+        return (totalItems >= 0 ? Math.max(totalItems - consumed, 0) : Long.MAX_VALUE);
     }
 
+    /**
+     * Only reports SIZED when the total number of items is known and not limited, the page ranges
+     * produced by trySplit() are never SIZED as the last page may be a partial page. The size reported
+     * by estimateSize() is the number of items not yet consumed.
+     */
     @Override
     public int characteristics() {
-        return SIZED | NONNULL;
+        return (!split && pager.getTotalItems() >= 0 && pager.getMaxItems() == 0 ? SIZED | NONNULL : NONNULL);
+    }
+
+    private Iterator<T> fetchPage(int pageNumber) {
+        try {
+            return pager.fetchPage(pageNumber).iterator();
+        } catch (GitLabApiException e) {
+            throw new RuntimeException(e);
+        }
     }
 }
@@ -0,0 +1,252 @@
+package org.gitlab4j.api;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Selects the "per_page" value used by {@link Pager} instances for each endpoint based on the observed cost
+ * of the responses. The best page size is very different for small items (for example labels) and large items
+ * (for example projects with statistics), so each endpoint is tuned separately.</p>
+ *
+ * <p>For each endpoint the tuner measures the latency and payload size of every full page and keeps a moving
+ * average of the items per second for each page size tried. It then moves towards the page size with the best
+ * throughput, up to the GitLab maximum of 100 items per page, backing off when a page takes longer than
+ * the maximum latency or exceeds the maximum page size in bytes, to stay clear of server timeouts.</p>
+ *
+ * <p>The page size is selected when a Pager is created, so it applies to the following Pager instances for the
+ * same endpoint. The tuned values are available with {@link #getTunedPerPage()} and can be pinned with
+ * {@link #pin(String, int)}.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   gitLabApi.setPerPageTuner(new PerPageTuner());
+ *   ...
+ *   // Later, save the tuned values to pin them in the next run
+ *   Map&lt;String, Integer&gt; tuned = gitLabApi.getPerPageTuner().getTunedPerPage();
+ * </pre>
+ */
+public class PerPageTuner {
+
+    /** The maximum "per_page" value supported by GitLab. */
+    public static final int MAX_PER_PAGE = 100;
+
+    /** The minimum "per_page" value selected by the tuner. */
+    public static final int MIN_PER_PAGE = 10;
+
+    /** The default maximum latency of a page, well under the default GitLab request timeout of 60 seconds. */
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 10000;
+
+    /** The default maximum size of a page in bytes. */
+    public static final long DEFAULT_MAX_PAGE_BYTES = 8 * 1024 * 1024;
+
+    /** The number of full pages measured at a page size before trying another page size. */
+    private static final int SAMPLES_PER_STEP = 3;
+
+    /** The weight of a new measurement in the moving averages. */
+    private static final double SMOOTHING = 0.3;
+
+    private final long maxLatencyNanos;
+    private final long maxPageBytes;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a PerPageTuner using the default maximum latency and page size.
+     */
+    public PerPageTuner() {
+        this(DEFAULT_MAX_LATENCY_MILLIS, DEFAULT_MAX_PAGE_BYTES);
+    }
+
+    /**
+     * Creates a PerPageTuner using the provided maximum latency and page size.
+     *
+     * @param maxLatencyMillis the maximum time in milliseconds to fetch a page, the page size is reduced when exceeded
+     * @param maxPageBytes the maximum size of a page in bytes, the page size is not increased beyond it
+     */
+    public PerPageTuner(long maxLatencyMillis, long maxPageBytes) {
+
+        if (maxLatencyMillis < 1 || maxPageBytes < 1) {
+            throw new IllegalArgumentException("maxLatencyMillis and maxPageBytes must be greater than 0");
+        }
+
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.maxPageBytes = maxPageBytes;
+    }
+
+    /**
+     * Get the endpoint key for the provided path arguments. Path arguments that identify a specific resource,
+     * such as IDs, URL encoded paths and the paths of groups and users, are replaced with a parameter name so
+     * that for example the merge requests of every project share the "projects/:id/merge_requests" key. This is
+     * the same endpoint template the metrics of a {@link MetricsRecorder} are recorded for.
+     *
+     * @param pathArgs the path arguments of the request
+     * @return the endpoint key for the provided path arguments
+     */
+    public static String getEndpoint(Object... pathArgs) {
+        return (EndpointTemplate.of(pathArgs));
+    }
+
+    /**
+     * Get the "per_page" value to use for the provided endpoint.
+     *
+     * @param endpoint the endpoint key, see {@link #getEndpoint(Object...)}
+     * @param defaultPerPage the value to start from if the endpoint has not been measured yet
+     * @return the "per_page" value to use for the provided endpoint
+     */
+    public int getPerPage(String endpoint, int defaultPerPage) {
+        int perPage = Math.max(MIN_PER_PAGE, Math.min(MAX_PER_PAGE, defaultPerPage));
+        return (endpoints.computeIfAbsent(endpoint, key -> new Endpoint(perPage)).getPerPage());
+    }
+
+    /**
+     * Records the cost of a page fetched from the provided endpoint. Only full pages are used for tuning,
+     * partial pages (the last page of a list) do not show the cost of a full page size.
+     *
+     * @param endpoint the endpoint key, see {@link #getEndpoint(Object...)}
+     * @param perPage the "per_page" value the page was requested with
+     * @param items the number of items in the page
+     * @param bytes the size of the page in bytes
+     * @param nanos the time it took to fetch and decode the page in nanoseconds
+     */
+    public void record(String endpoint, int perPage, int items, long bytes, long nanos) {
+
+        Endpoint stats = endpoints.get(endpoint);
+        if (stats != null && perPage > 0 && items > 0 && nanos > 0) {
+            stats.record(perPage, items, bytes, nanos);
+        }
+    }
+
+    /**
+     * Pins the "per_page" value for the provided endpoint, the tuner will no longer change it.
+     *
+     * @param endpoint the endpoint key, see {@link #getEndpoint(Object...)}
+     * @param perPage the "per_page" value to use for the endpoint, from 1 to 100
+     */
+    public void pin(String endpoint, int perPage) {
+
+        if (perPage < 1 || perPage > MAX_PER_PAGE) {
+            throw new IllegalArgumentException("perPage must be from 1 to " + MAX_PER_PAGE);
+        }
+
+        endpoints.computeIfAbsent(endpoint, key -> new Endpoint(perPage)).pin(perPage);
+    }
+
+    /**
+     * Pins the "per_page" values for several endpoints, for example the values returned by
+     * {@link #getTunedPerPage()} in a previous run.
+     *
+     * @param perPageByEndpoint the "per_page" values keyed by endpoint
+     */
+    public void pinAll(Map<String, Integer> perPageByEndpoint) {
+        perPageByEndpoint.forEach(this::pin);
+    }
+
+    /**
+     * Lets the tuner change the "per_page" value of the provided endpoint again.
+     *
+     * @param endpoint the endpoint key, see {@link #getEndpoint(Object...)}
+     */
+    public void unpin(String endpoint) {
+
+        Endpoint stats = endpoints.get(endpoint);
+        if (stats != null) {
+            stats.unpin();
+        }
+    }
+
+    /**
+     * Get the current "per_page" value of every endpoint seen by this tuner.
+     *
+     * @return the current "per_page" values keyed by endpoint
+     */
+    public Map<String, Integer> getTunedPerPage() {
+
+        Map<String, Integer> tuned = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> tuned.put(endpoint, stats.getPerPage()));
+        return (Collections.unmodifiableMap(tuned));
+    }
+
+    /**
+     * Holds the measurements of an endpoint and walks the page size towards the best throughput, doubling
+     * the page size while the throughput improves, returning to the best smaller page size otherwise, and
+     * halving it when a page is too slow or too large.
+     */
+    private class Endpoint {
+
+        private final Map<Integer, Double> itemsPerSecond = new TreeMap<>();
+        private int perPage;
+        private boolean pinned;
+        private int samples;
+        private double bytesPerItem;
+
+        private Endpoint(int perPage) {
+            this.perPage = perPage;
+        }
+
+        private synchronized int getPerPage() {
+            return (perPage);
+        }
+
+        private synchronized void pin(int perPage) {
+            this.perPage = perPage;
+            pinned = true;
+        }
+
+        private synchronized void unpin() {
+            pinned = false;
+            samples = 0;
+        }
+
+        private synchronized void record(int pagePerPage, int items, long bytes, long nanos) {
+
+            if (items < pagePerPage) {
+                return;
+            }
+
+            double itemBytes = (double) bytes / items;
+            bytesPerItem = (bytesPerItem == 0 ? itemBytes : bytesPerItem + SMOOTHING * (itemBytes - bytesPerItem));
+
+            double throughput = items * 1e9 / nanos;
+            itemsPerSecond.merge(pagePerPage, throughput, (average, value) -> average + SMOOTHING * (value - average));
+
+            if (pinned || pagePerPage != perPage) {
+                return;
+            }
+
+            // Back off when close to a server timeout or when the pages become too large
+            if (nanos > maxLatencyNanos || bytes > maxPageBytes) {
+                perPage = Math.max(MIN_PER_PAGE, perPage / 2);
+                itemsPerSecond.remove(pagePerPage);
+                samples = 0;
+                return;
+            }
+
+            if (++samples < SAMPLES_PER_STEP) {
+                return;
+            }
+
+            samples = 0;
+            int larger = Math.min(MAX_PER_PAGE, perPage * 2);
+            boolean largerFits = (larger > perPage
+                    && bytesPerItem * larger <= maxPageBytes
+                    && (double) nanos / perPage * larger <= maxLatencyNanos);
+
+            // Try the larger page size once, then keep whichever page size has the best throughput
+            Double largerThroughput = itemsPerSecond.get(larger);
+            if (largerFits && largerThroughput == null) {
+                perPage = larger;
+            } else if (largerFits && largerThroughput > itemsPerSecond.get(perPage)) {
+                perPage = larger;
+            } else {
+                for (Map.Entry<Integer, Double> entry : itemsPerSecond.entrySet()) {
+                    if (entry.getKey() < perPage && entry.getValue() > itemsPerSecond.get(perPage)) {
+                        perPage = entry.getKey();
+                    }
+                }
+            }
+        }
+    }
+}
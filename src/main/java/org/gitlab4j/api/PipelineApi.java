@@ -137,6 +137,32 @@ public class PipelineApi extends AbstractApi implements Constants {
                 "pipelines"));
     }
 
+    /**
+     * Get a keyset paginated Pager of pipelines in a project filtered with the provided
+     * {@link org.gitlab4j.api.models.PipelineFilter}. Keyset pagination does not provide the total number
+     * of pipelines, but fetching each page costs the same regardless of how many pages have already been fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects/:id/pipelines?pagination=keyset</code></pre>
+     *
+     * @param projectIdOrPath the project in the form of an Long(ID), String(path), or Project instance
+     * @param filter a PipelineFilter instance used to filter the results, may be null
+     * @param itemsPerPage the number of Pipeline instances that will be fetched per page
+     * @return a keyset paginated Pager containing the pipelines for the specified project ID and matching the provided filter
+     * @throws GitLabApiException if any exception occurs during execution
+     */
+    public Pager<Pipeline> getPipelinesKeysetPager(Object projectIdOrPath, PipelineFilter filter, int itemsPerPage)
+            throws GitLabApiException {
+        GitLabApiForm formData = (filter != null ? filter.getQueryParams() : null);
+        return (new Pager<Pipeline>(
+                this,
+                Pipeline.class,
+                itemsPerPage,
+                getKeysetQueryParams(formData, null),
+                "projects",
+                getProjectIdOrPath(projectIdOrPath),
+                "pipelines"));
+    }
+
     /**
      * Get a Stream of pipelines in a project filtered with the provided {@link org.gitlab4j.api.models.PipelineFilter}.
      *
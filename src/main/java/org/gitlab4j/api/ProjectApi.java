@@ -672,6 +672,40 @@ public class ProjectApi extends AbstractApi implements Constants {
         return (new Pager<Project>(this, Project.class, itemsPerPage, formData.asMap(), "projects"));
     }
 
+    /**
+     * Get the number of visible projects across GitLab for the authenticated user matching the provided filter.
+     * Only the number of projects is requested, the projects themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects</code></pre>
+     *
+     * @param filter the ProjectFilter instance holding the filter values for the query, may be null
+     * @return the number of matching projects, or -1 if the GitLab server does not return the count
+     * (more than 10,000 projects with the Kaminari count limit enabled)
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getProjectsCount(ProjectFilter filter) throws GitLabApiException {
+        return (getCount(filter != null ? filter.getQueryParams().asMap() : null, "projects"));
+    }
+
+    /**
+     * Get a keyset paginated Pager of all visible projects across GitLab for the authenticated user using
+     * the provided filter. Keyset pagination does not provide the total number of projects, but fetching each
+     * page costs the same regardless of how many pages have already been fetched. If the filter does not
+     * specify an order, the projects are ordered by ID.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects?pagination=keyset</code></pre>
+     *
+     * @param filter the ProjectFilter instance holding the filter values for the query, may be null
+     * @param itemsPerPage the number of Project instances that will be fetched per page
+     * @return a keyset paginated Pager of all visible projects across GitLab for the authenticated user
+     * @throws GitLabApiException if any exception occurs
+     */
+    public Pager<Project> getProjectsKeysetPager(ProjectFilter filter, int itemsPerPage) throws GitLabApiException {
+        GitLabApiForm formData = (filter != null ? filter.getQueryParams() : null);
+        return (new Pager<Project>(
+                this, Project.class, itemsPerPage, getKeysetQueryParams(formData, "id"), "projects"));
+    }
+
     /**
      * Get a Stream of all visible projects across GitLab for the authenticated user using the provided filter.
      *
@@ -1681,6 +1715,20 @@ public class ProjectApi extends AbstractApi implements Constants {
                 this, Member.class, itemsPerPage, null, "projects", getProjectIdOrPath(projectIdOrPath), "members"));
     }
 
+    /**
+     * Get the number of project team members. Only the number of members is requested,
+     * the members themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /projects/:id/members</code></pre>
+     *
+     * @param projectIdOrPath the project in the form of an Long(ID), String(path), or Project instance
+     * @return the number of members belonging to the specified project, or -1 if the GitLab server does not return the count
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getMembersCount(Object projectIdOrPath) throws GitLabApiException {
+        return (getCount(null, "projects", getProjectIdOrPath(projectIdOrPath), "members"));
+    }
+
     /**
      * Get a Stream of project team members.
      *
@@ -3425,6 +3473,34 @@ public class ProjectApi extends AbstractApi implements Constants {
                 "audit_events"));
     }
 
+    /**
+     * Get a keyset paginated Pager of the project audit events viewable by Maintainer or an Owner of the project.
+     *
+     * <pre><code>GET /projects/:id/audit_events?pagination=keyset</code></pre>
+     *
+     * @param projectIdOrPath the project ID, path of the project, or a Project instance holding the project ID or path
+     * @param created_after Project audit events created on or after the given time.
+     * @param created_before Project audit events created on or before the given time.
+     * @param itemsPerPage the number of Audit Event instances that will be fetched per page
+     * @return a keyset paginated Pager of project Audit events
+     * @throws GitLabApiException if any exception occurs
+     */
+    public Pager<AuditEvent> getAuditEventsKeysetPager(
+            Object projectIdOrPath, Date created_after, Date created_before, int itemsPerPage)
+            throws GitLabApiException {
+        Form form = new GitLabApiForm()
+                .withParam("created_before", ISO8601.toString(created_before, false))
+                .withParam("created_after", ISO8601.toString(created_after, false));
+        return (new Pager<AuditEvent>(
+                this,
+                AuditEvent.class,
+                itemsPerPage,
+                getKeysetQueryParams(form, null),
+                "projects",
+                getProjectIdOrPath(projectIdOrPath),
+                "audit_events"));
+    }
+
     /**
      * Get a Stream of the group audit events viewable by Maintainer or an Owner of the group.
      *
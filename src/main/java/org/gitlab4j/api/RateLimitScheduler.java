@@ -0,0 +1,279 @@
+package org.gitlab4j.api;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Response;
+
+/**
+ * <p>Paces the requests made to a GitLab server to stay just under its rate limits. The remaining request
+ * budget is tracked for each host and authentication token from the "RateLimit-Remaining" and "RateLimit-Reset"
+ * headers of the responses, and the requests are spread over the time left until the reset instead of being sent
+ * in a burst that ends with "429 Too Many Requests" responses. When a response holds a "Retry-After" header
+ * (429 and 503 responses) no request is made with the same host and token until that time has passed.</p>
+ *
+ * <p>A RateLimitScheduler is thread safe and can be shared by several GitLabApi instances, requests made with
+ * the same host and token share the same budget.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   RateLimitScheduler scheduler = new RateLimitScheduler();
+ *   gitLabApi.setRateLimitScheduler(scheduler);
+ * </pre>
+ */
+public class RateLimitScheduler implements Constants {
+
+    /** The default number of requests of the budget left unused, for requests made by other clients. */
+    public static final int DEFAULT_RESERVED_REQUESTS = 5;
+
+    private final int reservedRequests;
+    private final LongSupplier clock;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a RateLimitScheduler that leaves {@link #DEFAULT_RESERVED_REQUESTS} requests of the budget unused.
+     */
+    public RateLimitScheduler() {
+        this(DEFAULT_RESERVED_REQUESTS);
+    }
+
+    /**
+     * Creates a RateLimitScheduler that leaves the provided number of requests of the budget unused.
+     *
+     * @param reservedRequests the number of requests of the budget left unused, for requests made by other clients
+     */
+    public RateLimitScheduler(int reservedRequests) {
+        this(reservedRequests, System::currentTimeMillis);
+    }
+
+    RateLimitScheduler(int reservedRequests, LongSupplier clock) {
+
+        if (reservedRequests < 0) {
+            throw new IllegalArgumentException("reservedRequests must not be negative");
+        }
+
+        this.reservedRequests = reservedRequests;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the key used to track the budget of the provided host and authentication token. The token
+     * itself is not part of the key.
+     *
+     * @param host the host (and port) of the GitLab server
+     * @param authToken the authentication token, may be null
+     * @return the key used to track the budget of the provided host and authentication token
+     */
+    public static String getKey(String host, String authToken) {
+        return (host + "#" + (authToken != null ? Integer.toHexString(authToken.hashCode()) : ""));
+    }
+
+    /**
+     * Waits until a request can be made with the budget of the provided key.
+     *
+     * @param key the key of the budget, see {@link #getKey(String, String)}
+     * @throws ProcessingException if the thread is interrupted while waiting
+     */
+    public void acquire(String key) {
+        acquire(key, null);
+    }
+
+    /**
+     * Waits until a request can be made with the budget of the provided key, failing right away instead of
+     * waiting if the request cannot be made before the provided deadline.
+     *
+     * @param key the key of the budget, see {@link #getKey(String, String)}
+     * @param deadline the deadline of the request in milliseconds since the epoch, null if it has none
+     * @throws ProcessingException holding a GitLabApiTimeoutException if the request cannot be made before
+     * the deadline, or if the thread is interrupted while waiting
+     */
+    public void acquire(String key, Long deadline) {
+
+        long delay = reserve(key, deadline);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new ProcessingException("Interrupted while waiting for the GitLab rate limit", ie);
+            }
+        }
+    }
+
+    /**
+     * Reserves a request with the budget of the provided key.
+     *
+     * @param key the key of the budget
+     * @return the number of milliseconds to wait before making the request
+     */
+    long reserve(String key) {
+        return (reserve(key, null));
+    }
+
+    /**
+     * Reserves a request with the budget of the provided key, nothing is reserved if the request cannot be
+     * made before the provided deadline.
+     *
+     * @param key the key of the budget
+     * @param deadline the deadline of the request in milliseconds since the epoch, null if it has none
+     * @return the number of milliseconds to wait before making the request
+     * @throws ProcessingException holding a GitLabApiTimeoutException if the request cannot be made before
+     * the deadline
+     */
+    long reserve(String key, Long deadline) {
+
+        Budget budget = budgets.computeIfAbsent(key, k -> new Budget());
+        synchronized (budget) {
+
+            long now = clock.getAsLong();
+            long start = Math.max(now, budget.blockedUntilMillis);
+            if (budget.remaining < 0 || budget.resetAtMillis <= start) {
+                return (getDelay(start, now, deadline));
+            }
+
+            int usable = budget.remaining - reservedRequests;
+            if (usable <= 0) {
+
+                // The budget is spent, every request waits for the reset
+                budget.remaining = 0;
+                budget.blockedUntilMillis = Math.max(budget.blockedUntilMillis, budget.resetAtMillis);
+                return (getDelay(budget.blockedUntilMillis, now, deadline));
+            }
+
+            // Spread the usable budget over the time left until the reset
+            start = Math.max(start, budget.nextSlotMillis);
+            long delay = getDelay(start, now, deadline);
+            long interval = Math.max(0, budget.resetAtMillis - start) / usable;
+            budget.nextSlotMillis = start + interval;
+            budget.remaining--;
+            return (delay);
+        }
+    }
+
+    private static long getDelay(long start, long now, Long deadline) {
+
+        if (deadline != null && start > deadline) {
+            throw new ProcessingException(new GitLabApiTimeoutException(deadline));
+        }
+
+        return (start - now);
+    }
+
+    /**
+     * Updates the budget of the provided key from the rate limit headers of a response.
+     *
+     * @param key the key of the budget, see {@link #getKey(String, String)}
+     * @param response the response to read the rate limit headers from
+     */
+    public void update(String key, Response response) {
+
+        int remaining = getIntHeader(response, RATE_LIMIT_REMAINING_HEADER);
+        int reset = getIntHeader(response, RATE_LIMIT_RESET_HEADER);
+        int status = response.getStatus();
+
+        Budget budget = budgets.computeIfAbsent(key, k -> new Budget());
+        synchronized (budget) {
+
+            long now = clock.getAsLong();
+            if (remaining >= 0) {
+                budget.remaining = remaining;
+            }
+
+            if (reset >= 0) {
+                budget.resetAtMillis = reset * 1000L;
+            }
+
+            if (status == 429 || status == 503) {
+                long retryAfter = getRetryAfterMillis(response.getHeaderString(RETRY_AFTER_HEADER), now);
+                if (retryAfter >= 0) {
+                    budget.blockedUntilMillis = Math.max(budget.blockedUntilMillis, now + retryAfter);
+                } else if (status == 429 && budget.resetAtMillis > now) {
+                    budget.blockedUntilMillis = Math.max(budget.blockedUntilMillis, budget.resetAtMillis);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of requests left in the budget of the provided key, as last reported by the GitLab server
+     * less the requests made since.
+     *
+     * @param key the key of the budget, see {@link #getKey(String, String)}
+     * @return the number of requests left in the budget, or -1 if unknown
+     */
+    public int getRemaining(String key) {
+
+        Budget budget = budgets.get(key);
+        if (budget == null) {
+            return (-1);
+        }
+
+        synchronized (budget) {
+            return (budget.remaining);
+        }
+    }
+
+    /**
+     * Get the number of milliseconds to wait given the value of a "Retry-After" header, which holds either
+     * a number of seconds or an HTTP date.
+     *
+     * @param retryAfter the value of the "Retry-After" header, may be null
+     * @param nowMillis the current time in milliseconds
+     * @return the number of milliseconds to wait, or -1 if the value is missing or invalid
+     */
+    static long getRetryAfterMillis(String retryAfter, long nowMillis) {
+
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return (-1);
+        }
+
+        try {
+            return (Math.max(0, Long.parseLong(retryAfter.trim()) * 1000));
+        } catch (NumberFormatException nfe) {
+        }
+
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return (Math.max(0, date.toInstant().toEpochMilli() - nowMillis));
+        } catch (DateTimeParseException dtpe) {
+            return (-1);
+        }
+    }
+
+    /**
+     * Get the value of an integer header of a response, such as the "RateLimit-Remaining" header.
+     *
+     * @param response the response to read the header from
+     * @param name the name of the header
+     * @return the value of the header, or -1 if the header is missing or invalid
+     */
+    static int getIntHeader(Response response, String name) {
+
+        String value = response.getHeaderString(name);
+        if (value == null) {
+            return (-1);
+        }
+
+        try {
+            return (Integer.parseInt(value.trim()));
+        } catch (NumberFormatException nfe) {
+            return (-1);
+        }
+    }
+
+    /**
+     * The request budget of a host and token.
+     */
+    private static class Budget {
+        private int remaining = -1;
+        private long resetAtMillis;
+        private long blockedUntilMillis;
+        private long nextSlotMillis;
+    }
+}
@@ -1,5 +1,6 @@
 package org.gitlab4j.api;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -492,6 +493,14 @@ public class RepositoryApi extends AbstractApi {
      * @throws GitLabApiException if any exception occurs
      */
     public InputStream getRawBlobContent(Object projectIdOrPath, String sha) throws GitLabApiException {
+
+        ContentCache cache = getContentCache();
+        String key = getContentKey(cache, "blob", projectIdOrPath, sha);
+        byte[] content = (key != null ? cache.getContent(key) : null);
+        if (content != null) {
+            return (new ByteArrayInputStream(content));
+        }
+
         Response response = getWithAccepts(
                 Response.Status.OK,
                 null,
@@ -502,7 +511,19 @@ public class RepositoryApi extends AbstractApi {
                 "blobs",
                 sha,
                 "raw");
-        return (response.readEntity(InputStream.class));
+
+        // Stream the blobs that are too large to be cached instead of reading them into memory, the blobs of
+        // unknown size (chunked or compressed responses) are read up to the size limit of the cache
+        long length = response.getLength();
+        if (key == null || (length >= 0 && !cache.isCacheable(length))) {
+            return (response.readEntity(InputStream.class));
+        }
+
+        try {
+            return (cache.putContent(key, response.readEntity(InputStream.class)));
+        } catch (IOException ioe) {
+            throw new GitLabApiException(ioe);
+        }
     }
 
     /**
@@ -705,7 +726,7 @@ public class RepositoryApi extends AbstractApi {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
@@ -746,7 +767,7 @@ public class RepositoryApi extends AbstractApi {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
@@ -842,7 +863,7 @@ public class RepositoryApi extends AbstractApi {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
@@ -896,7 +917,7 @@ public class RepositoryApi extends AbstractApi {
             return (file);
 
         } catch (IOException ioe) {
-            throw new GitLabApiException(ioe);
+            throw handle(ioe);
         }
     }
 
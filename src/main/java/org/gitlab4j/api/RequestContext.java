@@ -0,0 +1,176 @@
+package org.gitlab4j.api;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>The per call settings of the requests made to the GitLab server: the user to sudo as, the connect and read
+ * timeouts, extra headers and a deadline. A RequestContext is immutable, each withXxx() method returns a new
+ * instance, so a RequestContext can be shared by any number of threads.</p>
+ *
+ * <p>A RequestContext is bound to a lightweight view of a GitLabApi instance with
+ * {@link GitLabApi#forContext(RequestContext)}. The view shares the HTTP client, the connection pool and the
+ * request policies of the GitLabApi instance, so a multi-tenant service can serve many users at once with a single
+ * client instead of creating a duplicate GitLabApi instance, and its HTTP client, for each user. The request
+ * policies are those set on the GitLabApi instance when the view is created, see
+ * {@link GitLabApi#forContext(RequestContext)}.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   RequestContext context = RequestContext.create()
+ *       .withSudoAsId(userId)
+ *       .withReadTimeout(5000)
+ *       .withHeader("X-Request-Id", requestId);
+ *   Project project = gitLabApi.forContext(context).getProjectApi().getProject(projectId);
+ * </pre>
+ */
+public final class RequestContext {
+
+    private static final RequestContext EMPTY = new RequestContext(null, null, null, Collections.emptyMap(), null);
+
+    private final Long sudoAsId;
+    private final Integer connectTimeout;
+    private final Integer readTimeout;
+    private final Map<String, String> headers;
+    private final Long deadlineMillis;
+
+    private RequestContext(
+            Long sudoAsId,
+            Integer connectTimeout,
+            Integer readTimeout,
+            Map<String, String> headers,
+            Long deadlineMillis) {
+        this.sudoAsId = sudoAsId;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.headers = headers;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * Get a RequestContext with no settings, the settings of the GitLabApi instance are used.
+     *
+     * @return a RequestContext with no settings
+     */
+    public static RequestContext create() {
+        return (EMPTY);
+    }
+
+    /**
+     * Get a copy of this RequestContext with the provided user to sudo as.
+     *
+     * @param sudoAsId the ID of the user to sudo as, null to use the sudo user of the GitLabApi instance
+     * @return a copy of this RequestContext with the provided user to sudo as
+     */
+    public RequestContext withSudoAsId(Long sudoAsId) {
+        return (new RequestContext(sudoAsId, connectTimeout, readTimeout, headers, deadlineMillis));
+    }
+
+    /**
+     * Get a copy of this RequestContext with the provided connect timeout.
+     *
+     * @param connectTimeout the connect timeout in milliseconds, null to use the timeout of the GitLabApi instance
+     * @return a copy of this RequestContext with the provided connect timeout
+     */
+    public RequestContext withConnectTimeout(Integer connectTimeout) {
+        return (new RequestContext(sudoAsId, connectTimeout, readTimeout, headers, deadlineMillis));
+    }
+
+    /**
+     * Get a copy of this RequestContext with the provided read timeout.
+     *
+     * @param readTimeout the read timeout in milliseconds, null to use the timeout of the GitLabApi instance
+     * @return a copy of this RequestContext with the provided read timeout
+     */
+    public RequestContext withReadTimeout(Integer readTimeout) {
+        return (new RequestContext(sudoAsId, connectTimeout, readTimeout, headers, deadlineMillis));
+    }
+
+    /**
+     * Get a copy of this RequestContext with an extra header, sent with every request.
+     *
+     * @param name the name of the header
+     * @param value the value of the header, null to remove the header
+     * @return a copy of this RequestContext with the extra header
+     */
+    public RequestContext withHeader(String name, String value) {
+
+        Map<String, String> newHeaders = new LinkedHashMap<>(headers);
+        if (value != null) {
+            newHeaders.put(name, value);
+        } else {
+            newHeaders.remove(name);
+        }
+
+        return (new RequestContext(
+                sudoAsId, connectTimeout, readTimeout, Collections.unmodifiableMap(newHeaders), deadlineMillis));
+    }
+
+    /**
+     * Get a copy of this RequestContext with the provided deadline. Requests are not started after the deadline,
+     * and their connect and read timeouts are shortened to the time left until the deadline.
+     *
+     * @param deadlineMillis the deadline in milliseconds since the epoch, null for no deadline
+     * @return a copy of this RequestContext with the provided deadline
+     */
+    public RequestContext withDeadline(Long deadlineMillis) {
+        return (new RequestContext(sudoAsId, connectTimeout, readTimeout, headers, deadlineMillis));
+    }
+
+    /**
+     * Get a copy of this RequestContext with a deadline the provided number of milliseconds from now.
+     *
+     * @param timeoutMillis the number of milliseconds from now to the deadline
+     * @return a copy of this RequestContext with the deadline
+     */
+    public RequestContext withDeadlineIn(long timeoutMillis) {
+        return (withDeadline(System.currentTimeMillis() + timeoutMillis));
+    }
+
+    /**
+     * Get the ID of the user to sudo as.
+     *
+     * @return the ID of the user to sudo as, or null if not set
+     */
+    public Long getSudoAsId() {
+        return (sudoAsId);
+    }
+
+    /**
+     * Get the connect timeout in milliseconds.
+     *
+     * @return the connect timeout in milliseconds, or null if not set
+     */
+    public Integer getConnectTimeout() {
+        return (connectTimeout);
+    }
+
+    /**
+     * Get the read timeout in milliseconds.
+     *
+     * @return the read timeout in milliseconds, or null if not set
+     */
+    public Integer getReadTimeout() {
+        return (readTimeout);
+    }
+
+    /**
+     * Get the extra headers sent with every request.
+     *
+     * @return an unmodifiable Map of the extra headers
+     */
+    public Map<String, String> getHeaders() {
+        return (headers);
+    }
+
+    /**
+     * Get the deadline in milliseconds since the epoch.
+     *
+     * @return the deadline in milliseconds since the epoch, or null if not set
+     */
+    public Long getDeadline() {
+        return (deadlineMillis);
+    }
+}
@@ -0,0 +1,264 @@
+package org.gitlab4j.api;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Response;
+
+/**
+ * <p>Retries the requests that fail with a transient error, such as the 502 and 503 responses and the connection
+ * resets seen while a GitLab server is being restarted, or a 429 response when a rate limit is hit. The delay
+ * between attempts grows exponentially and is randomized ("full jitter") so that many clients failing at the same
+ * time do not retry at the same time. When the response holds a "Retry-After" header the delay is at least the
+ * time asked for by the server.</p>
+ *
+ * <p>By default only the GET, HEAD, PUT and DELETE requests are retried, as repeating them has the same effect as
+ * making them once. POST requests are only retried when enabled with {@link #withRetryPost(boolean)}.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   gitLabApi.setRetryPolicy(new RetryPolicy()
+ *       .withMaxAttempts(5)
+ *       .withBackoff(1000, 60000));
+ * </pre>
+ */
+public class RetryPolicy implements Constants {
+
+    /** The default maximum number of attempts of a request, including the first attempt. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /** The default upper bound of the delay before the first retry. */
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 500;
+
+    /** The default maximum delay between two attempts. */
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 30000;
+
+    private static final Set<String> IDEMPOTENT_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT, HttpMethod.DELETE)));
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+    private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+    private boolean retryPost;
+    private Set<Integer> retryStatuses = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong recoveredRequests = new AtomicLong();
+    private final AtomicLong exhaustedRequests = new AtomicLong();
+
+    /**
+     * Set the maximum number of attempts of a request, including the first attempt.
+     *
+     * @param maxAttempts the maximum number of attempts, must be greater than 0
+     * @return this RetryPolicy instance
+     */
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be greater than 0");
+        }
+
+        this.maxAttempts = maxAttempts;
+        return (this);
+    }
+
+    /**
+     * Set the delays between attempts. The delay before the nth retry is a random value between 0 and
+     * initialBackoffMillis * 2^(n-1), capped at maxBackoffMillis.
+     *
+     * @param initialBackoffMillis the upper bound of the delay before the first retry
+     * @param maxBackoffMillis the maximum delay between two attempts, a request is not retried when the server
+     * asks to wait longer than this with a "Retry-After" header
+     * @return this RetryPolicy instance
+     */
+    public RetryPolicy withBackoff(long initialBackoffMillis, long maxBackoffMillis) {
+
+        if (initialBackoffMillis < 0 || maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException("initialBackoffMillis must be from 0 to maxBackoffMillis");
+        }
+
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        return (this);
+    }
+
+    /**
+     * Set whether POST requests are retried. POST requests are not idempotent, only enable this when
+     * repeating the POST requests made by the application is safe.
+     *
+     * @param retryPost true to also retry POST requests
+     * @return this RetryPolicy instance
+     */
+    public RetryPolicy withRetryPost(boolean retryPost) {
+        this.retryPost = retryPost;
+        return (this);
+    }
+
+    /**
+     * Set the HTTP status codes of the responses that are retried, by default 429, 502, 503 and 504.
+     *
+     * @param statuses the HTTP status codes of the responses that are retried
+     * @return this RetryPolicy instance
+     */
+    public RetryPolicy withRetryStatuses(Integer... statuses) {
+        this.retryStatuses = new HashSet<>(Arrays.asList(statuses));
+        return (this);
+    }
+
+    /**
+     * Get the maximum number of attempts of a request, including the first attempt.
+     *
+     * @return the maximum number of attempts of a request
+     */
+    public int getMaxAttempts() {
+        return (maxAttempts);
+    }
+
+    /**
+     * Get the total number of retries made with this policy.
+     *
+     * @return the total number of retries made with this policy
+     */
+    public long getRetryCount() {
+        return (retries.get());
+    }
+
+    /**
+     * Get the number of requests that succeeded after being retried.
+     *
+     * @return the number of requests that succeeded after being retried
+     */
+    public long getRecoveredCount() {
+        return (recoveredRequests.get());
+    }
+
+    /**
+     * Get the number of requests that still failed after the last attempt.
+     *
+     * @return the number of requests that still failed after the last attempt
+     */
+    public long getExhaustedCount() {
+        return (exhaustedRequests.get());
+    }
+
+    /**
+     * Returns true if requests made with the provided HTTP method are retried.
+     *
+     * @param method the HTTP method
+     * @return true if requests made with the provided HTTP method are retried
+     */
+    public boolean isRetryable(String method) {
+        return (IDEMPOTENT_METHODS.contains(method) || (retryPost && HttpMethod.POST.equals(method)));
+    }
+
+    /**
+     * Performs a request, retrying it while it fails with a transient error and attempts are left.
+     *
+     * @param method the HTTP method of the request
+     * @param request performs the request and returns the Response instance
+     * @return the Response instance of the last attempt
+     * @throws ProcessingException if the last attempt failed with a connection error, or the thread was
+     * interrupted while waiting to retry
+     */
+    Response execute(String method, Supplier<Response> request) {
+        return (execute(method, null, request));
+    }
+
+    /**
+     * Performs a request, retrying it while it fails with a transient error and attempts are left. A request
+     * is not retried if the wait before the retry would end after the provided deadline, it fails right away
+     * with a GitLabApiTimeoutException instead.
+     *
+     * @param method the HTTP method of the request
+     * @param deadline the deadline of the request in milliseconds since the epoch, null if it has none
+     * @param request performs the request and returns the Response instance
+     * @return the Response instance of the last attempt
+     * @throws ProcessingException if the last attempt failed with a connection error, the thread was
+     * interrupted while waiting to retry, or holding a GitLabApiTimeoutException if the deadline would pass
+     * while waiting to retry
+     */
+    Response execute(String method, Long deadline, Supplier<Response> request) {
+
+        if (maxAttempts < 2 || !isRetryable(method)) {
+            return (request.get());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+
+            Response response;
+            try {
+                response = request.get();
+            } catch (ProcessingException pe) {
+
+                if (!(pe.getCause() instanceof IOException)) {
+                    throw pe;
+                } else if (attempt >= maxAttempts) {
+                    exhaustedRequests.incrementAndGet();
+                    throw pe;
+                }
+
+                sleep(getBackoffMillis(attempt), deadline, pe);
+                retries.incrementAndGet();
+                continue;
+            }
+
+            if (!retryStatuses.contains(response.getStatus())) {
+                if (attempt > 1) {
+                    recoveredRequests.incrementAndGet();
+                }
+                return (response);
+            }
+
+            long delay = getBackoffMillis(attempt);
+            long retryAfter = RateLimitScheduler.getRetryAfterMillis(
+                    response.getHeaderString(RETRY_AFTER_HEADER), System.currentTimeMillis());
+            if (attempt >= maxAttempts || retryAfter > maxBackoffMillis) {
+                exhaustedRequests.incrementAndGet();
+                return (response);
+            }
+
+            response.close();
+            sleep(Math.max(delay, retryAfter), deadline, null);
+            retries.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get a random delay before the provided retry, between 0 and the exponential backoff of the retry.
+     *
+     * @param retry the number of the retry, starting at 1
+     * @return the delay in milliseconds
+     */
+    long getBackoffMillis(int retry) {
+        long backoff = initialBackoffMillis << Math.min(retry - 1, 30);
+        long bound = Math.min(maxBackoffMillis, backoff < 0 ? maxBackoffMillis : backoff);
+        return (bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0);
+    }
+
+    private static void sleep(long millis, Long deadline, Throwable cause) {
+
+        if (deadline != null && System.currentTimeMillis() + millis > deadline) {
+            throw new ProcessingException(new GitLabApiTimeoutException(deadline, cause));
+        }
+
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted while waiting to retry a GitLab request", ie);
+        }
+    }
+}
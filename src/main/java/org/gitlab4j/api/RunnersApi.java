@@ -419,6 +419,27 @@ public class RunnersApi extends AbstractApi {
         return (new Pager<>(this, Job.class, itemsPerPage, formData.asMap(), "runners", runnerId, "jobs"));
     }
 
+    /**
+     * Get the number of jobs that are being processed or were processed by specified Runner.
+     * Only the number of jobs is requested, the jobs themselves are not fetched.
+     *
+     * <pre><code>GitLab Endpoint: GET /runners/:id/jobs</code></pre>
+     *
+     * @param runnerId     The ID of a runner
+     * @param status       Status of the jobs to count; one of: running, success, failed, canceled, may be null
+     * @return the number of jobs for the Runner, or -1 if the GitLab server does not return the count
+     * @throws GitLabApiException if any exception occurs
+     */
+    public int getJobsCount(Long runnerId, JobStatus status) throws GitLabApiException {
+
+        if (runnerId == null) {
+            throw new RuntimeException("runnerId cannot be null");
+        }
+
+        GitLabApiForm formData = new GitLabApiForm().withParam("status", status, false);
+        return (getCount(formData.asMap(), "runners", runnerId, "jobs"));
+    }
+
     /**
      * List all runners (specific and shared) available in the project. Shared runners are listed if at least one
      * shared runner is defined and shared runners usage is enabled in the project's settings.
@@ -0,0 +1,218 @@
+package org.gitlab4j.api;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.HttpHost;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+
+/**
+ * <p>A pool of HTTP connections that can be shared by any number of GitLabApi instances, including instances
+ * created by {@link GitLabApi#duplicate()} and instances with different access tokens. Connections are kept
+ * alive and reused by all the instances, the number of connections is limited in total and per GitLab server,
+ * and connections that have been idle for too long are closed by a background daemon thread.</p>
+ *
+ * <p>All HTTPS connections of the pool are created with a single SSLContext, so TLS sessions are resumed
+ * instead of a full handshake for each new connection. The access token and the other headers are sent with
+ * each request, a pooled connection holds no state of the GitLabApi instance that opened it.</p>
+ *
+ * <p>The pool is used by passing the Map returned by {@link #getClientConfigProperties()} to the GitLabApi
+ * constructors and login methods. The Map can be combined with other ClientConfig properties, for example
+ * with the Map created by {@link ProxyClientConfig}. Closing a GitLabApi instance does not close the pool,
+ * close the pool once all the GitLabApi instances using it are closed.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   SharedConnectionPool pool = new SharedConnectionPool(200, 50, 60000);
+ *   GitLabApi gitLabApi = new GitLabApi(hostUrl, userToken, pool.getClientConfigProperties());
+ * </pre>
+ */
+public class SharedConnectionPool implements AutoCloseable {
+
+    /** The default maximum number of connections of the pool. */
+    public static final int DEFAULT_MAX_TOTAL = 200;
+
+    /** The default maximum number of connections to a single GitLab server. */
+    public static final int DEFAULT_MAX_PER_ROUTE = 20;
+
+    /** The default number of milliseconds a connection can be idle before it is closed. */
+    public static final long DEFAULT_MAX_IDLE_MILLIS = 60000;
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final IdleConnectionEvictor idleConnectionEvictor;
+
+    /**
+     * Creates a SharedConnectionPool with the default limits and the default SSLContext.
+     */
+    public SharedConnectionPool() {
+        this(DEFAULT_MAX_TOTAL, DEFAULT_MAX_PER_ROUTE, DEFAULT_MAX_IDLE_MILLIS);
+    }
+
+    /**
+     * Creates a SharedConnectionPool with the provided limits and the default SSLContext.
+     *
+     * @param maxTotal the maximum number of connections of the pool
+     * @param maxPerRoute the maximum number of connections to a single GitLab server
+     * @param maxIdleMillis the number of milliseconds a connection can be idle before it is closed
+     */
+    public SharedConnectionPool(int maxTotal, int maxPerRoute, long maxIdleMillis) {
+        this(maxTotal, maxPerRoute, maxIdleMillis, null);
+    }
+
+    /**
+     * Creates a SharedConnectionPool with the provided limits, whose HTTPS connections are created with
+     * the provided SSLContext.
+     *
+     * @param maxTotal the maximum number of connections of the pool
+     * @param maxPerRoute the maximum number of connections to a single GitLab server
+     * @param maxIdleMillis the number of milliseconds a connection can be idle before it is closed
+     * @param sslContext the SSLContext to create the HTTPS connections with, null to use the default SSLContext
+     */
+    public SharedConnectionPool(int maxTotal, int maxPerRoute, long maxIdleMillis, SSLContext sslContext) {
+
+        if (maxTotal < 1 || maxPerRoute < 1 || maxIdleMillis < 1) {
+            throw new IllegalArgumentException("maxTotal, maxPerRoute and maxIdleMillis must be greater than 0");
+        }
+
+        SSLConnectionSocketFactory sslSocketFactory = (sslContext != null
+                ? new SSLConnectionSocketFactory(sslContext)
+                : SSLConnectionSocketFactory.getSocketFactory());
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+
+        connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        // Check a connection before reusing it once it has been idle for a while, the server may have closed it
+        connectionManager.setValidateAfterInactivity((int) Math.min(maxIdleMillis / 2, 2000));
+
+        String threadName = "gitlab4j-connection-evictor-" + POOL_NUMBER.incrementAndGet();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return (thread);
+        };
+
+        long sleepMillis = Math.max(maxIdleMillis / 2, 100);
+        idleConnectionEvictor = new IdleConnectionEvictor(
+                connectionManager,
+                threadFactory,
+                sleepMillis,
+                TimeUnit.MILLISECONDS,
+                maxIdleMillis,
+                TimeUnit.MILLISECONDS);
+        idleConnectionEvictor.start();
+    }
+
+    /**
+     * Sets the maximum number of connections to the provided GitLab server, overriding the maximum number
+     * of connections per server of this pool.
+     *
+     * @param hostUrl the URL of the GitLab server, for example https://gitlab.example.com
+     * @param maxConnections the maximum number of connections to the GitLab server
+     * @return this SharedConnectionPool instance
+     */
+    public SharedConnectionPool withMaxPerRoute(String hostUrl, int maxConnections) {
+
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be greater than 0");
+        }
+
+        URL url;
+        try {
+            url = new URL(hostUrl);
+        } catch (MalformedURLException mue) {
+            throw new IllegalArgumentException("Invalid hostUrl: " + hostUrl, mue);
+        }
+
+        HttpHost host = new HttpHost(url.getHost(), url.getPort() != -1 ? url.getPort() : url.getDefaultPort(),
+                url.getProtocol());
+        connectionManager.setMaxPerRoute(new HttpRoute(host), maxConnections);
+        return (this);
+    }
+
+    /**
+     * Create a Map instance with the ClientConfig properties to use this pool, that can be passed to the
+     * GitLabApi constructors and login methods. A new Map is returned by each call, so it can be combined
+     * with other ClientConfig properties.
+     *
+     * <p>The HTTPS connections are created with the SSLContext of this pool, the GitLabApi instances using
+     * the pool cannot be set up to ignore certificate errors, {@link GitLabApi#setIgnoreCertificateErrors(boolean)}
+     * and the login methods throw an IllegalStateException if asked to. Provide an SSLContext that ignores them
+     * to the constructor instead.</p>
+     *
+     * @return a Map set up to allow GitLabApi to use this pool
+     */
+    public Map<String, Object> getClientConfigProperties() {
+
+        Map<String, Object> clientConfig = new HashMap<>();
+        clientConfig.put(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
+
+        // The pool outlives the clients of the GitLabApi instances, closing a client must not shut it down
+        clientConfig.put(ApacheClientProperties.CONNECTION_MANAGER_SHARED, true);
+        return (clientConfig);
+    }
+
+    /**
+     * Get the number of connections of this pool that are being used by a request.
+     *
+     * @return the number of connections being used by a request
+     */
+    public int getLeasedConnections() {
+        return (getTotalStats().getLeased());
+    }
+
+    /**
+     * Get the number of idle connections of this pool, kept alive to be reused.
+     *
+     * @return the number of idle connections
+     */
+    public int getAvailableConnections() {
+        return (getTotalStats().getAvailable());
+    }
+
+    /**
+     * Get the number of requests waiting for a connection of this pool.
+     *
+     * @return the number of requests waiting for a connection
+     */
+    public int getPendingRequests() {
+        return (getTotalStats().getPending());
+    }
+
+    private PoolStats getTotalStats() {
+        return (connectionManager.getTotalStats());
+    }
+
+    /**
+     * Stops the idle connection eviction and closes all the connections of this pool. The GitLabApi
+     * instances using this pool can no longer make requests once it is closed.
+     */
+    @Override
+    public void close() {
+        idleConnectionEvictor.shutdown();
+        connectionManager.shutdown();
+    }
+}
@@ -0,0 +1,346 @@
+package org.gitlab4j.api;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * <p>A pool of authentication tokens the requests of a GitLabApiClient are spread across, so the requests are
+ * not limited by the rate limit of a single token. Each request is made with the token with the most requests
+ * left in its rate limit budget, as reported by the "RateLimit-Remaining" header of its last response, tokens
+ * with an unknown budget are used in turn. A token that gets a "401 Unauthorized" or "429 Too Many Requests"
+ * response is sidelined for a while and the request is made again with another token.</p>
+ *
+ * <p>When sticky resources are enabled, the requests for the same project, group or user are made with the same
+ * token as long as it is not sidelined, for example so a resource created with a token is read back with it.</p>
+ *
+ * <p>The tokens of a pool are expected to have the same access to the GitLab server as the token of the
+ * GitLabApi instance, which still identifies the instance, for example in the keys of its ETag cache.
+ * A TokenPool is thread safe and can be set on several GitLabApi instances.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   TokenPool tokenPool = new TokenPool(scannerToken1, scannerToken2, scannerToken3);
+ *   gitLabApi.setTokenPool(tokenPool);
+ * </pre>
+ */
+public class TokenPool implements Constants {
+
+    /** The default number of milliseconds a token that got a "401 Unauthorized" response is sidelined. */
+    public static final long DEFAULT_UNAUTHORIZED_SIDELINE_MILLIS = 300000;
+
+    /** The default number of milliseconds a token that got a "429 Too Many Requests" response is sidelined. */
+    public static final long DEFAULT_RATE_LIMITED_SIDELINE_MILLIS = 60000;
+
+    private static final int MAX_STICKY_RESOURCES = 10000;
+
+    private final List<String> tokens;
+    private final TokenState[] states;
+    private final LongSupplier clock;
+    private final Map<String, Integer> stickyResources =
+            new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                    return (size() > MAX_STICKY_RESOURCES);
+                }
+            };
+
+    private volatile boolean sticky;
+    private volatile long unauthorizedSidelineMillis = DEFAULT_UNAUTHORIZED_SIDELINE_MILLIS;
+    private volatile long rateLimitedSidelineMillis = DEFAULT_RATE_LIMITED_SIDELINE_MILLIS;
+    private int nextIndex;
+
+    /**
+     * Creates a TokenPool with the provided tokens.
+     *
+     * @param tokens the tokens of the pool
+     */
+    public TokenPool(String... tokens) {
+        this(tokens != null ? Arrays.asList(tokens) : null);
+    }
+
+    /**
+     * Creates a TokenPool with the provided tokens.
+     *
+     * @param tokens the tokens of the pool
+     */
+    public TokenPool(List<String> tokens) {
+        this(tokens, System::currentTimeMillis);
+    }
+
+    TokenPool(List<String> tokens, LongSupplier clock) {
+
+        if (tokens == null || tokens.isEmpty()) {
+            throw new IllegalArgumentException("tokens must not be empty");
+        }
+
+        List<String> distinctTokens = new ArrayList<>();
+        for (String token : tokens) {
+
+            if (token == null || token.trim().isEmpty()) {
+                throw new IllegalArgumentException("tokens must not be null or empty");
+            }
+
+            if (!distinctTokens.contains(token)) {
+                distinctTokens.add(token);
+            }
+        }
+
+        this.tokens = Collections.unmodifiableList(distinctTokens);
+        this.states = new TokenState[distinctTokens.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = new TokenState();
+        }
+
+        this.clock = clock;
+    }
+
+    /**
+     * Sets whether the requests for the same project, group or user are made with the same token.
+     *
+     * @param sticky true to make the requests for the same resource with the same token
+     * @return this TokenPool instance
+     */
+    public TokenPool withStickyResources(boolean sticky) {
+        this.sticky = sticky;
+        return (this);
+    }
+
+    /**
+     * Sets the number of milliseconds a token is sidelined after a "401 Unauthorized" response.
+     *
+     * @param sidelineMillis the number of milliseconds to sideline the token for
+     * @return this TokenPool instance
+     */
+    public TokenPool withUnauthorizedSideline(long sidelineMillis) {
+        this.unauthorizedSidelineMillis = sidelineMillis;
+        return (this);
+    }
+
+    /**
+     * Sets the number of milliseconds a token is sidelined after a "429 Too Many Requests" response
+     * that holds neither a "Retry-After" nor a "RateLimit-Reset" header.
+     *
+     * @param sidelineMillis the number of milliseconds to sideline the token for
+     * @return this TokenPool instance
+     */
+    public TokenPool withRateLimitedSideline(long sidelineMillis) {
+        this.rateLimitedSidelineMillis = sidelineMillis;
+        return (this);
+    }
+
+    /**
+     * Get the tokens of this pool.
+     *
+     * @return an unmodifiable List of the tokens of this pool
+     */
+    public List<String> getTokens() {
+        return (tokens);
+    }
+
+    /**
+     * Returns true if the provided token of this pool is sidelined.
+     *
+     * @param token the token
+     * @return true if the token is sidelined
+     */
+    public synchronized boolean isSidelined(String token) {
+        int index = tokens.indexOf(token);
+        return (index >= 0 && states[index].sidelinedUntilMillis > clock.getAsLong());
+    }
+
+    /**
+     * Get the number of requests left in the rate limit budget of the provided token, as last reported by
+     * the GitLab server less the requests made since.
+     *
+     * @param token the token
+     * @return the number of requests left in the rate limit budget, or -1 if unknown
+     */
+    public synchronized int getRemaining(String token) {
+        int index = tokens.indexOf(token);
+        return (index >= 0 ? getRemaining(states[index], clock.getAsLong()) : -1);
+    }
+
+    /**
+     * Returns true if at least one token of this pool is not sidelined.
+     *
+     * @return true if at least one token of this pool is not sidelined
+     */
+    public synchronized boolean hasAvailableToken() {
+
+        long now = clock.getAsLong();
+        for (TokenState state : states) {
+            if (state.sidelinedUntilMillis <= now) {
+                return (true);
+            }
+        }
+
+        return (false);
+    }
+
+    /**
+     * Selects the token to make a request to the provided URL with. When all the tokens are sidelined,
+     * the token whose sideline ends first is selected.
+     *
+     * @param url the URL of the request
+     * @return the token to make the request with
+     */
+    public synchronized String select(URL url) {
+
+        long now = clock.getAsLong();
+        String resource = (sticky ? getResource(url) : null);
+        if (resource != null) {
+            Integer index = stickyResources.get(resource);
+            if (index != null && states[index].sidelinedUntilMillis <= now) {
+                return (reserve(index, now));
+            }
+        }
+
+        // Take the token with the most requests left, starting after the last token selected so that
+        // the tokens with an unknown budget are used in turn
+        int best = -1;
+        int bestRemaining = -1;
+        int soonest = 0;
+        for (int i = 0; i < states.length; i++) {
+
+            int index = (nextIndex + i) % states.length;
+            TokenState state = states[index];
+            if (state.sidelinedUntilMillis > now) {
+                if (state.sidelinedUntilMillis < states[soonest].sidelinedUntilMillis) {
+                    soonest = index;
+                }
+                continue;
+            }
+
+            int remaining = getRemaining(state, now);
+            int score = (remaining < 0 ? Integer.MAX_VALUE : remaining);
+            if (best < 0 || score > bestRemaining) {
+                best = index;
+                bestRemaining = score;
+            }
+        }
+
+        if (best < 0) {
+            best = soonest;
+        }
+
+        nextIndex = (best + 1) % states.length;
+        if (resource != null) {
+            stickyResources.put(resource, best);
+        }
+
+        return (reserve(best, now));
+    }
+
+    /**
+     * Updates the state of the provided token from a response to a request made with it, sidelining
+     * the token if the response is a "401 Unauthorized" or a "429 Too Many Requests" response.
+     *
+     * @param token the token the request was made with
+     * @param response the response to the request
+     * @return true if the token was sidelined
+     */
+    public synchronized boolean update(String token, Response response) {
+
+        int index = tokens.indexOf(token);
+        if (index < 0) {
+            return (false);
+        }
+
+        TokenState state = states[index];
+        long now = clock.getAsLong();
+        int remaining = RateLimitScheduler.getIntHeader(response, RATE_LIMIT_REMAINING_HEADER);
+        int reset = RateLimitScheduler.getIntHeader(response, RATE_LIMIT_RESET_HEADER);
+        if (remaining >= 0) {
+            state.remaining = remaining;
+        }
+
+        if (reset >= 0) {
+            state.resetAtMillis = reset * 1000L;
+        }
+
+        int status = response.getStatus();
+        if (status == 401) {
+            state.sidelinedUntilMillis = now + unauthorizedSidelineMillis;
+            return (true);
+        }
+
+        if (status == 429) {
+            long retryAfter =
+                    RateLimitScheduler.getRetryAfterMillis(response.getHeaderString(RETRY_AFTER_HEADER), now);
+            if (retryAfter >= 0) {
+                state.sidelinedUntilMillis = now + retryAfter;
+            } else if (state.resetAtMillis > now) {
+                state.sidelinedUntilMillis = state.resetAtMillis;
+            } else {
+                state.sidelinedUntilMillis = now + rateLimitedSidelineMillis;
+            }
+
+            state.remaining = 0;
+            return (true);
+        }
+
+        return (false);
+    }
+
+    /**
+     * Get the resource a request is made for, the project, group or user in the path of its URL,
+     * for example "projects/123" for "/api/v4/projects/123/issues".
+     *
+     * @param url the URL of the request
+     * @return the resource the request is made for, or null if the URL does not refer to a resource
+     */
+    static String getResource(URL url) {
+
+        String path = url.getPath();
+        int start = path.indexOf("/api/v");
+        if (start < 0) {
+            return (null);
+        }
+
+        String[] segments = path.substring(start + 1).split("/");
+        if (segments.length < 4 || segments[3].isEmpty()) {
+            return (null);
+        }
+
+        return (segments[2] + "/" + segments[3]);
+    }
+
+    private String reserve(int index, long now) {
+
+        TokenState state = states[index];
+        if (getRemaining(state, now) > 0) {
+            state.remaining--;
+        }
+
+        return (tokens.get(index));
+    }
+
+    private static int getRemaining(TokenState state, long now) {
+
+        // The budget is unknown once its reset time has passed, until the next response
+        if (state.resetAtMillis > 0 && state.resetAtMillis <= now) {
+            state.remaining = -1;
+            state.resetAtMillis = 0;
+        }
+
+        return (state.remaining);
+    }
+
+    /**
+     * The rate limit budget and sideline of a token.
+     */
+    private static class TokenState {
+        private int remaining = -1;
+        private long resetAtMillis;
+        private long sidelinedUntilMillis;
+    }
+}
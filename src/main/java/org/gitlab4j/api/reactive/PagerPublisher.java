@@ -0,0 +1,204 @@
+package org.gitlab4j.api.reactive;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.gitlab4j.api.GitLabApiException;
+import org.gitlab4j.api.Pager;
+
+/**
+ * <p>A {@link Publisher} of the items of a {@link Pager}. Pages are only fetched when the demand signaled by
+ * the Subscriber exceeds the items already fetched, and no thread is held between requests: the pages are
+ * fetched and the items delivered by a task run on the provided Executor whenever there is outstanding demand.</p>
+ *
+ * <p>A PagerPublisher supports a single Subscriber, the iteration starts at the page the Pager is currently on.
+ * Errors returned by the GitLab server are signaled to {@link Subscriber#onError(Throwable)} as a
+ * {@link GitLabApiException}.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ *   Pager&lt;Project&gt; pager = gitLabApi.getProjectApi().getProjects(100);
+ *   pager.publisher(executor).subscribe(new Subscriber&lt;Project&gt;() {
+ *
+ *       private Subscription subscription;
+ *
+ *       public void onSubscribe(Subscription subscription) {
+ *           this.subscription = subscription;
+ *           subscription.request(100);
+ *       }
+ *
+ *       public void onNext(Project project) {
+ *           if (process(project)) {
+ *               subscription.request(1);
+ *           }
+ *       }
+ *
+ *       public void onError(Throwable throwable) { ... }
+ *       public void onComplete() { ... }
+ *   });
+ * </pre>
+ *
+ * @param <T> the type of the published items
+ */
+public class PagerPublisher<T> implements Publisher<T> {
+
+    private final Pager<T> pager;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Creates a Publisher of the items of the provided Pager.
+     *
+     * @param pager the Pager to fetch the pages with
+     * @param executor the Executor to fetch the pages and deliver the items on
+     */
+    public PagerPublisher(Pager<T> pager, Executor executor) {
+
+        if (pager == null || executor == null) {
+            throw new NullPointerException("pager and executor must not be null");
+        }
+
+        this.pager = pager;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("PagerPublisher only supports a single Subscriber"));
+            return;
+        }
+
+        PagerSubscription subscription = new PagerSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Delivers the items to the Subscriber. Calls to request() add to the demand and schedule the drain task,
+     * the work in progress counter makes sure only one drain task runs at a time, so the Subscriber is
+     * signaled serially and the Pager is only used by one thread at a time.
+     */
+    private class PagerSubscription implements Subscription, Runnable {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        private Iterator<T> items = Collections.emptyIterator();
+
+        private PagerSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("request must be greater than 0, was " + n);
+            } else {
+                requested.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return (sum < 0 ? Long.MAX_VALUE : sum);
+                });
+            }
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void schedule() {
+
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RuntimeException e) {
+                    cancelled = true;
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+
+            int missed = 1;
+            do {
+
+                long demand = requested.get();
+                long emitted = 0;
+
+                try {
+
+                    while (true) {
+
+                        if (cancelled) {
+                            return;
+                        }
+
+                        if (invalidRequest != null) {
+                            cancelled = true;
+                            subscriber.onError(invalidRequest);
+                            return;
+                        }
+
+                        // Only fetch the next page when there is demand left for its items
+                        if (!items.hasNext()) {
+                            if (!pager.hasNext()) {
+                                cancelled = true;
+                                subscriber.onComplete();
+                                return;
+                            } else if (emitted == demand) {
+                                break;
+                            }
+
+                            items = pager.next().iterator();
+                            continue;
+                        }
+
+                        if (emitted == demand) {
+                            break;
+                        }
+
+                        subscriber.onNext(items.next());
+                        emitted++;
+                    }
+
+                } catch (RuntimeException e) {
+                    cancelled = true;
+                    subscriber.onError(e.getCause() instanceof GitLabApiException ? e.getCause() : e);
+                    return;
+                }
+
+                if (emitted > 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                missed = wip.addAndGet(-missed);
+
+            } while (missed != 0);
+        }
+    }
+}
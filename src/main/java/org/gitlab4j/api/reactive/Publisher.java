@@ -0,0 +1,19 @@
+package org.gitlab4j.api.reactive;
+
+/**
+ * A provider of a potentially unbounded number of items, publishing them according to the demand received
+ * from its Subscriber. This has the same contract as the Reactive Streams (and java.util.concurrent.Flow)
+ * Publisher, so it can be adapted to any Reactive Streams library with a method reference.
+ *
+ * @param <T> the type of the published items
+ */
+public interface Publisher<T> {
+
+    /**
+     * Requests the Publisher to start publishing items to the provided Subscriber.
+     *
+     * @param subscriber the Subscriber that will receive the items
+     * @throws NullPointerException if subscriber is null
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
@@ -0,0 +1,37 @@
+package org.gitlab4j.api.reactive;
+
+/**
+ * A receiver of the items published by a {@link Publisher}. This has the same contract as the Reactive Streams
+ * (and java.util.concurrent.Flow) Subscriber.
+ *
+ * @param <T> the type of the received items
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Called once after {@link Publisher#subscribe(Subscriber)}, no items are received until demand is
+     * signaled with {@link Subscription#request(long)}.
+     *
+     * @param subscription the Subscription used to signal demand or cancel
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Called with the next item, never called more times than the demand signaled with {@link Subscription#request(long)}.
+     *
+     * @param item the next item
+     */
+    void onNext(T item);
+
+    /**
+     * Called once when the Publisher has failed, no other methods are called afterwards.
+     *
+     * @param throwable the error that made the Publisher fail
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called once when all the items have been published, no other methods are called afterwards.
+     */
+    void onComplete();
+}
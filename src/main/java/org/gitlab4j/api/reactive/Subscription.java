@@ -0,0 +1,20 @@
+package org.gitlab4j.api.reactive;
+
+/**
+ * Links a {@link Subscriber} to a {@link Publisher}, used by the Subscriber to signal demand or cancel.
+ * This has the same contract as the Reactive Streams (and java.util.concurrent.Flow) Subscription.
+ */
+public interface Subscription {
+
+    /**
+     * Adds n items to the demand of the Subscriber.
+     *
+     * @param n the number of additional items to publish, must be greater than 0
+     */
+    void request(long n);
+
+    /**
+     * Asks the Publisher to stop publishing items, items may still be received for a short time after.
+     */
+    void cancel();
+}
@@ -0,0 +1,117 @@
+package org.gitlab4j.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class is a minimal HTTP server on the loopback interface, for the tests that need requests to go
+ * through the Jersey client and a real connection, for example to test connection reuse or deadlines.
+ * Use {@link MockResponse} instead for the tests that only need a response.
+ *
+ * <pre>
+ *   try (MockGitLabServer server = new MockGitLabServer()) {
+ *       server.handle("/api/v4/version", exchange -&gt; MockGitLabServer.respond(exchange, 200, "{}"));
+ *       GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token");
+ *       ...
+ *   }
+ * </pre>
+ */
+public class MockGitLabServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    /**
+     * Creates and starts a MockGitLabServer on a free port of the loopback interface.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    public MockGitLabServer() throws IOException {
+        this(null);
+    }
+
+    /**
+     * Creates and starts a MockGitLabServer on a free port of the loopback interface, handling the requests on
+     * the provided Executor. By default the requests are handled one at a time on the thread of the server.
+     *
+     * @param executor the Executor to handle the requests on, null to handle them on the thread of the server
+     * @throws IOException if the server cannot be started
+     */
+    public MockGitLabServer(Executor executor) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Handles the requests whose path starts with the provided path with the provided handler.
+     *
+     * @param path the path of the requests to handle, for example "/api/v4/version"
+     * @param handler the handler of the requests
+     * @return this MockGitLabServer instance
+     */
+    public MockGitLabServer handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return (this);
+    }
+
+    /**
+     * Get the URL of this server, to be used as the host URL of a GitLabApi instance.
+     *
+     * @return the URL of this server, for example "http://127.0.0.1:12345"
+     */
+    public String getUrl() {
+        return ("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    /**
+     * Sends a JSON response with the provided status, the response headers must be added before calling this method.
+     *
+     * @param exchange the exchange to respond to
+     * @param status the HTTP status of the response
+     * @param json the JSON body of the response
+     * @throws IOException if the response cannot be sent
+     */
+    public static void respond(HttpExchange exchange, int status, String json) throws IOException {
+
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Reads the body of a request.
+     *
+     * @param exchange the exchange of the request
+     * @return the body of the request as a String
+     * @throws IOException if the body cannot be read
+     */
+    public static String readBody(HttpExchange exchange) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        try (InputStream in = exchange.getRequestBody()) {
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                out.write(buffer, 0, n);
+            }
+        }
+
+        return (new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.lang.annotation.Annotation;
 import java.net.URI;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -51,6 +52,41 @@ public class MockResponse extends Response {
         this.responseItem = jsonString;
     }
 
+    /**
+     * Create a Response with the provided status and rate limit headers.
+     *
+     * @param status the HTTP status of the response
+     * @param remaining the value of the "RateLimit-Remaining" header, -1 to leave out the rate limit headers
+     * @param resetMillis the time of the "RateLimit-Reset" header in milliseconds since the epoch
+     * @param retryAfter the value of the "Retry-After" header, may be null
+     * @return a Response with the provided status and rate limit headers
+     */
+    public static Response withRateLimit(int status, int remaining, long resetMillis, String retryAfter) {
+
+        Map<String, String> headers = new HashMap<>();
+        if (remaining >= 0) {
+            headers.put(Constants.RATE_LIMIT_REMAINING_HEADER, Integer.toString(remaining));
+            headers.put(Constants.RATE_LIMIT_RESET_HEADER, Long.toString(resetMillis / 1000));
+        }
+
+        if (retryAfter != null) {
+            headers.put(Constants.RETRY_AFTER_HEADER, retryAfter);
+        }
+
+        return (new MockResponse() {
+
+            @Override
+            public int getStatus() {
+                return (status);
+            }
+
+            @Override
+            public String getHeaderString(String name) {
+                return (headers.get(name));
+            }
+        });
+    }
+
     public <T> void init(Class<T> type, String itemFilename, String listFilename) throws Exception {
 
         if (itemFilename != null) {
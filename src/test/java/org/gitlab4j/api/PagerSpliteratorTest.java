@@ -4,11 +4,15 @@ import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Spliterator;
 import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -85,4 +89,47 @@ public class PagerSpliteratorTest {
 
         assertArrayEquals(new Integer[] {1, 2, 3, 4, 5}, elements);
     }
+
+    @Test
+    public void shouldNotReportSizedWhenTotalItemsIsUnknown() {
+        when(pager.hasNext()).thenReturn(true);
+        when(pager.next()).thenReturn(asList(1, 2, 3));
+        when(pager.getTotalItems()).thenReturn(-1);
+
+        PagerSpliterator<Integer> spliterator = new PagerSpliterator<>(pager);
+
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+    }
+
+    @Test
+    public void shouldReportRemainingSizeAfterConsumingElements() {
+        when(pager.hasNext()).thenReturn(true);
+        when(pager.next()).thenReturn(asList(1, 2, 3));
+        when(pager.getTotalItems()).thenReturn(3);
+
+        PagerSpliterator<Integer> spliterator = new PagerSpliterator<>(pager);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(3, spliterator.estimateSize());
+
+        spliterator.tryAdvance(item -> {});
+        spliterator.tryAdvance(item -> {});
+        assertEquals(1, spliterator.estimateSize());
+        assertEquals(1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void shouldRethrowErrorOfReadAheadProducer() {
+        when(pager.hasNext()).thenReturn(true);
+        when(pager.next()).thenReturn(asList(1, 2, 3)).thenThrow(new StackOverflowError());
+
+        PagerReadAheadSpliterator<Integer> spliterator = new PagerReadAheadSpliterator<>(pager, 1, null);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(spliterator.tryAdvance(item -> {}));
+            }
+
+            assertThrows(StackOverflowError.class, () -> spliterator.tryAdvance(item -> {}));
+        });
+    }
 }
@@ -0,0 +1,113 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncGitLabApi {
+
+    private final GitLabApi gitLabApi = new GitLabApi("https://gitlab.example.com", "token");
+
+    @Test
+    public void testCompletesWithResult() throws Exception {
+
+        AsyncGitLabApi async = gitLabApi.async(Runnable::run);
+        CompletableFuture<String> future = async.supply(api -> api.getGitLabServerUrl());
+        assertEquals("https://gitlab.example.com", future.get());
+    }
+
+    @Test
+    public void testMapsExceptionsToGitLabApiException() {
+
+        AsyncGitLabApi async = gitLabApi.async(Runnable::run);
+        GitLabApiException notFound = new GitLabApiException("Not Found", 404);
+        CompletableFuture<Object> failed = async.supply(api -> {
+            throw notFound;
+        });
+        ExecutionException ee = assertThrows(ExecutionException.class, failed::get);
+        assertSame(notFound, ee.getCause());
+
+        CompletableFuture<Object> wrapped = async.supply(api -> {
+            throw new RuntimeException(notFound);
+        });
+        ee = assertThrows(ExecutionException.class, wrapped::get);
+        assertSame(notFound, ee.getCause());
+
+        CompletableFuture<Object> unchecked = async.supply(api -> {
+            throw new IllegalStateException("boom");
+        });
+        ee = assertThrows(ExecutionException.class, unchecked::get);
+        assertTrue(ee.getCause() instanceof GitLabApiException);
+    }
+
+    @Test
+    public void testRejectedCallCompletesExceptionally() {
+
+        AsyncGitLabApi async = gitLabApi.async(runnable -> {
+            throw new RejectedExecutionException();
+        });
+        CompletableFuture<String> future = async.supply(api -> api.getGitLabServerUrl());
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testOwnedPoolIsShutDownOnClose() throws Exception {
+
+        AsyncGitLabApi async = gitLabApi.async();
+        assertSame(async, gitLabApi.async());
+        assertEquals("https://gitlab.example.com", async.supply(api -> api.getGitLabServerUrl()).get());
+
+        gitLabApi.close();
+        CompletableFuture<String> future = async.supply(api -> api.getGitLabServerUrl());
+        assertTrue(future.isCompletedExceptionally());
+        assertFalse(future.isCancelled());
+    }
+
+    @Test
+    public void testSizedPoolLimitsCallsInFlight() throws Exception {
+
+        assertThrows(IllegalArgumentException.class, () -> gitLabApi.async(0));
+
+        try (AsyncGitLabApi async = gitLabApi.async(2)) {
+
+            assertEquals(2, ((ThreadPoolExecutor) async.getExecutor()).getMaximumPoolSize());
+
+            // Each call holds a thread of the pool, the third call waits for one of the first two
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(async.supply(api -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return (inFlight.getAndDecrement());
+                }));
+            }
+
+            Thread.sleep(100);
+            assertEquals(2, maxInFlight.get());
+            release.countDown();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            assertEquals(2, maxInFlight.get());
+        }
+    }
+}
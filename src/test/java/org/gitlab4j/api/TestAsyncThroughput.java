@@ -0,0 +1,94 @@
+package org.gitlab4j.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Measures how the throughput of AsyncGitLabApi scales with the number of concurrent calls, on platform thread
+ * pools and, on Java 21 and later, on virtual threads. The calls are made through the Jersey client to a
+ * MockGitLabServer that answers each request after a fixed latency. Run with -Dgitlab4j.benchmark=true, the
+ * results are published as JUnit report entries. The throughput depends on the machine, so it is only reported.
+ */
+@EnabledIfSystemProperty(named = "gitlab4j.benchmark", matches = "true")
+public class TestAsyncThroughput {
+
+    private static final long LATENCY_MILLIS = 10;
+    private static final int[] CONCURRENT_CALLS = {100, 1000, 10000};
+
+    @Test
+    public void testThroughputScalesWithConcurrentCalls(TestReporter reporter) throws Exception {
+
+        // The server handles each request on its own thread, so that it is not the bottleneck
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        try (MockGitLabServer server = new MockGitLabServer(serverExecutor);
+                GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token")) {
+
+            server.handle("/api/v4/projects", exchange -> {
+
+                try {
+                    Thread.sleep(LATENCY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+
+                String path = exchange.getRequestURI().getPath();
+                String id = path.substring(path.lastIndexOf('/') + 1);
+                MockGitLabServer.respond(exchange, 200, "{\"id\":" + id + "}");
+            });
+
+            for (int calls : CONCURRENT_CALLS) {
+
+                run(reporter, gitLabApi, "fixed pool (16)", Executors.newFixedThreadPool(16), calls);
+                run(reporter, gitLabApi, "fixed pool (200)", Executors.newFixedThreadPool(200), calls);
+                if (AsyncGitLabApi.isVirtualThreadSupported()) {
+                    ExecutorService executor = AsyncGitLabApi.newVirtualThreadPerTaskExecutor();
+                    run(reporter, gitLabApi, "virtual threads", executor, calls);
+                }
+            }
+
+        } finally {
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Makes the provided number of concurrent calls on the provided executor and reports the throughput.
+     */
+    private static void run(
+            TestReporter reporter, GitLabApi gitLabApi, String name, ExecutorService executor, int calls)
+            throws Exception {
+
+        try {
+
+            AsyncGitLabApi async = gitLabApi.async(executor);
+            long startNanos = System.nanoTime();
+            List<CompletableFuture<?>> futures = new ArrayList<>(calls);
+            for (long id = 1; id <= calls; id++) {
+                long projectId = id;
+                futures.add(async.supply(api -> api.getProjectApi().getProject(projectId)));
+            }
+
+            // Wait for every call, failed calls are counted rather than failing the benchmark
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .exceptionally(throwable -> null)
+                    .get();
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            long failed = futures.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+            long throughput = (calls - failed) * 1000L / Math.max(1, millis);
+            reporter.publishEntry(
+                    name + ", " + calls + " calls",
+                    millis + " ms, " + throughput + " calls/sec, " + failed + " failed");
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
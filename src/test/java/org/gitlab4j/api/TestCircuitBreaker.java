@@ -0,0 +1,108 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.gitlab4j.api.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+public class TestCircuitBreaker {
+
+    private static final String HOST = "gitlab.example.com";
+
+    private final AtomicLong clock = new AtomicLong(1000000);
+    private final List<State> transitions = new ArrayList<>();
+
+    @Test
+    public void testOpensOnFailureRate() throws Exception {
+
+        CircuitBreaker breaker = newCircuitBreaker();
+        for (int i = 0; i < 5; i++) {
+            breaker.acquire(HOST);
+            breaker.onSuccess(HOST, 1000);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            breaker.acquire(HOST);
+            breaker.onFailure(HOST, 1000);
+        }
+
+        assertEquals(State.OPEN, breaker.getState(HOST));
+        CircuitBreakerOpenException e = assertThrows(CircuitBreakerOpenException.class, () -> breaker.acquire(HOST));
+        assertEquals(HOST, e.getHost());
+        assertEquals(10000, e.getRetryInMillis());
+
+        // Other hosts are not affected
+        breaker.acquire("other.example.com");
+    }
+
+    @Test
+    public void testOpensOnLatencyPercentile() throws Exception {
+
+        CircuitBreaker breaker = newCircuitBreaker().withLatencyThreshold(0.8, 100);
+        for (int i = 0; i < 10; i++) {
+            breaker.acquire(HOST);
+            breaker.onSuccess(HOST, TimeUnit.MILLISECONDS.toNanos(i < 7 ? 10 : 500));
+        }
+
+        assertEquals(State.OPEN, breaker.getState(HOST));
+    }
+
+    @Test
+    public void testHalfOpenClosesAfterSuccessfulTrials() throws Exception {
+
+        CircuitBreaker breaker = openCircuitBreaker();
+        clock.addAndGet(10000);
+
+        breaker.acquire(HOST);
+        breaker.acquire(HOST);
+        assertEquals(State.HALF_OPEN, breaker.getState(HOST));
+        assertThrows(CircuitBreakerOpenException.class, () -> breaker.acquire(HOST));
+
+        breaker.onSuccess(HOST, 1000);
+        breaker.onSuccess(HOST, 1000);
+        assertEquals(State.CLOSED, breaker.getState(HOST));
+        assertEquals(3, transitions.size());
+        assertEquals(State.CLOSED, transitions.get(2));
+    }
+
+    @Test
+    public void testHalfOpenReopensOnFailure() throws Exception {
+
+        CircuitBreaker breaker = openCircuitBreaker();
+        clock.addAndGet(10000);
+
+        breaker.acquire(HOST);
+        breaker.onFailure(HOST, 1000);
+        assertEquals(State.OPEN, breaker.getState(HOST));
+        assertThrows(CircuitBreakerOpenException.class, () -> breaker.acquire(HOST));
+    }
+
+    private CircuitBreaker openCircuitBreaker() throws Exception {
+
+        CircuitBreaker breaker = newCircuitBreaker();
+        for (int i = 0; i < 10; i++) {
+            breaker.acquire(HOST);
+            breaker.onFailure(HOST, 1000);
+        }
+
+        assertEquals(State.OPEN, breaker.getState(HOST));
+        return (breaker);
+    }
+
+    private CircuitBreaker newCircuitBreaker() {
+
+        CircuitBreaker breaker = new CircuitBreaker(clock::get)
+                .withWindowSize(10, 10)
+                .withFailureRateThreshold(0.5)
+                .withOpenDuration(10000)
+                .withHalfOpenCalls(2);
+        breaker.addListener((host, fromState, toState) -> transitions.add(toState));
+        return (breaker);
+    }
+}
@@ -0,0 +1,162 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.gitlab4j.api.models.Commit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestContentCache {
+
+    private static final String SHA = "6104942438c14ec7bd21c6cd5bd995272b3faff6";
+
+    @TempDir
+    File cacheDirectory;
+
+    @Test
+    public void testOnlyFullShasAreCached() {
+        assertTrue(ContentCache.isSha(SHA));
+        assertTrue(ContentCache.isSha(SHA + SHA.substring(0, 24)));
+        assertFalse(ContentCache.isSha(SHA.substring(0, 8)));
+        assertFalse(ContentCache.isSha("main"));
+        assertFalse(ContentCache.isSha(null));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedFromHeap() {
+
+        ContentCache cache = new ContentCache(10);
+        cache.putContent("a", bytes("12345"));
+        cache.putContent("b", bytes("12345"));
+        cache.getContent("a");
+        cache.putContent("c", bytes("12345"));
+
+        assertArrayEquals(bytes("12345"), cache.getContent("a"));
+        assertNull(cache.getContent("b"));
+        assertEquals(10, cache.getHeapBytes());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testDiskTierSurvivesRestart() throws Exception {
+
+        String key = ContentCache.getKey("https://gitlab.example.com", 1L, "commit", SHA, null);
+        Commit commit = new Commit().withId(SHA).withTitle("Initial commit");
+        new ContentCache().withDiskTier(cacheDirectory, 1024 * 1024).put(key, commit);
+
+        ContentCache restarted = new ContentCache().withDiskTier(cacheDirectory, 1024 * 1024);
+        Commit cached = restarted.get(key, ContentCache.getType(Commit.class));
+        assertEquals("Initial commit", cached.getTitle());
+        assertEquals(1, restarted.getDiskHitCount());
+
+        restarted.get(key, ContentCache.getType(Commit.class));
+        assertEquals(1, restarted.getHitCount());
+    }
+
+    @Test
+    public void testEvictsFromDiskOverMaxBytes() throws Exception {
+
+        ContentCache cache = new ContentCache(1).withDiskTier(cacheDirectory, 10);
+        cache.putContent("a", bytes("123456"));
+        cache.putContent("b", bytes("123456"));
+
+        assertEquals(6, cache.getDiskBytes());
+        assertEquals(1, cacheDirectory.listFiles().length);
+    }
+
+    @Test
+    public void testOnlyResourcesOfKnownSizeThatFitAreCacheable() throws Exception {
+
+        ContentCache cache = new ContentCache(10);
+        assertTrue(cache.isCacheable(10));
+        assertFalse(cache.isCacheable(11));
+        assertFalse(cache.isCacheable(-1));
+
+        cache.withDiskTier(cacheDirectory, 100);
+        assertTrue(cache.isCacheable(100));
+        assertFalse(cache.isCacheable(101));
+    }
+
+    @Test
+    public void testResourcesOfUnknownSizeAreCachedIfTheyFit() throws Exception {
+
+        ContentCache cache = new ContentCache(10);
+        InputStream fits = cache.putContent("a", new ByteArrayInputStream(bytes("123456")));
+        assertArrayEquals(bytes("123456"), readAll(fits));
+        assertArrayEquals(bytes("123456"), cache.getContent("a"));
+
+        // A resource larger than the cache is returned in full, but not cached
+        InputStream tooLarge = cache.putContent("b", new ByteArrayInputStream(bytes("12345678901234567890")));
+        assertArrayEquals(bytes("12345678901234567890"), readAll(tooLarge));
+        assertNull(cache.getContent("b"));
+    }
+
+    @Test
+    public void testChunkedRawBlobsAreCached() throws Exception {
+
+        AtomicInteger requests = new AtomicInteger();
+        ContentCache cache = new ContentCache(1024);
+        try (MockGitLabServer server = new MockGitLabServer();
+                GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token")) {
+
+            // A response length of 0 makes the server send a chunked response, of unknown size
+            server.handle("/api/v4/projects/1/repository/blobs/" + SHA + "/raw", exchange -> {
+                requests.incrementAndGet();
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes("blob content"));
+                }
+            });
+
+            gitLabApi.setContentCache(cache);
+            for (int i = 0; i < 2; i++) {
+                try (InputStream in = gitLabApi.getRepositoryApi().getRawBlobContent(1L, SHA)) {
+                    assertArrayEquals(bytes("blob content"), readAll(in));
+                }
+            }
+        }
+
+        assertEquals(1, requests.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testKeyDependsOnSudoUser() {
+
+        String key = ContentCache.getKey("https://gitlab.example.com", 1L, "blob", SHA, null);
+        assertNotEquals(key, ContentCache.getKey("https://gitlab.example.com", 1L, "blob", SHA, 5L));
+        assertNotEquals(
+                ContentCache.getKey("https://gitlab.example.com", 1L, "blob", SHA, 5L),
+                ContentCache.getKey("https://gitlab.example.com", 1L, "blob", SHA, 6L));
+        assertEquals(key, ContentCache.getKey("https://gitlab.example.com", 1L, "blob", SHA.toUpperCase(), null));
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4];
+        for (int n; (n = in.read(buffer)) > 0; ) {
+            out.write(buffer, 0, n);
+        }
+
+        return (out.toByteArray());
+    }
+
+    private static byte[] bytes(String value) {
+        return (value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,174 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.gitlab4j.api.models.Project;
+import org.junit.jupiter.api.Test;
+
+public class TestETagCache implements Constants {
+
+    @Test
+    public void testEvictsLeastRecentlyUsedEntries() {
+
+        ETagCache cache = new ETagCache(2, 1000);
+        cache.put("a", "\"1\"", buffer(200, "\"1\"", "{}"));
+        cache.put("b", "\"2\"", buffer(200, "\"2\"", "{}"));
+        assertNotNull(cache.get("a"));
+
+        cache.put("c", "\"3\"", buffer(200, "\"3\"", "{}"));
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    public void testEvictsEntriesOverMaxBytes() {
+
+        ETagCache cache = new ETagCache(10, 10);
+        cache.put("a", "\"1\"", buffer(200, "\"1\"", "123456"));
+        cache.put("b", "\"2\"", buffer(200, "\"2\"", "123456"));
+        assertNull(cache.get("a"));
+        assertEquals(6, cache.getBytes());
+
+        cache.put("c", "\"3\"", buffer(200, "\"3\"", "12345678901"));
+        assertNull(cache.get("c"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testKeyDependsOnUserAndSortedQueryParams() throws Exception {
+
+        URL url = new URL("https://gitlab.example.com/api/v4/projects/1");
+        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
+        params.add("page", "1");
+        params.add("per_page", "20");
+        MultivaluedMap<String, String> reordered = new MultivaluedHashMap<>();
+        reordered.add("per_page", "20");
+        reordered.add("page", "1");
+
+        String key = ETagCache.getKey(url, params, "application/json", "token", null);
+        assertEquals(key, ETagCache.getKey(url, reordered, "application/json", "token", null));
+        assertNotEquals(key, ETagCache.getKey(url, params, "application/json", "other-token", null));
+        assertNotEquals(key, ETagCache.getKey(url, params, "application/json", "token", 5L));
+        assertEquals(-1, key.indexOf("token"));
+    }
+
+    @Test
+    public void testReturnsCachedResponseWhenNotModified() throws Exception {
+
+        String json = "{\"id\":1,\"name\":\"test-project\"}";
+        Iterator<Response> responses = Arrays.asList(
+                        response(200, "\"abc\"", json), response(304, "\"abc\"", null), response(304, "\"abc\"", null))
+                .iterator();
+        GitLabApiClient client = new GitLabApiClient("https://gitlab.example.com", "token") {
+            @Override
+            protected Response invoke(String method, URL url, Supplier<Response> request) {
+                return (responses.next());
+            }
+        };
+
+        ETagCache cache = new ETagCache();
+        client.setETagCache(cache);
+
+        Response first = client.get(null, "projects", 1);
+        Project project = first.readEntity(Project.class);
+        assertEquals("test-project", project.getName());
+        assertEquals(1, cache.size());
+
+        // Each "304 Not Modified" gets its own copy of the cached response, that can be read any number of times
+        Response second = client.get(null, "projects", 1);
+        Response third = client.get(null, "projects", 1);
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+        for (Response response : Arrays.asList(second, third)) {
+            for (int i = 0; i < 2; i++) {
+                assertEquals(json, response.readEntity(String.class));
+                assertEquals("test-project", response.readEntity(Project.class).getName());
+            }
+        }
+
+        assertNotSame(project, second.readEntity(Project.class));
+        assertNotSame(second.readEntity(Project.class), third.readEntity(Project.class));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testPagedRequestsAreNotCached() throws Exception {
+
+        GitLabApiClient client = new GitLabApiClient("https://gitlab.example.com", "token") {
+            @Override
+            protected Response invoke(String method, URL url, Supplier<Response> request) {
+                return (response(200, "\"abc\"", "[]"));
+            }
+        };
+
+        ETagCache cache = new ETagCache();
+        client.setETagCache(cache);
+
+        MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
+        params.add(PAGE_PARAM, "2");
+        params.add(PER_PAGE_PARAM, "20");
+        Response response = client.get(params, "projects");
+        assertFalse(response instanceof BufferedResponse);
+        client.get(null, new URL("https://gitlab.example.com/api/v4/projects?pagination=keyset&id_after=5"));
+        assertEquals(0, cache.size());
+
+        client.get(null, "projects", 1);
+        assertEquals(1, cache.size());
+    }
+
+    private static BufferedResponse buffer(int status, String eTag, String json) {
+        return (BufferedResponse.of(response(status, eTag, json)));
+    }
+
+    private static Response response(int status, String eTag, String json) {
+
+        return (new MockResponse() {
+
+            @Override
+            public int getStatus() {
+                return (status);
+            }
+
+            @Override
+            public String getHeaderString(String name) {
+                return (ETAG_HEADER.equals(name) ? eTag : null);
+            }
+
+            @Override
+            public MultivaluedMap<String, String> getStringHeaders() {
+                MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+                headers.add(ETAG_HEADER, eTag);
+                return (headers);
+            }
+
+            @Override
+            public boolean hasEntity() {
+                return (json != null);
+            }
+
+            @Override
+            public Object getEntity() {
+                return (new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            }
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class TestGeoRouter {
+
+    private static final String PRIMARY = "https://gitlab.example.com";
+    private static final String EU = "https://gitlab-eu.example.com";
+    private static final String US = "https://gitlab-us.example.com";
+
+    private final AtomicLong clock = new AtomicLong(1700000000000L);
+
+    @Test
+    public void testSelectsSecondaryWithLowestLatency() throws Exception {
+
+        GeoRouter router = new GeoRouter(clock::get).withSecondary(EU).withSecondary(US + "/");
+        URL url = new URL(PRIMARY + "/api/v4/projects/1");
+
+        // Sites without a measured latency are tried first
+        assertEquals(EU, router.selectSecondary(url));
+        router.onSuccess(EU, TimeUnit.MILLISECONDS.toNanos(80));
+        assertEquals(US, router.selectSecondary(url));
+        router.onSuccess(US, TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertEquals(US, router.selectSecondary(url));
+        assertEquals(80, router.getLatencyMillis(EU));
+        assertEquals(20, router.getLatencyMillis(US));
+    }
+
+    @Test
+    public void testFailsOverToPrimaryWhenSecondariesAreUnhealthy() throws Exception {
+
+        GeoRouter router = new GeoRouter(clock::get).withSecondary(EU).withFailureBackoff(1000);
+        URL url = new URL(PRIMARY + "/api/v4/projects/1");
+
+        router.onFailure(EU);
+        assertFalse(router.isHealthy(EU));
+        assertNull(router.selectSecondary(url));
+
+        clock.addAndGet(1000);
+        assertTrue(router.isHealthy(EU));
+        assertEquals(EU, router.selectSecondary(url));
+    }
+
+    @Test
+    public void testReadsAfterWriteGoToPrimary() throws Exception {
+
+        GeoRouter router = new GeoRouter(clock::get).withSecondary(EU).withReadAfterWrite(5000);
+        URL issues = new URL(PRIMARY + "/api/v4/projects/1/issues");
+
+        router.recordWrite(new URL(PRIMARY + "/api/v4/projects/1/issues/7"));
+        assertNull(router.selectSecondary(issues));
+        assertEquals(EU, router.selectSecondary(new URL(PRIMARY + "/api/v4/projects/2/issues")));
+
+        // A write to a path that is not a project, group or user affects all the reads
+        clock.addAndGet(5000);
+        assertEquals(EU, router.selectSecondary(issues));
+        router.recordWrite(new URL(PRIMARY + "/api/v4/projects"));
+        assertNull(router.selectSecondary(new URL(PRIMARY + "/api/v4/projects/2/issues")));
+    }
+
+    @Test
+    public void testGetSiteUrl() throws Exception {
+
+        URL url = new URL(PRIMARY + "/api/v4/projects?search=gitlab4j");
+        assertEquals(
+                EU + "/api/v4/projects?search=gitlab4j",
+                GeoRouter.getSiteUrl(url, PRIMARY, EU).toExternalForm());
+        assertThrows(IllegalArgumentException.class, () -> GeoRouter.getSiteUrl(url, US, EU));
+        assertThrows(IllegalArgumentException.class, () -> new GeoRouter().withSecondary("not a url"));
+    }
+
+    @Test
+    public void testReadsAreSentToSecondary() throws Exception {
+
+        List<String> sites = new CopyOnWriteArrayList<>();
+        AtomicInteger secondaryStatus = new AtomicInteger(200);
+        try (MockGitLabServer primary = createServer("primary", sites, new AtomicInteger(200));
+                MockGitLabServer secondary = createServer("secondary", sites, secondaryStatus);
+                GitLabApi gitLabApi = new GitLabApi(primary.getUrl(), "token")) {
+
+            String secondaryUrl = secondary.getUrl();
+            GeoRouter router = new GeoRouter().withSecondary(secondaryUrl);
+            gitLabApi.setGeoRouter(router);
+            assertEquals("secondary", gitLabApi.getVersion().getVersion());
+
+            // A secondary site that fails a read is sidelined and the read is sent to the primary site
+            secondaryStatus.set(503);
+            assertEquals("primary", gitLabApi.getVersion().getVersion());
+            assertFalse(router.isHealthy(secondaryUrl));
+            assertEquals("primary", gitLabApi.getVersion().getVersion());
+
+            assertEquals(4, sites.size());
+            assertEquals("secondary", sites.get(0));
+            assertEquals("secondary", sites.get(1));
+            assertEquals("primary", sites.get(2));
+            assertEquals("primary", sites.get(3));
+        }
+    }
+
+    private static MockGitLabServer createServer(String name, List<String> sites, AtomicInteger status)
+            throws Exception {
+
+        return (new MockGitLabServer().handle("/api/v4/version", exchange -> {
+            sites.add(name);
+            MockGitLabServer.respond(exchange, status.get(), "{\"version\":\"" + name + "\"}");
+        }));
+    }
+}
@@ -0,0 +1,142 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestHedgingPolicy {
+
+    private HedgingPolicy hedgingPolicy;
+
+    @BeforeEach
+    public void setup() {
+        hedgingPolicy = new HedgingPolicy().withWindowSize(10, 5).withMinDelay(1).withBudget(1);
+    }
+
+    @AfterEach
+    public void teardown() {
+        hedgingPolicy.close();
+    }
+
+    @Test
+    public void testNotHedgedUntilEnoughResponseTimes() {
+
+        assertEquals(-1, hedgingPolicy.getDelayMillis());
+        warmUp();
+        assertTrue(hedgingPolicy.getDelayMillis() >= 1);
+        assertEquals(0, hedgingPolicy.getHedgeCount());
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception {
+
+        warmUp();
+        CountDownLatch slowClosed = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Response> request = () -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(500);
+                return (response(200, slowClosed));
+            }
+
+            return (response(201, null));
+        };
+
+        Response response = hedgingPolicy.execute(HttpMethod.GET, request);
+        assertEquals(201, response.getStatus());
+        assertEquals(1, hedgingPolicy.getHedgeCount());
+        assertEquals(6, hedgingPolicy.getRequestCount());
+
+        // The response of the slow request is closed when it arrives
+        assertTrue(slowClosed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testHedgesAreLimitedByBudget() {
+
+        hedgingPolicy.withBudget(0);
+        warmUp();
+        AtomicInteger calls = new AtomicInteger();
+        Response response = hedgingPolicy.execute(HttpMethod.GET, () -> {
+            calls.incrementAndGet();
+            sleep(100);
+            return (response(200, null));
+        });
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1, calls.get());
+        assertEquals(0, hedgingPolicy.getHedgeCount());
+    }
+
+    @Test
+    public void testWritesAreNotHedged() {
+
+        warmUp();
+        AtomicInteger calls = new AtomicInteger();
+        hedgingPolicy.execute(HttpMethod.POST, () -> {
+            calls.incrementAndGet();
+            sleep(100);
+            return (response(201, null));
+        });
+
+        assertEquals(1, calls.get());
+        assertEquals(0, hedgingPolicy.getHedgeCount());
+    }
+
+    @Test
+    public void testFailureIsThrownWhenBothRequestsFail() {
+
+        warmUp();
+        ProcessingException pe = assertThrows(ProcessingException.class, () -> hedgingPolicy.execute(
+                HttpMethod.GET, () -> {
+                    sleep(50);
+                    throw new ProcessingException("Connection refused");
+                }));
+        assertEquals("Connection refused", pe.getMessage());
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 5; i++) {
+            hedgingPolicy.execute(HttpMethod.GET, () -> response(200, null));
+        }
+    }
+
+    private static Response response(int status, CountDownLatch closed) {
+
+        return (new MockResponse() {
+
+            @Override
+            public int getStatus() {
+                return (status);
+            }
+
+            @Override
+            public void close() {
+                if (closed != null) {
+                    closed.countDown();
+                }
+            }
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
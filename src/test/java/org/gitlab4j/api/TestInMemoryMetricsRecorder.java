@@ -0,0 +1,186 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.gitlab4j.api.models.Issue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestInMemoryMetricsRecorder {
+
+    private static final Pattern SECOND_PAGE = Pattern.compile("(.*&)?page=2(&.*)?");
+
+    private InMemoryMetricsRecorder metrics;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new InMemoryMetricsRecorder();
+    }
+
+    @Test
+    public void testEndpointTemplates() {
+
+        assertEquals("projects/:id/merge_requests/:iid", EndpointTemplate.of("/api/v4/projects/12/merge_requests/34"));
+        assertEquals("projects/:id/issues", EndpointTemplate.of("/gitlab/api/v4/projects/group%2Fproject/issues"));
+        assertEquals("issues/:id", EndpointTemplate.of("/api/v4/issues/56"));
+        assertEquals(
+                "projects/:id/repository/files/:file_path/raw",
+                EndpointTemplate.of("/api/v4/projects/12/repository/files/src%2Fmain.c/raw"));
+        assertEquals(
+                "projects/:id/repository/branches/:branch/protect",
+                EndpointTemplate.of("/api/v4/projects/12/repository/branches/main/protect"));
+        assertEquals("user/keys", EndpointTemplate.of("/api/v4/user/keys"));
+        assertEquals("projects/:id/merge_requests/:iid", EndpointTemplate.of("projects", 12L, "merge_requests", 34L));
+    }
+
+    @Test
+    public void testPathArgumentValuesArePlaceholders() {
+
+        assertEquals("groups/:id/members", EndpointTemplate.of("groups", "my-group", "members"));
+        assertEquals("users/:id", EndpointTemplate.of("users", "jdoe"));
+        assertEquals(
+                "projects/:id/jobs/artifacts/:ref_name/download",
+                EndpointTemplate.of("projects", 12L, "jobs", "artifacts", "main", "download"));
+        assertEquals("projects/import", EndpointTemplate.of("projects", "import"));
+        assertEquals("projects/:id/wikis/attachments", EndpointTemplate.of("projects", 12L, "wikis", "attachments"));
+
+        // The template is cached by shape, whatever the values
+        assertSame(EndpointTemplate.of("groups", "my-group", "members"), EndpointTemplate.of("groups", 7L, "members"));
+
+        // The requests made with a URL and the PerPageTuner use the same templates
+        assertEquals(
+                EndpointTemplate.of("projects", 12L, "merge_requests", 34L, "notes"),
+                EndpointTemplate.of("/api/v4/projects/group%2Fproject/merge_requests/34/notes"));
+        assertEquals(
+                EndpointTemplate.of("projects", 12L, "merge_requests", 34L, "notes"),
+                PerPageTuner.getEndpoint("projects", 12L, "merge_requests", 34L, "notes"));
+    }
+
+    @Test
+    public void testEndpointsBeyondMaximumAreKeptTogether() {
+
+        metrics = new InMemoryMetricsRecorder(2);
+        metrics.recordRequest("projects/:id", "GET", 200, 1);
+        metrics.recordRequest("groups/:id", "GET", 200, 1);
+        metrics.recordRequest("users/:id", "GET", 200, 1);
+        metrics.recordRequest("namespaces/:id", "GET", 200, 1);
+        metrics.recordRequest("projects/:id", "GET", 200, 1);
+
+        List<InMemoryMetricsRecorder.EndpointSnapshot> snapshot = metrics.snapshot();
+        assertEquals(3, snapshot.size());
+        assertEquals(InMemoryMetricsRecorder.OTHER_ENDPOINTS, snapshot.get(0).getEndpoint());
+        assertEquals(2, snapshot.get(0).getRequestCount());
+        assertEquals("groups/:id", snapshot.get(1).getEndpoint());
+        assertEquals("projects/:id", snapshot.get(2).getEndpoint());
+        assertEquals(2, snapshot.get(2).getRequestCount());
+    }
+
+    @Test
+    public void testGroupPathIsRecordedAsValue() throws Exception {
+
+        try (MockGitLabServer server = new MockGitLabServer();
+                GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token")) {
+
+            server.handle("/api/v4/groups/", exchange -> MockGitLabServer.respond(exchange, 200, "{\"id\":1}"));
+            gitLabApi.setMetricsRecorder(metrics);
+            gitLabApi.getGroupApi().getGroup("my-group");
+            gitLabApi.getGroupApi().getGroup("other-group");
+        }
+
+        List<InMemoryMetricsRecorder.EndpointSnapshot> snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.size());
+        assertEquals("groups/:id", snapshot.get(0).getEndpoint());
+        assertEquals(2, snapshot.get(0).getRequestCount());
+    }
+
+    @Test
+    public void testRequestsAreCountedByStatusClass() {
+
+        metrics.recordRequest("projects/:id", "GET", 200, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.recordRequest("projects/:id", "GET", 404, TimeUnit.MILLISECONDS.toNanos(7));
+        metrics.recordRequest("projects/:id", "GET", MetricsRecorder.NO_STATUS, TimeUnit.MILLISECONDS.toNanos(40));
+        metrics.recordRequest("projects/:id", "PUT", 503, TimeUnit.SECONDS.toNanos(90));
+        metrics.recordRetry("projects/:id", "PUT");
+
+        List<InMemoryMetricsRecorder.EndpointSnapshot> snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.size());
+
+        InMemoryMetricsRecorder.EndpointSnapshot get = snapshot.get(0);
+        assertEquals("GET", get.getMethod());
+        assertEquals(3, get.getRequestCount());
+        assertEquals(1L, get.getStatusCounts().get("2xx"));
+        assertEquals(1L, get.getStatusCounts().get("4xx"));
+        assertEquals(1L, get.getStatusCounts().get("failed"));
+        assertEquals(0L, get.getStatusCounts().get("5xx"));
+        assertArrayEquals(new long[] {1, 1, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, get.getLatencyBucketCounts());
+        assertEquals(40.0, get.getLatencyPercentileMillis(1));
+        assertEquals(10.0, get.getLatencyPercentileMillis(0.5));
+        assertEquals(0, get.getRetryCount());
+
+        InMemoryMetricsRecorder.EndpointSnapshot put = snapshot.get(1);
+        assertEquals("PUT", put.getMethod());
+        assertEquals(1L, put.getStatusCounts().get("5xx"));
+        assertEquals(90000.0, put.getLatencyPercentileMillis(0.99));
+        assertEquals(1, put.getRetryCount());
+
+        assertTrue(get.toString().contains("\"endpoint\":\"projects/:id\""));
+        metrics.reset();
+        assertTrue(metrics.snapshot().isEmpty());
+    }
+
+    @Test
+    public void testRequestsAreRecordedByGitLabApi() throws Exception {
+
+        try (MockGitLabServer server = new MockGitLabServer();
+                GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token")) {
+
+            server.handle("/api/v4/projects/12/issues", exchange -> {
+
+                if ("POST".equals(exchange.getRequestMethod())) {
+                    MockGitLabServer.readBody(exchange);
+                    MockGitLabServer.respond(exchange, 200, "{\"id\":1,\"body\":\"Looks good\"}");
+                    return;
+                }
+
+                String query = exchange.getRequestURI().getRawQuery();
+                boolean secondPage = (query != null && SECOND_PAGE.matcher(query).matches());
+                exchange.getResponseHeaders().add("X-Page", secondPage ? "2" : "1");
+                exchange.getResponseHeaders().add("X-Per-Page", "1");
+                exchange.getResponseHeaders().add("X-Total", "2");
+                exchange.getResponseHeaders().add("X-Total-Pages", "2");
+                MockGitLabServer.respond(exchange, 200, secondPage ? "[{\"iid\":2}]" : "[{\"iid\":1}]");
+            });
+
+            gitLabApi.setMetricsRecorder(metrics);
+            List<Issue> issues = gitLabApi.getIssuesApi().getIssues(12L, 1).all();
+            assertEquals(2, issues.size());
+            gitLabApi.getNotesApi().createIssueNote(12L, 1L, "Looks good");
+        }
+
+        List<InMemoryMetricsRecorder.EndpointSnapshot> snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.size());
+
+        InMemoryMetricsRecorder.EndpointSnapshot issues = snapshot.get(0);
+        assertEquals("projects/:id/issues", issues.getEndpoint());
+        assertEquals("GET", issues.getMethod());
+        assertEquals(2, issues.getRequestCount());
+        assertEquals(2L, issues.getStatusCounts().get("2xx"));
+        assertEquals(2, issues.getPageCount());
+        assertEquals(22, issues.getBytesIn());
+        assertEquals(0, issues.getBytesOut());
+
+        InMemoryMetricsRecorder.EndpointSnapshot notes = snapshot.get(1);
+        assertEquals("projects/:id/issues/:iid/notes", notes.getEndpoint());
+        assertEquals("POST", notes.getMethod());
+        assertEquals(1, notes.getRequestCount());
+        assertTrue(notes.getBytesOut() > 0);
+        assertEquals(0, notes.getPageCount());
+    }
+}
@@ -0,0 +1,76 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TestPerPageTuner {
+
+    private static final String ENDPOINT = "projects/:id/labels";
+
+    @Test
+    public void testGetEndpoint() {
+        assertEquals("projects/:id/merge_requests", PerPageTuner.getEndpoint("projects", 123L, "merge_requests"));
+        assertEquals(
+                "projects/:id/merge_requests",
+                PerPageTuner.getEndpoint("projects", "group%2Fproject", "merge_requests"));
+        assertEquals("groups/:id/members", PerPageTuner.getEndpoint("groups", "42", "members"));
+        assertEquals("groups/:id/projects", PerPageTuner.getEndpoint("groups", "my-group", "projects"));
+        assertEquals("projects", PerPageTuner.getEndpoint("projects"));
+    }
+
+    @Test
+    public void testIncreasesPerPageWhileThroughputImproves() {
+
+        PerPageTuner tuner = new PerPageTuner();
+        assertEquals(20, tuner.getPerPage(ENDPOINT, 20));
+
+        // 20 items in 100ms, 200 items per second
+        recordPages(tuner, 20, 100);
+        assertEquals(40, tuner.getPerPage(ENDPOINT, 20));
+
+        // 40 items in 150ms, 266 items per second
+        recordPages(tuner, 40, 150);
+        assertEquals(80, tuner.getPerPage(ENDPOINT, 20));
+
+        // 80 items in 1s, 80 items per second, 100 is tried once
+        recordPages(tuner, 80, 1000);
+        assertEquals(100, tuner.getPerPage(ENDPOINT, 20));
+
+        // 100 items in 1.2s, 83 items per second, returns to the best page size
+        recordPages(tuner, 100, 1200);
+        assertEquals(40, tuner.getPerPage(ENDPOINT, 20));
+        assertEquals(40, tuner.getTunedPerPage().get(ENDPOINT).intValue());
+    }
+
+    @Test
+    public void testBacksOffWhenPagesAreTooSlow() {
+
+        PerPageTuner tuner = new PerPageTuner(1000, PerPageTuner.DEFAULT_MAX_PAGE_BYTES);
+        assertEquals(100, tuner.getPerPage(ENDPOINT, 100));
+
+        tuner.record(ENDPOINT, 100, 100, 100000, TimeUnit.MILLISECONDS.toNanos(1500));
+        assertEquals(50, tuner.getPerPage(ENDPOINT, 100));
+    }
+
+    @Test
+    public void testPinnedPerPageIsNotChanged() {
+
+        PerPageTuner tuner = new PerPageTuner();
+        tuner.pin(ENDPOINT, 20);
+        recordPages(tuner, 20, 100);
+        assertEquals(20, tuner.getPerPage(ENDPOINT, 96));
+
+        tuner.unpin(ENDPOINT);
+        recordPages(tuner, 20, 100);
+        assertEquals(40, tuner.getPerPage(ENDPOINT, 96));
+    }
+
+    private static void recordPages(PerPageTuner tuner, int perPage, long millis) {
+        for (int i = 0; i < 3; i++) {
+            tuner.record(ENDPOINT, perPage, perPage, perPage * 1000L, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+}
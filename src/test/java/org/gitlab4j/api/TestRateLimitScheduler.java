@@ -0,0 +1,100 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.ProcessingException;
+
+import org.junit.jupiter.api.Test;
+
+public class TestRateLimitScheduler {
+
+    private static final String KEY = RateLimitScheduler.getKey("gitlab.example.com", "token");
+    private static final long NOW = 1700000000000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    @Test
+    public void testSpreadsRequestsUntilReset() {
+
+        RateLimitScheduler scheduler = new RateLimitScheduler(5, clock::get);
+        assertEquals(0, scheduler.reserve(KEY));
+
+        // 10 usable requests over the 10 seconds left until the reset
+        scheduler.update(KEY, MockResponse.withRateLimit(200, 15, NOW + 10000, null));
+        assertEquals(0, scheduler.reserve(KEY));
+        assertEquals(1000, scheduler.reserve(KEY));
+        assertEquals(2000, scheduler.reserve(KEY));
+        assertEquals(12, scheduler.getRemaining(KEY));
+    }
+
+    @Test
+    public void testWaitsForResetWhenBudgetIsSpent() {
+
+        RateLimitScheduler scheduler = new RateLimitScheduler(5, clock::get);
+        scheduler.update(KEY, MockResponse.withRateLimit(200, 5, NOW + 30000, null));
+        assertEquals(30000, scheduler.reserve(KEY));
+
+        // Requests made with another token are not affected
+        assertEquals(0, scheduler.reserve(RateLimitScheduler.getKey("gitlab.example.com", "other")));
+    }
+
+    @Test
+    public void testEveryRequestWaitsForResetWhenBudgetIsSpent() {
+
+        RateLimitScheduler scheduler = new RateLimitScheduler(5, clock::get);
+        scheduler.update(KEY, MockResponse.withRateLimit(200, 5, NOW + 30000, null));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(30000, scheduler.reserve(KEY));
+        }
+
+        clock.addAndGet(10000);
+        assertEquals(20000, scheduler.reserve(KEY));
+
+        // Once reset, the budget is unknown until the next response
+        clock.addAndGet(20000);
+        assertEquals(0, scheduler.reserve(KEY));
+    }
+
+    @Test
+    public void testHonorsRetryAfter() {
+
+        RateLimitScheduler scheduler = new RateLimitScheduler(5, clock::get);
+        scheduler.update(KEY, MockResponse.withRateLimit(429, -1, 0, "3"));
+        assertEquals(3000, scheduler.reserve(KEY));
+
+        clock.addAndGet(3000);
+        assertEquals(0, scheduler.reserve(KEY));
+    }
+
+    @Test
+    public void testFailsRightAwayWhenDeadlineWouldPass() {
+
+        RateLimitScheduler scheduler = new RateLimitScheduler(5, clock::get);
+        scheduler.update(KEY, MockResponse.withRateLimit(429, -1, 0, "30"));
+        ProcessingException pe = assertThrows(ProcessingException.class, () -> scheduler.reserve(KEY, NOW + 1000));
+        assertTrue(pe.getCause() instanceof GitLabApiTimeoutException);
+        assertEquals(30000, scheduler.reserve(KEY, NOW + 30000));
+
+        // Nothing is reserved for a request that cannot be made before its deadline
+        clock.addAndGet(30000);
+        scheduler.update(KEY, MockResponse.withRateLimit(200, 15, NOW + 40000, null));
+        assertEquals(0, scheduler.reserve(KEY));
+        assertThrows(ProcessingException.class, () -> scheduler.reserve(KEY, NOW + 30500));
+        assertEquals(14, scheduler.getRemaining(KEY));
+        assertEquals(1000, scheduler.reserve(KEY));
+    }
+
+    @Test
+    public void testGetRetryAfterMillis() {
+        assertEquals(120000, RateLimitScheduler.getRetryAfterMillis("120", NOW));
+        assertEquals(
+                5000,
+                RateLimitScheduler.getRetryAfterMillis("Tue, 14 Nov 2023 22:13:25 GMT", 1700000000000L));
+        assertEquals(-1, RateLimitScheduler.getRetryAfterMillis(null, NOW));
+        assertEquals(-1, RateLimitScheduler.getRetryAfterMillis("soon", NOW));
+    }
+}
@@ -0,0 +1,127 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.gitlab4j.api.models.Project;
+import org.junit.jupiter.api.Test;
+
+public class TestRequestCoalescing {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final GitLabApiClient client = new GitLabApiClient("https://gitlab.example.com", "token") {
+        @Override
+        protected Response invoke(String method, URL url, Supplier<Response> request) {
+
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+
+            return (response("{\"id\":1,\"name\":\"test-project\"}"));
+        }
+    };
+
+    @Test
+    public void testIdenticalGetsShareOneCall() throws Exception {
+
+        client.setRequestCoalescing(true);
+        AtomicReference<Project> first = new AtomicReference<>();
+        AtomicReference<Project> second = new AtomicReference<>();
+
+        Thread leader = new Thread(() -> first.set(getProject()));
+        leader.start();
+        started.await();
+
+        Thread follower = new Thread(() -> second.set(getProject()));
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertEquals(1, calls.get());
+        assertEquals("test-project", first.get().getName());
+        assertEquals("test-project", second.get().getName());
+        assertNotSame(first.get(), second.get());
+    }
+
+    @Test
+    public void testGetsAreNotSharedWhenDisabled() throws Exception {
+
+        release.countDown();
+        getProject();
+        getProject();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testGetsOfViewsWithOtherHeadersOrDeadlinesAreNotShared() throws Exception {
+
+        RequestContext traced = RequestContext.create().withHeader("X-Trace-Id", "1");
+        String key = getKey(client);
+        assertEquals(key, getKey(client.forContext(RequestContext.create())));
+        assertEquals(getKey(client.forContext(traced)), getKey(client.forContext(traced)));
+        assertNotEquals(key, getKey(client.forContext(traced)));
+        assertNotEquals(
+                getKey(client.forContext(RequestContext.create().withDeadline(1000L))),
+                getKey(client.forContext(RequestContext.create().withDeadline(2000L))));
+
+        client.setTokenPool(new TokenPool("scanner-1", "scanner-2"));
+        assertNotEquals(key, getKey(client));
+    }
+
+    private static String getKey(GitLabApiClient client) throws Exception {
+        return (client.getCoalescingKey(null, client.getApiUrl("projects", 1), MediaType.APPLICATION_JSON));
+    }
+
+    private Project getProject() {
+        try {
+            return (client.get(null, "projects", 1).readEntity(Project.class));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Response response(String json) {
+
+        return (new MockResponse() {
+
+            @Override
+            public int getStatus() {
+                return (200);
+            }
+
+            @Override
+            public boolean hasEntity() {
+                return (true);
+            }
+
+            @Override
+            public Object getEntity() {
+                return (new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            }
+        });
+    }
+}
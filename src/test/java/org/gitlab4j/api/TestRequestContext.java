@@ -0,0 +1,227 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TestRequestContext {
+
+    @Test
+    public void testContextIsImmutable() {
+
+        RequestContext context = RequestContext.create().withSudoAsId(5L);
+        RequestContext withHeader = context.withHeader("X-Request-Id", "abc");
+
+        assertNotSame(context, withHeader);
+        assertTrue(context.getHeaders().isEmpty());
+        assertEquals("abc", withHeader.getHeaders().get("X-Request-Id"));
+        assertEquals(Long.valueOf(5), withHeader.getSudoAsId());
+        assertThrows(UnsupportedOperationException.class, () -> withHeader.getHeaders().put("X-Other", "def"));
+    }
+
+    @Test
+    public void testViewUsesContextWithoutChangingInstance() {
+
+        GitLabApi gitLabApi = new GitLabApi("https://gitlab.example.com", "token");
+        gitLabApi.getApiClient().setSudoAsId(1L);
+
+        RequestContext context = RequestContext.create().withSudoAsId(2L);
+        GitLabApi view = gitLabApi.forContext(context);
+
+        assertSame(context, view.getContext());
+        assertEquals(Long.valueOf(2), view.getSudoAsId());
+        assertEquals(Long.valueOf(1), gitLabApi.getSudoAsId());
+        assertNull(gitLabApi.getContext());
+        assertEquals(Long.valueOf(1), gitLabApi.forContext(RequestContext.create()).getSudoAsId());
+    }
+
+    @Test
+    public void testViewKeepsRequestPoliciesSetWhenCreated() {
+
+        GitLabApi gitLabApi = new GitLabApi("https://gitlab.example.com", "token");
+        RetryPolicy retryPolicy = new RetryPolicy();
+        gitLabApi.setRetryPolicy(retryPolicy);
+        GitLabApi view = gitLabApi.forContext(RequestContext.create());
+
+        gitLabApi.setRetryPolicy(null);
+        gitLabApi.setCircuitBreaker(new CircuitBreaker());
+        assertSame(retryPolicy, view.getRetryPolicy());
+        assertNull(view.getCircuitBreaker());
+
+        // A view created afterwards gets the request policies as they are now
+        GitLabApi newView = gitLabApi.forContext(RequestContext.create());
+        assertNull(newView.getRetryPolicy());
+        assertSame(gitLabApi.getCircuitBreaker(), newView.getCircuitBreaker());
+
+        view.setRetryPolicy(new RetryPolicy());
+        assertNull(gitLabApi.getRetryPolicy());
+    }
+
+    @Test
+    public void testRequestsAreNotStartedAfterDeadline() {
+
+        GitLabApi gitLabApi = new GitLabApi("https://gitlab.example.com", "token");
+        GitLabApi view = gitLabApi.forContext(RequestContext.create().withDeadlineIn(-1));
+
+        GitLabApiException glae =
+                assertThrows(GitLabApiException.class, () -> view.getProjectApi().getProject(1L));
+        assertEquals("The deadline of the request has passed", glae.getMessage());
+        assertTrue(glae instanceof GitLabApiTimeoutException);
+    }
+
+    @Test
+    public void testPagerAllFailsOnceDeadlineHasPassed() throws Exception {
+        assertPagerFailsOnceDeadlineHasPassed(Pager::all);
+    }
+
+    @Test
+    public void testPagerStreamFailsOnceDeadlineHasPassed() throws Exception {
+        assertPagerFailsOnceDeadlineHasPassed(Pager::stream);
+    }
+
+    @Test
+    public void testPagerConcurrentAllFailsOnceDeadlineHasPassed() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertPagerFailsOnceDeadlineHasPassed(pager -> pager.all(executor, 2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPagerConcurrentStreamFailsOnceDeadlineHasPassed() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertPagerFailsOnceDeadlineHasPassed(pager -> pager.stream(executor, 2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPagerLazyStreamFailsOnceDeadlineHasPassed() throws Exception {
+
+        // The lazy Stream cannot throw a checked exception, the GitLabApiTimeoutException is its cause
+        assertPagerFailsOnceDeadlineHasPassed(pager -> {
+            try {
+                pager.lazyStream().forEach(project -> {});
+            } catch (RuntimeException re) {
+                GitLabApiTimeoutException timeout = GitLabApiTimeoutException.findCause(re);
+                if (timeout != null) {
+                    throw timeout;
+                }
+
+                throw re;
+            }
+        });
+    }
+
+    private interface PagerCall {
+        void call(Pager<?> pager) throws GitLabApiException;
+    }
+
+    private static void assertPagerFailsOnceDeadlineHasPassed(PagerCall call) throws Exception {
+
+        try (MockGitLabServer server = new MockGitLabServer();
+                GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token")) {
+
+            server.handle("/api/v4/projects", exchange -> {
+
+                // The pages after the first one are stuck
+                String query = exchange.getRequestURI().getQuery();
+                if (query != null && !query.matches("(.*&)?page=1(&.*)?")) {
+                    sleep(5000);
+                }
+
+                exchange.getResponseHeaders().add("X-Per-Page", "1");
+                exchange.getResponseHeaders().add("X-Total-Pages", "3");
+                exchange.getResponseHeaders().add("X-Total", "3");
+                MockGitLabServer.respond(exchange, 200, "[{\"id\":1}]");
+            });
+
+            Pager<?> pager = gitLabApi.forDeadlineIn(500).getProjectApi().getProjects(1);
+            long startMillis = System.currentTimeMillis();
+            assertThrows(GitLabApiTimeoutException.class, () -> call.call(pager));
+            assertTrue(System.currentTimeMillis() - startMillis < 4000);
+        }
+    }
+
+    @Test
+    public void testRetryIsNotWaitedForPastDeadline() throws Exception {
+
+        try (MockGitLabServer server = new MockGitLabServer();
+                GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token")) {
+
+            server.handle("/api/v4/projects/1", exchange -> {
+                exchange.getResponseHeaders().add("Retry-After", "30");
+                MockGitLabServer.respond(exchange, 429, "{\"message\":\"429 Too Many Requests\"}");
+            });
+
+            gitLabApi.setRetryPolicy(new RetryPolicy().withBackoff(0, 60000));
+            gitLabApi.setRateLimitScheduler(new RateLimitScheduler());
+            GitLabApi view = gitLabApi.forDeadlineIn(1000);
+
+            // Neither the retry nor the rate limit wait for the Retry-After, it ends after the deadline
+            long startMillis = System.currentTimeMillis();
+            assertThrows(GitLabApiTimeoutException.class, () -> view.getProjectApi().getProject(1L));
+            assertThrows(GitLabApiTimeoutException.class, () -> view.getProjectApi().getProject(1L));
+            assertTrue(System.currentTimeMillis() - startMillis < 1000);
+        }
+    }
+
+    @Test
+    public void testEntityReadIsCancelledAtDeadline() throws Exception {
+
+        CountDownLatch closed = new CountDownLatch(1);
+        InputStream stuck = new InputStream() {
+
+            @Override
+            public int read() throws IOException {
+                try {
+                    closed.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Stream closed");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+
+        long deadline = System.currentTimeMillis() + 200;
+        InputStream in = new DeadlineFilter.DeadlineInputStream(stuck, deadline);
+        IOException ioe = assertThrows(IOException.class, in::read);
+        assertTrue(ioe.getCause() instanceof GitLabApiTimeoutException);
+        assertEquals(deadline, ((GitLabApiTimeoutException) ioe.getCause()).getDeadline());
+        assertTrue(closed.await(1, TimeUnit.SECONDS));
+
+        // Reads after the deadline fail immediately
+        assertThrows(IOException.class, in::read);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+public class TestRetryPolicy implements Constants {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    public void testRetriesTransientErrors() {
+
+        RetryPolicy policy = new RetryPolicy().withBackoff(0, 0);
+        Response response = policy.execute(HttpMethod.GET, responses(503, 502, 200));
+        assertEquals(200, response.getStatus());
+        assertEquals(3, attempts.get());
+        assertEquals(2, policy.getRetryCount());
+        assertEquals(1, policy.getRecoveredCount());
+    }
+
+    @Test
+    public void testReturnsLastResponseWhenAttemptsAreExhausted() {
+
+        RetryPolicy policy = new RetryPolicy().withMaxAttempts(2).withBackoff(0, 0);
+        Response response = policy.execute(HttpMethod.DELETE, responses(502, 503, 200));
+        assertEquals(503, response.getStatus());
+        assertEquals(2, attempts.get());
+        assertEquals(1, policy.getExhaustedCount());
+    }
+
+    @Test
+    public void testOnlyRetriesPostWhenEnabled() {
+
+        RetryPolicy policy = new RetryPolicy().withBackoff(0, 0);
+        assertEquals(503, policy.execute(HttpMethod.POST, responses(503, 200)).getStatus());
+        assertEquals(1, attempts.get());
+
+        attempts.set(0);
+        policy.withRetryPost(true);
+        assertEquals(200, policy.execute(HttpMethod.POST, responses(503, 200)).getStatus());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testRetriesConnectionResets() {
+
+        RetryPolicy policy = new RetryPolicy().withBackoff(0, 0);
+        Supplier<Response> request = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ProcessingException(new SocketException("Connection reset"));
+            }
+            return (response(200, null));
+        };
+
+        assertEquals(200, policy.execute(HttpMethod.GET, request).getStatus());
+
+        attempts.set(0);
+        Supplier<Response> failing = () -> {
+            attempts.incrementAndGet();
+            throw new ProcessingException(new SocketException("Connection reset"));
+        };
+        assertThrows(ProcessingException.class, () -> policy.execute(HttpMethod.GET, failing));
+        assertEquals(RetryPolicy.DEFAULT_MAX_ATTEMPTS, attempts.get());
+    }
+
+    @Test
+    public void testDoesNotWaitLongerThanMaxBackoff() {
+
+        RetryPolicy policy = new RetryPolicy().withBackoff(0, 1000);
+        Iterator<Response> responses = Arrays.asList(response(429, "120"), response(200, null)).iterator();
+        Response response = policy.execute(HttpMethod.GET, () -> {
+            attempts.incrementAndGet();
+            return (responses.next());
+        });
+
+        assertEquals(429, response.getStatus());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testDoesNotWaitPastDeadline() {
+
+        RetryPolicy policy = new RetryPolicy().withBackoff(0, 60000);
+        Iterator<Response> responses = Arrays.asList(response(429, "30"), response(200, null)).iterator();
+        long deadline = System.currentTimeMillis() + 1000;
+
+        ProcessingException pe = assertThrows(ProcessingException.class, () -> policy.execute(
+                HttpMethod.GET, deadline, () -> {
+                    attempts.incrementAndGet();
+                    return (responses.next());
+                }));
+
+        assertTrue(pe.getCause() instanceof GitLabApiTimeoutException);
+        assertEquals(deadline, ((GitLabApiTimeoutException) pe.getCause()).getDeadline());
+        assertTrue(System.currentTimeMillis() < deadline);
+        assertEquals(1, attempts.get());
+        assertEquals(0, policy.getRetryCount());
+    }
+
+    @Test
+    public void testBackoffIsBounded() {
+
+        RetryPolicy policy = new RetryPolicy().withBackoff(100, 1000);
+        for (int retry = 1; retry < 40; retry++) {
+            long backoff = policy.getBackoffMillis(retry);
+            assertTrue(backoff >= 0 && backoff <= Math.min(1000, 100L << Math.min(retry - 1, 30)));
+        }
+    }
+
+    private Supplier<Response> responses(Integer... statuses) {
+
+        Iterator<Integer> iterator = Arrays.asList(statuses).iterator();
+        return (() -> {
+            attempts.incrementAndGet();
+            return (response(iterator.next(), null));
+        });
+    }
+
+    private static Response response(int status, String retryAfter) {
+
+        return (new MockResponse() {
+
+            @Override
+            public int getStatus() {
+                return (status);
+            }
+
+            @Override
+            public String getHeaderString(String name) {
+                return (RETRY_AFTER_HEADER.equals(name) ? retryAfter : null);
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestSharedConnectionPool {
+
+    private MockGitLabServer server;
+    private String hostUrl;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final List<String> tokens = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setup() throws Exception {
+
+        server = new MockGitLabServer().handle("/api/v4/version", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            tokens.add(exchange.getRequestHeaders().getFirst("PRIVATE-TOKEN"));
+            MockGitLabServer.respond(exchange, 200, "{\"version\":\"16.0.0\",\"revision\":\"abc\"}");
+        });
+        hostUrl = server.getUrl();
+    }
+
+    @AfterEach
+    public void teardown() {
+        server.close();
+    }
+
+    @Test
+    public void testClientConfigProperties() {
+
+        try (SharedConnectionPool pool = new SharedConnectionPool()) {
+            Map<String, Object> properties = pool.getClientConfigProperties();
+            assertTrue(properties.containsKey(ApacheClientProperties.CONNECTION_MANAGER));
+            assertEquals(Boolean.TRUE, properties.get(ApacheClientProperties.CONNECTION_MANAGER_SHARED));
+        }
+    }
+
+    @Test
+    public void testInvalidSettings() {
+
+        assertThrows(IllegalArgumentException.class, () -> new SharedConnectionPool(0, 10, 1000));
+        try (SharedConnectionPool pool = new SharedConnectionPool()) {
+            assertThrows(IllegalArgumentException.class, () -> pool.withMaxPerRoute("not a url", 10));
+            assertThrows(IllegalArgumentException.class, () -> pool.withMaxPerRoute(hostUrl, 0));
+        }
+    }
+
+    @Test
+    public void testCertificateErrorsCannotBeIgnored() {
+
+        try (SharedConnectionPool pool = new SharedConnectionPool();
+                GitLabApi gitLabApi = new GitLabApi(hostUrl, "token", pool.getClientConfigProperties())) {
+            assertThrows(IllegalStateException.class, () -> gitLabApi.setIgnoreCertificateErrors(true));
+            assertFalse(gitLabApi.getIgnoreCertificateErrors());
+            gitLabApi.setIgnoreCertificateErrors(false);
+        }
+    }
+
+    @Test
+    public void testConnectionIsSharedByInstancesWithDifferentTokens() throws GitLabApiException {
+
+        try (SharedConnectionPool pool = new SharedConnectionPool().withMaxPerRoute(hostUrl, 4)) {
+
+            GitLabApi first = new GitLabApi(hostUrl, "token-1", pool.getClientConfigProperties());
+            GitLabApi second = new GitLabApi(hostUrl, "token-2", pool.getClientConfigProperties());
+            GitLabApi duplicate = first.duplicate();
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("16.0.0", first.getVersion().getVersion());
+                assertEquals("16.0.0", second.getVersion().getVersion());
+                assertEquals("16.0.0", duplicate.getVersion().getVersion());
+            }
+
+            // The requests were made one at a time, so a single pooled connection served all three instances
+            assertEquals(1, clientPorts.size());
+            assertEquals(1, pool.getAvailableConnections());
+            assertEquals(0, pool.getLeasedConnections());
+            assertEquals(3, tokens.stream().filter("token-2"::equals).count());
+            assertEquals(6, tokens.stream().filter("token-1"::equals).count());
+
+            // Closing a GitLabApi instance leaves the pool open for the other instances
+            first.close();
+            assertEquals("16.0.0", second.getVersion().getVersion());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class TestTokenPool {
+
+    private static final long NOW = 1700000000000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    @Test
+    public void testUsesTokensInTurnWhenBudgetIsUnknown() throws Exception {
+
+        TokenPool pool = new TokenPool(Arrays.asList("a", "b", "c"), clock::get);
+        URL url = new URL("https://gitlab.example.com/api/v4/projects/1");
+        assertEquals("a", pool.select(url));
+        assertEquals("b", pool.select(url));
+        assertEquals("c", pool.select(url));
+        assertEquals("a", pool.select(url));
+    }
+
+    @Test
+    public void testSelectsTokenWithMostRemainingRequests() throws Exception {
+
+        TokenPool pool = new TokenPool(Arrays.asList("a", "b"), clock::get);
+        pool.update("a", MockResponse.withRateLimit(200, 10, NOW + 60000, null));
+        pool.update("b", MockResponse.withRateLimit(200, 12, NOW + 60000, null));
+
+        URL url = new URL("https://gitlab.example.com/api/v4/projects/1");
+        assertEquals("b", pool.select(url));
+        assertEquals("b", pool.select(url));
+        assertEquals("a", pool.select(url));
+        assertEquals(10, pool.getRemaining("b"));
+
+        // The budget is unknown once its reset time has passed
+        clock.addAndGet(60000);
+        assertEquals(-1, pool.getRemaining("a"));
+    }
+
+    @Test
+    public void testSidelinesUnauthorizedAndRateLimitedTokens() throws Exception {
+
+        TokenPool pool = new TokenPool(Arrays.asList("a", "b"), clock::get).withUnauthorizedSideline(1000);
+        URL url = new URL("https://gitlab.example.com/api/v4/projects/1");
+
+        assertTrue(pool.update("a", MockResponse.withRateLimit(401, -1, 0, null)));
+        assertTrue(pool.isSidelined("a"));
+        assertEquals("b", pool.select(url));
+        assertEquals("b", pool.select(url));
+
+        assertTrue(pool.update("b", MockResponse.withRateLimit(429, -1, 0, "5")));
+        assertFalse(pool.hasAvailableToken());
+
+        // With all the tokens sidelined, the one whose sideline ends first is used
+        assertEquals("a", pool.select(url));
+
+        clock.addAndGet(1000);
+        assertFalse(pool.isSidelined("a"));
+        assertTrue(pool.isSidelined("b"));
+        assertFalse(pool.update("a", MockResponse.withRateLimit(200, -1, 0, null)));
+    }
+
+    @Test
+    public void testStickyResources() throws Exception {
+
+        TokenPool pool = new TokenPool(Arrays.asList("a", "b"), clock::get).withStickyResources(true);
+        URL project1 = new URL("https://gitlab.example.com/api/v4/projects/1/issues");
+        URL project2 = new URL("https://gitlab.example.com/api/v4/projects/2");
+
+        assertEquals("a", pool.select(project1));
+        assertEquals("b", pool.select(project2));
+        assertEquals("a", pool.select(new URL("https://gitlab.example.com/api/v4/projects/1/merge_requests")));
+        assertEquals("b", pool.select(project2));
+
+        // A sidelined token loses its resources
+        pool.update("a", MockResponse.withRateLimit(401, -1, 0, null));
+        assertEquals("b", pool.select(project1));
+    }
+
+    @Test
+    public void testGetResource() throws Exception {
+        String hostUrl = "https://gitlab.example.com";
+        assertEquals("projects/1", TokenPool.getResource(new URL(hostUrl + "/api/v4/projects/1/issues")));
+        assertEquals("groups/my-group", TokenPool.getResource(new URL(hostUrl + "/api/v4/groups/my-group")));
+        assertNull(TokenPool.getResource(new URL(hostUrl + "/api/v4/version")));
+        assertNull(TokenPool.getResource(new URL(hostUrl + "/oauth/token")));
+    }
+
+    @Test
+    public void testInvalidTokens() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenPool());
+        assertThrows(IllegalArgumentException.class, () -> new TokenPool("a", " "));
+        assertEquals(Arrays.asList("a", "b"), new TokenPool("a", "b", "a").getTokens());
+    }
+
+    @Test
+    public void testRequestsAreMadeAgainWithAnotherToken() throws Exception {
+
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        try (MockGitLabServer server = new MockGitLabServer();
+                GitLabApi gitLabApi = new GitLabApi(server.getUrl(), "token")) {
+
+            server.handle("/api/v4/version", exchange -> {
+                String token = exchange.getRequestHeaders().getFirst("PRIVATE-TOKEN");
+                tokens.add(token);
+                if ("revoked".equals(token)) {
+                    MockGitLabServer.respond(exchange, 401, "{\"message\":\"401 Unauthorized\"}");
+                } else {
+                    MockGitLabServer.respond(exchange, 200, "{\"version\":\"16.0.0\"}");
+                }
+            });
+
+            gitLabApi.setTokenPool(new TokenPool("revoked", "scanner-1", "scanner-2"));
+            for (int i = 0; i < 4; i++) {
+                assertEquals("16.0.0", gitLabApi.getVersion().getVersion());
+            }
+
+            assertEquals(Arrays.asList("revoked", "scanner-1", "scanner-2", "scanner-1", "scanner-2"), tokens);
+            assertTrue(gitLabApi.getTokenPool().isSidelined("revoked"));
+        }
+    }
+}
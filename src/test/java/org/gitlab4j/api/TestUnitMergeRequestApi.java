@@ -63,4 +63,39 @@ public class TestUnitMergeRequestApi {
                 .updateMergeRequest(1L, 2L, null, null, null, null, null, null, null, null, null, null, true);
         assertThat(attributeCaptor.getValue(), hasEntry("allow_collaboration", Collections.singletonList("true")));
     }
+
+    @Test
+    public void countRequestsASingleItemAndReadsTheTotalHeader() throws Exception {
+        when(mockedGitLabApiClient.get(attributeCaptor.capture(), Mockito.<Object>any()))
+                .thenReturn(countResponse("42", "2"));
+        assertEquals(
+                42,
+                new MergeRequestApi(mockGitLabApi).getMergeRequestsCount(1L, Constants.MergeRequestState.OPENED));
+        assertThat(attributeCaptor.getValue(), hasEntry("per_page", Collections.singletonList("1")));
+        assertThat(attributeCaptor.getValue(), hasEntry("state", Collections.singletonList("opened")));
+    }
+
+    @Test
+    public void countIsUnknownWhenTheTotalHeaderIsMissing() throws Exception {
+        when(mockedGitLabApiClient.get(attributeCaptor.capture(), Mockito.<Object>any()))
+                .thenReturn(countResponse(null, "2"));
+        assertEquals(
+                -1, new MergeRequestApi(mockGitLabApi).getMergeRequestsCount(1L, Constants.MergeRequestState.OPENED));
+    }
+
+    private static MockResponse countResponse(String total, String nextPage) {
+        return new MockResponse() {
+            @Override
+            public String getHeaderString(String name) {
+                switch (name) {
+                    case Constants.TOTAL_HEADER:
+                        return (total);
+                    case Constants.NEXT_PAGE_HEADER:
+                        return (nextPage);
+                    default:
+                        return (null);
+                }
+            }
+        };
+    }
 }
@@ -0,0 +1,444 @@
+package org.gitlab4j.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.gitlab4j.api.reactive.Subscriber;
+import org.gitlab4j.api.reactive.Subscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+public class TestUnitPager implements Constants {
+
+    private static final int TOTAL_ITEMS = 45;
+    private static final int PER_PAGE = 10;
+
+    @Mock
+    private GitLabApi gitLabApi;
+
+    @Mock
+    private GitLabApiClient gitLabApiClient;
+
+    private AbstractApi api;
+    private AtomicInteger inFlight = new AtomicInteger();
+    private AtomicInteger maxInFlight = new AtomicInteger();
+    private AtomicInteger requests = new AtomicInteger();
+    private AtomicInteger lastPerPage = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() throws Exception {
+        openMocks(this);
+        api = new AbstractApi(gitLabApi) {};
+        when(gitLabApi.getApiClient()).thenReturn(gitLabApiClient);
+        when(gitLabApiClient.validateSecretToken(any())).thenReturn(true);
+        when(gitLabApiClient.get(any(), Mockito.<Object>any())).thenAnswer(invocation -> {
+            MultivaluedMap<String, String> queryParams = invocation.getArgument(0);
+            if (KEYSET_PAGINATION.equals(queryParams.getFirst(PAGINATION_PARAM))) {
+                return (keysetResponse(0));
+            }
+
+            int page = Integer.parseInt(queryParams.getFirst(PAGE_PARAM));
+            int perPage = Integer.parseInt(queryParams.getFirst(PER_PAGE_PARAM));
+            lastPerPage.set(perPage);
+            return (pageResponse(page, perPage));
+        });
+        when(gitLabApiClient.get(any(), any(URL.class))).thenAnswer(invocation -> {
+            URL url = invocation.getArgument(1);
+            String idAfter = url.getQuery().replaceAll(".*id_after=([0-9]+).*", "$1");
+            return (keysetResponse(Integer.parseInt(idAfter) + 1));
+        });
+    }
+
+    @Test
+    public void testAllWithExecutorReturnsItemsInPageOrder() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Integer> items = pager.all(executor, 2);
+            assertEquals(expectedItems(TOTAL_ITEMS), items);
+            assertEquals(5, requests.get());
+            assertTrue(maxInFlight.get() <= 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStreamWithExecutor() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> items = pager.stream(executor, 4).collect(Collectors.toList());
+            assertEquals(expectedItems(TOTAL_ITEMS), items);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStreamIsOnlyIssuedOnce() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        assertEquals(expectedItems(TOTAL_ITEMS), pager.stream().collect(Collectors.toList()));
+        assertThrows(IllegalStateException.class, () -> pager.stream());
+        assertThrows(IllegalStateException.class, () -> pager.lazyStream());
+    }
+
+    @Test
+    public void testParallelLazyStreamSplitsByPageRange() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        Spliterator<Integer> spliterator = new PagerSpliterator<>(pager);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertNotNull(spliterator.trySplit());
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+        pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        List<Integer> items = pager.lazyStream().parallel().collect(Collectors.toList());
+        assertEquals(expectedItems(TOTAL_ITEMS), items);
+    }
+
+    @Test
+    public void testLazyStreamWithReadAhead() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        try (Stream<Integer> stream = pager.lazyStream(2)) {
+            assertEquals(expectedItems(TOTAL_ITEMS), stream.collect(Collectors.toList()));
+        }
+
+        assertEquals(5, requests.get());
+    }
+
+    @Test
+    public void testLazyStreamWithReadAheadStopsWhenClosed() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            try (Stream<Integer> stream = pager.lazyStream(1, executor)) {
+                assertEquals(expectedItems(3), stream.limit(3).collect(Collectors.toList()));
+            }
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(requests.get() < 5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLazyElementStream() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        try (Stream<Integer> stream = pager.lazyElementStream()) {
+            assertEquals(expectedItems(TOTAL_ITEMS), stream.collect(Collectors.toList()));
+        }
+
+        // The current page was not held as a List, so it is fetched again when asked for
+        assertEquals(expectedItems(TOTAL_ITEMS).subList(40, 45), pager.current());
+    }
+
+    @Test
+    public void testLazyElementStreamPagesAreTuned() throws Exception {
+
+        PerPageTuner tuner = mockPerPageTuner();
+        Pager<Integer> pager = new Pager<>(api, Integer.class, 0, null, "items");
+        try (Stream<Integer> stream = pager.lazyElementStream()) {
+            assertEquals(expectedItems(TOTAL_ITEMS), stream.collect(Collectors.toList()));
+        }
+
+        // The first page is decoded by the constructor, the other pages one item at a time
+        verify(tuner, times(4)).record(eq("items"), eq(PER_PAGE), eq(PER_PAGE), anyLong(), anyLong());
+        verify(tuner).record(eq("items"), eq(PER_PAGE), eq(5), anyLong(), anyLong());
+    }
+
+    @Test
+    public void testPagesFetchedWithExecutorAreTuned() throws Exception {
+
+        PerPageTuner tuner = mockPerPageTuner();
+        Pager<Integer> pager = new Pager<>(api, Integer.class, 0, null, "items");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertEquals(expectedItems(TOTAL_ITEMS), pager.all(executor, 2));
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(tuner, times(5)).record(eq("items"), eq(PER_PAGE), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void testMaxItems() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        assertEquals(expectedItems(25), pager.all(25));
+
+        // page 1 (constructor), page 2, then items 20 to 24 as page 5 of 5 items per page
+        assertEquals(3, requests.get());
+        assertEquals(5, lastPerPage.get());
+
+        // The first page has already been consumed, so it is fetched again with only 3 items per page
+        requests.set(0);
+        assertEquals(expectedItems(3), pager.stream(3).collect(Collectors.toList()));
+        assertEquals(1, requests.get());
+        assertEquals(3, lastPerPage.get());
+    }
+
+    @Test
+    public void testPublisherOnlyFetchesPagesOnDemand() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        List<Integer> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Subscription[] subscription = new Subscription[1];
+
+        pager.publisher(Runnable::run).subscribe(new Subscriber<Integer>() {
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+
+        // The first page was fetched by the constructor, 15 items only need one more page
+        subscription[0].request(15);
+        assertEquals(expectedItems(15), received);
+        assertEquals(2, requests.get());
+
+        subscription[0].request(Long.MAX_VALUE);
+        assertEquals(expectedItems(TOTAL_ITEMS), received);
+        assertEquals(5, requests.get());
+        assertTrue(completed.get());
+    }
+
+    @Test
+    public void testPublisherStopsFetchingWhenCancelled() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        List<Integer> received = new ArrayList<>();
+
+        pager.publisher(Runnable::run).subscribe(new Subscriber<Integer>() {
+
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+                if (received.size() == 12) {
+                    subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        assertEquals(expectedItems(12), received);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testKeysetPagination() throws Exception {
+
+        MultivaluedMap<String, String> queryParams = new GitLabApiForm()
+                .withParam(PAGINATION_PARAM, KEYSET_PAGINATION)
+                .asMap();
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, queryParams, "items");
+        assertEquals(-1, pager.getTotalPages());
+        assertEquals(-1, pager.getTotalItems());
+        assertThrows(GitLabApiException.class, () -> pager.last());
+
+        assertEquals(expectedItems(TOTAL_ITEMS), pager.all());
+        assertEquals(5, pager.getCurrentPage());
+        assertFalse(pager.hasNext());
+        assertThrows(UnsupportedOperationException.class, () -> pager.page(3));
+
+        // Iterating again must start over from the first page
+        assertEquals(expectedItems(TOTAL_ITEMS), pager.all());
+    }
+
+    @Test
+    public void testResumeFromCursor() throws Exception {
+
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, null, "items");
+        pager.next();
+        pager.next();
+
+        Pager<Integer> resumed = new Pager<>(api, Integer.class, serialize(pager.getCursor()));
+        assertEquals(expectedItems(TOTAL_ITEMS).subList(20, 45), resumed.all());
+
+        resumed = new Pager<>(api, Integer.class, serialize(pager.getCursor(4)));
+        assertEquals(expectedItems(TOTAL_ITEMS).subList(14, 45), resumed.all());
+        assertEquals(-1, resumed.getTotalItems());
+    }
+
+    @Test
+    public void testResumeKeysetPaginationFromCursor() throws Exception {
+
+        MultivaluedMap<String, String> queryParams = new GitLabApiForm()
+                .withParam(PAGINATION_PARAM, KEYSET_PAGINATION)
+                .asMap();
+        Pager<Integer> pager = new Pager<>(api, Integer.class, PER_PAGE, queryParams, "items");
+        pager.next();
+        pager.next();
+
+        PagerCursor cursor = serialize(pager.getCursor(2));
+        assertEquals(2, cursor.getPage());
+        assertEquals(KEYSET_PAGINATION, cursor.getQueryParams().get(PAGINATION_PARAM).get(0));
+
+        Pager<Integer> resumed = new Pager<>(api, Integer.class, cursor);
+        assertEquals(expectedItems(TOTAL_ITEMS).subList(12, 45), resumed.all());
+
+        // A cursor taken after the last page resumes with nothing left to fetch
+        resumed = new Pager<>(api, Integer.class, resumed.getCursor());
+        assertFalse(resumed.hasNext());
+    }
+
+    private static PagerCursor serialize(PagerCursor cursor) throws Exception {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cursor);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return ((PagerCursor) in.readObject());
+        }
+    }
+
+    private PerPageTuner mockPerPageTuner() {
+        PerPageTuner tuner = Mockito.mock(PerPageTuner.class);
+        when(tuner.getPerPage(any(), anyInt())).thenReturn(PER_PAGE);
+        when(gitLabApi.getPerPageTuner()).thenReturn(tuner);
+        return (tuner);
+    }
+
+    private static List<Integer> expectedItems(int count) {
+        return (IntStream.range(0, count).boxed().collect(Collectors.toList()));
+    }
+
+    private Response keysetResponse(int first) {
+
+        int last = Math.min(first + PER_PAGE, TOTAL_ITEMS);
+        String json = IntStream.range(first, last)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(",", "[", "]"));
+        String link = (last < TOTAL_ITEMS
+                ? "<https://gitlab.example.com/api/v4/items?pagination=keyset&per_page=" + PER_PAGE + "&id_after="
+                        + (last - 1) + ">; rel=\"next\""
+                : null);
+
+        return (new MockResponse() {
+
+            @Override
+            public Object getEntity() {
+                return (new ByteArrayInputStream(json.getBytes()));
+            }
+
+            @Override
+            public String getHeaderString(String name) {
+                return (LINK_HEADER.equals(name) ? link : null);
+            }
+        });
+    }
+
+    private Response pageResponse(int page, int perPage) throws InterruptedException {
+
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        int first = (page - 1) * perPage;
+        int last = Math.min(first + perPage, TOTAL_ITEMS);
+        String json = IntStream.range(first, last)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(",", "[", "]"));
+        int totalPages = (TOTAL_ITEMS + perPage - 1) / perPage;
+
+        return (new MockResponse() {
+
+            @Override
+            public Object getEntity() {
+                return (new ByteArrayInputStream(json.getBytes()));
+            }
+
+            @Override
+            public String getHeaderString(String name) {
+                switch (name) {
+                    case Constants.PER_PAGE:
+                        return (Integer.toString(perPage));
+                    case TOTAL_PAGES_HEADER:
+                        return (Integer.toString(totalPages));
+                    case TOTAL_HEADER:
+                        return (Integer.toString(TOTAL_ITEMS));
+                    case NEXT_PAGE_HEADER:
+                        return (page < totalPages ? Integer.toString(page + 1) : null);
+                    default:
+                        return (null);
+                }
+            }
+        });
+    }
+}